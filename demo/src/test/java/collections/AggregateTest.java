@@ -0,0 +1,60 @@
+package collections;
+
+import collections.RandomChanges.Item;
+import io.github.palexdev.materialfx.collections.Aggregate;
+import io.github.palexdev.materialfx.collections.TransformableList;
+import io.github.palexdev.materialfx.enums.AggregateType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(ApplicationExtension.class)
+public class AggregateTest {
+
+	@Test
+	public void aggregatesMatchRecompute() {
+		for (AggregateType type : AggregateType.values()) {
+			RandomChanges changes = new RandomChanges(type.ordinal(), 40, 50, true);
+			TransformableList<Item> list = new TransformableList<>(changes.getSource());
+			list.setPredicate(item -> item.getValue() % 3 != 0);
+			list.setComparator(Comparator.comparingInt(Item::getValue));
+
+			Aggregate<Item> aggregate = new Aggregate<>(Item::getValue, type);
+			list.addViewListener(aggregate);
+			assertEquals(compute(list, type), aggregate.getValue(), 1e-9, type.name());
+
+			for (int i = 0; i < 1000; i++) {
+				changes.next();
+				assertEquals(compute(list, type), aggregate.getValue(), 1e-9, type + " after change " + i);
+			}
+
+			list.setPredicate(item -> item.getValue() % 2 == 0);
+			assertEquals(compute(list, type), aggregate.getValue(), 1e-9, type + " after predicate change");
+		}
+	}
+
+	/**
+	 * Computes the aggregate from scratch over the items currently in the view.
+	 */
+	static double compute(List<Item> items, AggregateType type) {
+		switch (type) {
+			case SUM:
+				return items.stream().mapToDouble(Item::getValue).sum();
+			case AVERAGE:
+				return items.stream().mapToDouble(Item::getValue).average().orElse(Double.NaN);
+			case MIN:
+				return items.stream().mapToDouble(Item::getValue).min().orElse(Double.NaN);
+			case MAX:
+				return items.stream().mapToDouble(Item::getValue).max().orElse(Double.NaN);
+			case COUNT:
+				return items.size();
+			default:
+				return Double.NaN;
+		}
+	}
+}
@@ -0,0 +1,90 @@
+package collections;
+
+import collections.RandomChanges.Item;
+import io.github.palexdev.materialfx.collections.ColumnIndex;
+import io.github.palexdev.materialfx.collections.EqualityIndex;
+import io.github.palexdev.materialfx.collections.IndexedPredicate;
+import io.github.palexdev.materialfx.collections.TransformableList;
+import io.github.palexdev.materialfx.enums.ComparisonOperator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(ApplicationExtension.class)
+public class EqualityIndexTest {
+	private static final int VALUES = 6;
+
+	@Test
+	public void lookupsMatchRecompute() {
+		RandomChanges changes = new RandomChanges(32, 40, VALUES, true);
+		Function<Item, Integer> extractor = Item::getValue;
+		EqualityIndex<Item, Integer> index = new EqualityIndex<>(extractor);
+		TransformableList<Item> list = new TransformableList<>(changes.getSource());
+		list.addIndex(index);
+
+		for (int i = 0; i < 1000; i++) {
+			changes.next();
+			assertEquals(changes.getSource().size(), index.size(), "size after change " + i);
+			for (int value = 0; value < VALUES; value++) {
+				BitSet expected = expected(changes.getSource(), value);
+				assertEquals(expected, index.lookup(ComparisonOperator.EQUAL, value), "EQUAL " + value + " after change " + i);
+				expected.flip(0, changes.getSource().size());
+				assertEquals(expected, index.lookup(ComparisonOperator.NOT_EQUAL, value), "NOT_EQUAL " + value + " after change " + i);
+			}
+		}
+	}
+
+	@Test
+	public void indexedPredicateMatchesRecompute() {
+		RandomChanges changes = new RandomChanges(320, 40, VALUES, false);
+		Function<Item, Integer> extractor = Item::getValue;
+		TransformableList<Item> list = new TransformableList<>(changes.getSource());
+		list.addIndex(new EqualityIndex<>(extractor));
+		list.setPredicate(new ValuePredicate(extractor, 2));
+
+		for (int i = 0; i < 1000; i++) {
+			changes.next();
+			List<Item> expected = changes.getSource().stream()
+					.filter(item -> item.getValue() == 2)
+					.collect(Collectors.toList());
+			assertEquals(expected, list, "after change " + i);
+		}
+	}
+
+	private static BitSet expected(List<Item> items, int value) {
+		BitSet bits = new BitSet();
+		for (int i = 0; i < items.size(); i++) {
+			if (items.get(i).getValue() == value) bits.set(i);
+		}
+		return bits;
+	}
+
+	private static class ValuePredicate implements IndexedPredicate<Item> {
+		private final Function<Item, Integer> extractor;
+		private final int value;
+
+		ValuePredicate(Function<Item, Integer> extractor, int value) {
+			this.extractor = extractor;
+			this.value = value;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public BitSet matches(TransformableList<Item> list) {
+			ColumnIndex<Item, Integer> index = (ColumnIndex<Item, Integer>) list.getIndex(extractor);
+			return index != null ? index.lookup(ComparisonOperator.EQUAL, value) : null;
+		}
+
+		@Override
+		public boolean test(Item item) {
+			return extractor.apply(item) == value;
+		}
+	}
+}
@@ -0,0 +1,98 @@
+package collections;
+
+import collections.RandomChanges.Item;
+import io.github.palexdev.materialfx.collections.DistinctList;
+import io.github.palexdev.materialfx.collections.GroupedList;
+import io.github.palexdev.materialfx.collections.GroupedList.Group;
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+
+import java.util.*;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(ApplicationExtension.class)
+public class GroupedListTest {
+	private static final Function<Item, Integer> KEY = item -> item.getValue() % 5;
+
+	@Test
+	public void groupsMatchRecompute() {
+		RandomChanges changes = new RandomChanges(390, 30, 20, true);
+		GroupedList<Item, Integer> grouped = new GroupedList<>(changes.getSource(), KEY);
+		List<Group<Integer, Item>> copy = new ArrayList<>(grouped);
+		grouped.addListener((ListChangeListener<Group<Integer, Item>>) c -> RandomChanges.replay(c, copy));
+
+		for (int i = 0; i < 1000; i++) {
+			changes.next();
+			String message = "after change " + i;
+			Map<Integer, List<Item>> expected = expected(changes.getSource());
+			assertEquals(expected.size(), grouped.size(), message);
+			Set<Integer> keys = new HashSet<>();
+			for (int g = 0; g < grouped.size(); g++) {
+				Group<Integer, Item> group = grouped.get(g);
+				assertTrue(keys.add(group.getKey()), "duplicate group " + group + " " + message);
+				List<Item> items = expected.get(group.getKey());
+				assertNotNull(items, "stale group " + group + " " + message);
+				assertEquals(items.size(), group.getCount(), message);
+				assertEquals(items.size(), grouped.count(group.getKey()), message);
+				assertEquals(identities(items), identities(group.getItems()), message);
+				assertSame(group, grouped.getGroup(group.getKey()), message);
+			}
+			for (int s = 0; s < changes.getSource().size(); s++) {
+				Group<Integer, Item> group = grouped.get(grouped.getViewIndex(s));
+				assertEquals(KEY.apply(changes.getSource().get(s)), group.getKey(), message);
+			}
+			assertEquals(copy, grouped, "replayed changes " + message);
+		}
+	}
+
+	@Test
+	public void distinctMatchesRecompute() {
+		RandomChanges changes = new RandomChanges(391, 30, 20, true);
+		DistinctList<Item, Integer> distinct = new DistinctList<>(changes.getSource(), KEY);
+		List<Item> copy = new ArrayList<>(distinct);
+		distinct.addListener((ListChangeListener<Item>) c -> RandomChanges.replay(c, copy));
+
+		for (int i = 0; i < 1000; i++) {
+			changes.next();
+			String message = "after change " + i;
+			Map<Integer, List<Item>> expected = expected(changes.getSource());
+			assertEquals(expected.size(), distinct.size(), message);
+			Set<Integer> keys = new HashSet<>();
+			for (int d = 0; d < distinct.size(); d++) {
+				Item item = distinct.get(d);
+				Integer key = KEY.apply(item);
+				assertTrue(keys.add(key), "duplicate key " + key + " " + message);
+				assertTrue(identities(expected.get(key)).containsKey(item), "stale item " + item + " " + message);
+				assertSame(distinct.getGroups().get(d).getFirst(), item, message);
+				assertEquals(expected.get(key).size(), distinct.count(key), message);
+			}
+			assertEquals(copy, distinct, "replayed changes " + message);
+		}
+	}
+
+	/**
+	 * Groups the given items from scratch.
+	 */
+	private static Map<Integer, List<Item>> expected(List<Item> items) {
+		Map<Integer, List<Item>> groups = new HashMap<>();
+		for (Item item : items) {
+			groups.computeIfAbsent(KEY.apply(item), k -> new ArrayList<>()).add(item);
+		}
+		return groups;
+	}
+
+	/**
+	 * @return the number of occurrences of each item, by identity
+	 */
+	private static Map<Item, Integer> identities(List<Item> items) {
+		Map<Item, Integer> counts = new IdentityHashMap<>();
+		for (Item item : items) {
+			counts.merge(item, 1, Integer::sum);
+		}
+		return counts;
+	}
+}
@@ -0,0 +1,35 @@
+package collections;
+
+import collections.RandomChanges.Item;
+import io.github.palexdev.materialfx.collections.MappedList;
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(ApplicationExtension.class)
+public class MappedListTest {
+
+	@Test
+	public void mappedMatchesRecompute() {
+		RandomChanges changes = new RandomChanges(39, 30, 20, true);
+		Function<Item, String> mapper = item -> item.getName() + "=" + item.getValue();
+		MappedList<Item, String> mapped = new MappedList<>(changes.getSource(), mapper);
+		List<String> copy = new ArrayList<>(mapped);
+		mapped.addListener((ListChangeListener<String>) c -> RandomChanges.replay(c, copy));
+
+		for (int i = 0; i < 1000; i++) {
+			changes.next();
+			List<String> expected = changes.getSource().stream().map(mapper).collect(Collectors.toList());
+			assertEquals(expected, mapped, "after change " + i);
+			assertEquals(expected, copy, "replayed changes after change " + i);
+		}
+	}
+}
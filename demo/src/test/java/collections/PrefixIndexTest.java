@@ -0,0 +1,51 @@
+package collections;
+
+import collections.RandomChanges.Item;
+import io.github.palexdev.materialfx.collections.PrefixIndex;
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(ApplicationExtension.class)
+public class PrefixIndexTest {
+	private static final String[] PREFIXES = {"", "a", "A", "b", "c", "\u00c9", "ab", "aB", "ba", "\u00e9a", "abc", "aab", "bBbB"};
+
+	@Test
+	public void searchesMatchRecompute() {
+		RandomChanges changes = new RandomChanges(40, 50, 10, true);
+		List<Item> source = changes.getSource();
+		PrefixIndex<Item> index = new PrefixIndex<>(Item::getName);
+		index.build(source);
+		changes.getSource().addListener((ListChangeListener<Item>) index::sourceChanged);
+
+		for (int i = 0; i < 2000; i++) {
+			changes.next();
+			assertEquals(source.size(), index.size(), "size after change " + i);
+			for (String prefix : PREFIXES) {
+				String message = "'" + prefix + "' after change " + i;
+				assertEquals(first(source, prefix), index.first(prefix), "first " + message);
+				assertEquals(count(source, prefix), index.count(prefix), "count " + message);
+			}
+		}
+	}
+
+	private static int first(List<Item> items, String prefix) {
+		String folded = PrefixIndex.fold(prefix);
+		for (int i = 0; i < items.size(); i++) {
+			if (PrefixIndex.fold(items.get(i).getName()).startsWith(folded)) return i;
+		}
+		return -1;
+	}
+
+	private static int count(List<Item> items, String prefix) {
+		String folded = PrefixIndex.fold(prefix);
+		return (int) items.stream()
+				.filter(item -> PrefixIndex.fold(item.getName()).startsWith(folded))
+				.count();
+	}
+}
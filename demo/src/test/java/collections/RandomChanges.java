@@ -0,0 +1,258 @@
+package collections;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ModifiableObservableListBase;
+import javafx.collections.ObservableList;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Applies random changes to an {@link ObservableList} of {@link Item}s: additions, removals, replacements,
+ * updates (through the items' properties) and permutations.
+ * <p>
+ * Used to test the incrementally maintained collections against a full recompute.
+ * <p>
+ * Updates and permutations are fired by the source itself rather than by an extractor, since JavaFX stops
+ * observing an item which is in the list more than once as soon as one of its occurrences is removed.
+ */
+public class RandomChanges {
+	private static final String ALPHABET = "aAbBc\u00e9\u00c9";
+
+	private final Random random;
+	private final Source source = new Source();
+	private final int maxValue;
+	private final boolean duplicates;
+
+	/**
+	 * @param seed       the seed of the random generator, so that failures can be reproduced
+	 * @param size       the initial number of items
+	 * @param maxValue   the items' values are in the range [0, maxValue)
+	 * @param duplicates whether the same item instance can be added more than once
+	 */
+	public RandomChanges(long seed, int size, int maxValue, boolean duplicates) {
+		this.random = new Random(seed);
+		this.maxValue = maxValue;
+		this.duplicates = duplicates;
+		for (int i = 0; i < size; i++) {
+			source.add(newItem());
+		}
+	}
+
+	public ObservableList<Item> getSource() {
+		return source;
+	}
+
+	public Item newItem() {
+		return new Item(random.nextInt(maxValue), newName());
+	}
+
+	public String newName() {
+		int length = random.nextInt(6);
+		StringBuilder sb = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Applies a single random change to the source, updates are the most likely.
+	 */
+	public void next() {
+		int size = source.size();
+		int op = random.nextInt(duplicates ? 9 : 8);
+		if (size == 0 && op != 1) op = 0;
+		switch (op) {
+			case 0:
+				source.add(random.nextInt(size + 1), newItem());
+				break;
+			case 1: {
+				List<Item> items = new ArrayList<>();
+				for (int i = random.nextInt(4) + 1; i > 0; i--) {
+					items.add(newItem());
+				}
+				source.addAll(random.nextInt(size + 1), items);
+				break;
+			}
+			case 2:
+				source.remove(random.nextInt(size));
+				break;
+			case 3: {
+				int from = random.nextInt(size);
+				source.remove(from, Math.min(size, from + random.nextInt(4) + 1));
+				break;
+			}
+			case 4:
+				source.set(random.nextInt(size), newItem());
+				break;
+			case 5: {
+				Comparator<Item> comparator = Comparator.comparing(Item::getName);
+				source.permute(random.nextBoolean() ? comparator : comparator.reversed());
+				break;
+			}
+			case 6: {
+				String name = newName();
+				source.update(random.nextInt(size), item -> item.name.set(name));
+				break;
+			}
+			case 8:
+				source.add(random.nextInt(size + 1), source.get(random.nextInt(size)));
+				break;
+			default: {
+				int value = random.nextInt(maxValue);
+				source.update(random.nextInt(size), item -> item.value.set(value));
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Applies a single random change which doesn't change the source size: a replacement or an update.
+	 */
+	public void nextUpdate() {
+		int size = source.size();
+		switch (random.nextInt(3)) {
+			case 0:
+				source.set(random.nextInt(size), newItem());
+				break;
+			case 1: {
+				String name = newName();
+				source.update(random.nextInt(size), item -> item.name.set(name));
+				break;
+			}
+			default: {
+				int value = random.nextInt(maxValue);
+				source.update(random.nextInt(size), item -> item.value.set(value));
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Applies the given change to the given copy of the changed list, to check that the fired changes
+	 * are consistent with the list's contents.
+	 */
+	public static <E> void replay(ListChangeListener.Change<? extends E> c, List<E> copy) {
+		while (c.next()) {
+			int from = c.getFrom();
+			if (c.wasPermutated()) {
+				List<E> old = new ArrayList<>(copy.subList(from, c.getTo()));
+				for (int i = from; i < c.getTo(); i++) {
+					copy.set(c.getPermutation(i), old.get(i - from));
+				}
+			} else if (!c.wasUpdated()) {
+				copy.subList(from, from + c.getRemovedSize()).clear();
+				copy.addAll(from, c.getAddedSubList());
+			}
+		}
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * An observable list which can fire update changes and permutations.
+	 */
+	private static class Source extends ModifiableObservableListBase<Item> {
+		private final List<Item> items = new ArrayList<>();
+
+		/**
+		 * Changes the item at the given index and fires an update for every occurrence of such item.
+		 */
+		void update(int index, Consumer<Item> action) {
+			Item item = items.get(index);
+			action.accept(item);
+			beginChange();
+			for (int i = 0; i < items.size(); i++) {
+				if (items.get(i) == item) nextUpdate(i);
+			}
+			endChange();
+		}
+
+		/**
+		 * Sorts the items with a stable sort and fires the corresponding permutation.
+		 */
+		void permute(Comparator<Item> comparator) {
+			List<Integer> order = new ArrayList<>(items.size());
+			for (int i = 0; i < items.size(); i++) {
+				order.add(i);
+			}
+			order.sort((i, j) -> comparator.compare(items.get(i), items.get(j)));
+
+			List<Item> old = new ArrayList<>(items);
+			int[] perm = new int[items.size()];
+			for (int i = 0; i < order.size(); i++) {
+				perm[order.get(i)] = i;
+				items.set(i, old.get(order.get(i)));
+			}
+			beginChange();
+			nextPermutation(0, perm.length, perm);
+			endChange();
+		}
+
+		@Override
+		public Item get(int index) {
+			return items.get(index);
+		}
+
+		@Override
+		public int size() {
+			return items.size();
+		}
+
+		@Override
+		protected void doAdd(int index, Item element) {
+			items.add(index, element);
+		}
+
+		@Override
+		protected Item doSet(int index, Item element) {
+			return items.set(index, element);
+		}
+
+		@Override
+		protected Item doRemove(int index) {
+			return items.remove(index);
+		}
+	}
+
+	public static class Item {
+		private final IntegerProperty value = new SimpleIntegerProperty();
+		private final StringProperty name = new SimpleStringProperty();
+
+		public Item(int value, String name) {
+			this.value.set(value);
+			this.name.set(name);
+		}
+
+		public int getValue() {
+			return value.get();
+		}
+
+		public IntegerProperty valueProperty() {
+			return value;
+		}
+
+		public String getName() {
+			return name.get();
+		}
+
+		public StringProperty nameProperty() {
+			return name;
+		}
+
+		@Override
+		public String toString() {
+			return name.get() + "=" + value.get();
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package collections;
+
+import collections.RandomChanges.Item;
+import io.github.palexdev.materialfx.collections.SortedIndex;
+import io.github.palexdev.materialfx.collections.TransformableList;
+import io.github.palexdev.materialfx.enums.ComparisonOperator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(ApplicationExtension.class)
+public class SortedIndexTest {
+	private static final int VALUES = 20;
+
+	@Test
+	public void lookupsMatchRecompute() {
+		RandomChanges changes = new RandomChanges(33, 50, VALUES, true);
+		List<Item> source = changes.getSource();
+		Function<Item, Integer> extractor = Item::getValue;
+		SortedIndex<Item, Integer> index = new SortedIndex<>(extractor);
+		TransformableList<Item> list = new TransformableList<>(changes.getSource());
+		list.addIndex(index);
+
+		for (int i = 0; i < 1000; i++) {
+			changes.next();
+			for (int q = -1; q <= VALUES; q++) {
+				int value = q;
+				String message = " " + value + " after change " + i;
+				assertEquals(expected(source, v -> v == value), index.lookup(ComparisonOperator.EQUAL, value), "EQUAL" + message);
+				assertEquals(expected(source, v -> v != value), index.lookup(ComparisonOperator.NOT_EQUAL, value), "NOT_EQUAL" + message);
+				assertEquals(expected(source, v -> v > value), index.lookup(ComparisonOperator.GREATER, value), "GREATER" + message);
+				assertEquals(expected(source, v -> v >= value), index.lookup(ComparisonOperator.GREATER_EQUAL, value), "GREATER_EQUAL" + message);
+				assertEquals(expected(source, v -> v < value), index.lookup(ComparisonOperator.LESSER, value), "LESSER" + message);
+				assertEquals(expected(source, v -> v <= value), index.lookup(ComparisonOperator.LESSER_EQUAL, value), "LESSER_EQUAL" + message);
+			}
+			assertArrayEquals(order(source, false), index.order(false), "ascending order after change " + i);
+			assertArrayEquals(order(source, true), index.order(true), "descending order after change " + i);
+		}
+	}
+
+	@Test
+	public void indexedComparatorMatchesSort() {
+		RandomChanges changes = new RandomChanges(330, 50, VALUES, false);
+		Function<Item, Integer> extractor = Item::getValue;
+		TransformableList<Item> list = new TransformableList<>(changes.getSource());
+		list.addIndex(new SortedIndex<>(extractor));
+		list.setPredicate(item -> item.getValue() % 4 != 0);
+		list.setComparator(SortedIndex.comparator(extractor).reversed(), true);
+
+		Comparator<Item> comparator = Comparator.comparingInt(Item::getValue).reversed();
+		for (int i = 0; i < 1000; i++) {
+			changes.next();
+			List<Item> expected = changes.getSource().stream()
+					.filter(item -> item.getValue() % 4 != 0)
+					.sorted(comparator)
+					.collect(Collectors.toList());
+			assertEquals(expected, list, "after change " + i);
+		}
+	}
+
+	private static BitSet expected(List<Item> items, IntPredicate predicate) {
+		BitSet bits = new BitSet();
+		for (int i = 0; i < items.size(); i++) {
+			if (predicate.test(items.get(i).getValue())) bits.set(i);
+		}
+		return bits;
+	}
+
+	/**
+	 * @return the source indexes sorted by value with a stable sort, ties are always in source order
+	 */
+	private static int[] order(List<Item> items, boolean descending) {
+		Comparator<Integer> comparator = Comparator.comparingInt(i -> items.get(i).getValue());
+		return IntStream.range(0, items.size())
+				.boxed()
+				.sorted(descending ? comparator.reversed() : comparator)
+				.mapToInt(Integer::intValue)
+				.toArray();
+	}
+}
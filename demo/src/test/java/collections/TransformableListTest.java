@@ -1,7 +1,11 @@
 package collections;
 
+import collections.RandomChanges.Item;
+import io.github.palexdev.materialfx.collections.Aggregate;
 import io.github.palexdev.materialfx.collections.TransformableList;
+import io.github.palexdev.materialfx.enums.AggregateType;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
@@ -9,7 +13,11 @@
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.testfx.framework.junit5.ApplicationExtension;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -66,4 +74,73 @@ public void testJavaFX2() {
 		assertEquals(filtered.getSourceIndex(1), 2);
 		assertTrue(filtered.getViewIndex(1) < 0);
 	}
+
+	@Test
+	public void limitTest() {
+		for (int limit = 1; limit <= 20; limit += 3) {
+			RandomChanges changes = new RandomChanges(limit, 30, 40, true);
+			Predicate<Item> predicate = item -> item.getValue() % 3 != 0;
+			Comparator<Item> comparator = Comparator.comparingInt(Item::getValue);
+			TransformableList<Item> transformed = new TransformableList<>(changes.getSource(), predicate::test, comparator);
+			transformed.setLimit(limit);
+			Aggregate<Item> sum = new Aggregate<>(Item::getValue, AggregateType.SUM);
+			Aggregate<Item> count = new Aggregate<>(Item::getValue, AggregateType.COUNT);
+			transformed.addViewListener(sum);
+			transformed.addViewListener(count);
+
+			for (int i = 0; i < 500; i++) {
+				changes.next();
+				String message = "limit " + limit + " after change " + i;
+				assertEquals(expected(changes.getSource(), predicate, comparator, limit), transformed, message);
+				assertEquals(AggregateTest.compute(transformed, AggregateType.SUM), sum.getValue(), message);
+				assertEquals(transformed.size(), count.getValue(), message);
+			}
+
+			transformed.setComparator(comparator.reversed(), true);
+			assertEquals(expected(changes.getSource(), predicate, comparator.reversed(), limit), transformed);
+			assertEquals(AggregateTest.compute(transformed, AggregateType.SUM), sum.getValue());
+			transformed.setComparator(null);
+			assertEquals(expected(changes.getSource(), predicate, null, limit), transformed);
+			assertEquals(AggregateTest.compute(transformed, AggregateType.SUM), sum.getValue());
+		}
+	}
+
+	@Test
+	public void reshapeTest() {
+		for (int limit = 0; limit <= 12; limit += 4) {
+			RandomChanges changes = new RandomChanges(100 + limit, 40, 30, true);
+			Predicate<Item> predicate = item -> item.getValue() % 4 != 0;
+			Comparator<Item> comparator = Comparator.comparing(Item::getName);
+			TransformableList<Item> transformed = new TransformableList<>(changes.getSource(), predicate::test, comparator);
+			transformed.setLimit(limit);
+
+			// Replays the fired changes on a copy, to check that they are consistent with the list
+			List<Item> mirror = new ArrayList<>(transformed);
+			transformed.addListener((ListChangeListener<Item>) c -> {
+				while (c.next()) {
+					if (c.wasPermutated() || c.wasUpdated()) continue;
+					mirror.subList(c.getFrom(), c.getFrom() + c.getRemovedSize()).clear();
+					mirror.addAll(c.getFrom(), c.getAddedSubList());
+				}
+			});
+
+			for (int i = 0; i < 1000; i++) {
+				changes.nextUpdate();
+				String message = "limit " + limit + " after change " + i;
+				assertEquals(expected(changes.getSource(), predicate, comparator, limit), transformed, message);
+				assertEquals(transformed, mirror, message);
+			}
+		}
+	}
+
+	/**
+	 * Filters and sorts the given items from scratch, with a stable sort, and keeps the first K.
+	 */
+	static List<Item> expected(List<Item> items, Predicate<Item> predicate, Comparator<Item> comparator, int limit) {
+		return items.stream()
+				.filter(predicate)
+				.sorted(comparator != null ? comparator : (o1, o2) -> 0)
+				.limit(limit > 0 ? limit : Long.MAX_VALUE)
+				.collect(Collectors.toList());
+	}
 }
@@ -0,0 +1,85 @@
+package collections;
+
+import collections.RandomChanges.Item;
+import io.github.palexdev.materialfx.collections.PrefixIndex;
+import io.github.palexdev.materialfx.collections.TransformableList;
+import io.github.palexdev.materialfx.collections.TrigramIndex;
+import io.github.palexdev.materialfx.utils.StringMatcher;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.util.WaitForAsyncUtils;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(ApplicationExtension.class)
+public class TrigramIndexTest {
+	private static final String[] QUERIES = {"aab", "abc", "AbC", "bc\u00e9", "\u00c9\u00e9a", "aaa", "bBbB", "cab", "ab\u00e9a"};
+
+	@Test
+	public void candidatesMatchRecompute() throws Exception {
+		RandomChanges changes = new RandomChanges(35, 60, 10, true);
+		Function<Item, String> extractor = Item::getName;
+		TrigramIndex<Item> index = new TrigramIndex<>(extractor);
+		TransformableList<Item> list = fx(() -> {
+			TransformableList<Item> transformable = new TransformableList<>(changes.getSource());
+			transformable.addIndex(index);
+			return transformable;
+		});
+		StringMatcher.Compiler compiler = StringMatcher.cached(StringMatcher::containsIgnoreCase, true);
+
+		for (int i = 0; i < 500; i++) {
+			fx(() -> {
+				changes.next();
+				return null;
+			});
+			// Wait for the background build only from time to time, so that changes happening
+			// while the index is building are tested too
+			if (i % 8 == 0) WaitForAsyncUtils.waitFor(10, TimeUnit.SECONDS, () -> fx(index::isReady));
+
+			int change = i;
+			fx(() -> {
+				assertEquals(list.getSource().size(), index.size(), "size after change " + change);
+				for (String query : QUERIES) {
+					BitSet candidates = index.candidates(compiler, query);
+					if (!index.isReady()) {
+						assertNull(candidates, query + " after change " + change);
+						continue;
+					}
+					assertEquals(expected(changes.getSource(), query), candidates, query + " after change " + change);
+				}
+				return null;
+			});
+		}
+	}
+
+	/**
+	 * @return the indexes of the items whose name contains all the trigrams of the given query, ignoring case
+	 */
+	private static BitSet expected(List<Item> items, String query) {
+		String folded = PrefixIndex.fold(query);
+		BitSet bits = new BitSet();
+		for (int i = 0; i < items.size(); i++) {
+			String name = PrefixIndex.fold(items.get(i).getName());
+			boolean matches = true;
+			for (int j = 0; j + 3 <= folded.length() && matches; j++) {
+				matches = name.contains(folded.substring(j, j + 3));
+			}
+			if (matches) bits.set(i);
+		}
+		return bits;
+	}
+
+	/**
+	 * Runs the given task on the JavaFX thread, which the index must be used on, and waits for its result.
+	 */
+	private static <V> V fx(Callable<V> task) throws Exception {
+		return WaitForAsyncUtils.asyncFx(task).get(10, TimeUnit.SECONDS);
+	}
+}
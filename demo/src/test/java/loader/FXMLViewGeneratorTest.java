@@ -0,0 +1,201 @@
+package loader;
+
+import io.github.palexdev.materialfx.demo.MFXDemoResourcesLoader;
+import io.github.palexdev.materialfx.utils.others.loader.FXMLViewGenerator;
+import io.github.palexdev.materialfx.utils.others.loader.ViewFactory;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.control.Labeled;
+import javafx.scene.control.TextInputControl;
+import javafx.scene.effect.DropShadow;
+import javafx.scene.effect.Effect;
+import javafx.scene.layout.Region;
+import javafx.stage.Stage;
+import javafx.util.Callback;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+import org.testfx.util.WaitForAsyncUtils;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Generates the factories for all the demo's FXML files, compiles them and checks that they build the same
+ * node trees the {@link FXMLLoader} builds.
+ */
+@ExtendWith(ApplicationExtension.class)
+public class FXMLViewGeneratorTest {
+	private static final String PACKAGE = "generated";
+	private Stage stage;
+
+	@TempDir
+	Path dir;
+
+	@Start
+	private void start(Stage stage) {
+		this.stage = stage;
+	}
+
+	@Test
+	public void factoriesMatchFXMLLoader() throws Exception {
+		Path fxmlDir = Path.of(MFXDemoResourcesLoader.loadURL("fxml/Demo.fxml").toURI()).getParent();
+		List<Path> files;
+		try (Stream<Path> stream = Files.list(fxmlDir)) {
+			files = stream.filter(file -> file.toString().endsWith(".fxml")).sorted().collect(Collectors.toList());
+		}
+		assertFalse(files.isEmpty());
+
+		FXMLViewGenerator generator = new FXMLViewGenerator(getClass().getClassLoader());
+		Map<Path, String> classes = new LinkedHashMap<>();
+		List<String> sources = new ArrayList<>();
+		for (Path file : files) {
+			String className = file.getFileName().toString().replace(".fxml", "") + "View";
+			Path source = generator.generate(file.toUri().toURL(), PACKAGE, className, dir);
+			String code = Files.readString(source);
+			assertFalse(code.contains("@../"), file + " has unresolved locations");
+			classes.put(file, PACKAGE + "." + className);
+			sources.add(source.toString());
+		}
+		compile(sources);
+
+		try (URLClassLoader loader = new URLClassLoader(new URL[]{dir.toUri().toURL()}, getClass().getClassLoader())) {
+			for (Map.Entry<Path, String> entry : classes.entrySet()) {
+				ViewFactory factory = (ViewFactory) loader.loadClass(entry.getValue()).getConstructor().newInstance();
+				URL fxml = entry.getKey().toUri().toURL();
+				fx(() -> {
+					FXMLLoader fxmlLoader = new FXMLLoader(fxml);
+					fxmlLoader.setControllerFactory(this::controller);
+					Parent expected = fxmlLoader.load();
+					ViewFactory.View view = factory.create(this::controller);
+					Object controller = fxmlLoader.getController();
+					assertEquals(controller != null ? controller.getClass() : null,
+						view.getController() != null ? view.getController().getClass() : null, entry.getKey().toString());
+					assertSameTree(expected, view.getRoot(), entry.getKey().getFileName().toString());
+					return null;
+				});
+			}
+		}
+	}
+
+	/**
+	 * Builds the demo's controllers, some of which need the stage.
+	 */
+	private Object controller(Class<?> type) {
+		try {
+			try {
+				return type.getConstructor(Stage.class).newInstance(stage);
+			} catch (NoSuchMethodException ex) {
+				return type.getConstructor().newInstance();
+			}
+		} catch (ReflectiveOperationException ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+
+	private void compile(List<String> sources) throws URISyntaxException {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		List<String> args = new ArrayList<>(List.of(
+			"-classpath", classPath(),
+			"-d", dir.toString(),
+			"-encoding", "UTF-8",
+			"-proc:none"
+		));
+		args.addAll(sources);
+		ByteArrayOutputStream errors = new ByteArrayOutputStream();
+		int result = compiler.run(null, null, errors, args.toArray(new String[0]));
+		assertEquals(0, result, errors.toString());
+	}
+
+	/**
+	 * @return the class path of the tests, including the entries of the class loaders which are not the system one
+	 * (for example, when run by a launcher)
+	 */
+	private String classPath() throws URISyntaxException {
+		Set<String> entries = new LinkedHashSet<>(List.of(System.getProperty("java.class.path").split(File.pathSeparator)));
+		for (ClassLoader loader = getClass().getClassLoader(); loader != null; loader = loader.getParent()) {
+			if (!(loader instanceof URLClassLoader)) continue;
+			for (URL url : ((URLClassLoader) loader).getURLs()) {
+				entries.add(Path.of(url.toURI()).toString());
+			}
+		}
+		return String.join(File.pathSeparator, entries);
+	}
+
+	/**
+	 * Checks that the given trees have the same structure and the same relevant properties. Skins are not created,
+	 * so the children of controls are only the ones set by the FXML and the controller.
+	 */
+	private static void assertSameTree(Node expected, Node actual, String path) {
+		assertEquals(expected.getClass(), actual.getClass(), path);
+		path = path + "/" + expected.getClass().getSimpleName() + (expected.getId() != null ? "#" + expected.getId() : "");
+		assertEquals(expected.getId(), actual.getId(), path);
+		assertEquals(expected.getStyleClass(), actual.getStyleClass(), path);
+		assertEquals(expected.getStyle(), actual.getStyle(), path);
+		assertEquals(expected.getProperties(), actual.getProperties(), path);
+		assertEquals(expected.getLayoutX(), actual.getLayoutX(), path);
+		assertEquals(expected.getLayoutY(), actual.getLayoutY(), path);
+		assertEquals(expected.isVisible(), actual.isVisible(), path);
+		assertEquals(expected.isDisable(), actual.isDisable(), path);
+		assertEquals(describe(expected.getEffect()), describe(actual.getEffect()), path);
+		if (expected instanceof Region) {
+			Region e = (Region) expected;
+			Region a = (Region) actual;
+			assertEquals(e.getPrefWidth(), a.getPrefWidth(), path);
+			assertEquals(e.getPrefHeight(), a.getPrefHeight(), path);
+			assertEquals(e.getMinWidth(), a.getMinWidth(), path);
+			assertEquals(e.getMinHeight(), a.getMinHeight(), path);
+			assertEquals(e.getMaxWidth(), a.getMaxWidth(), path);
+			assertEquals(e.getMaxHeight(), a.getMaxHeight(), path);
+			assertEquals(e.getPadding(), a.getPadding(), path);
+		}
+		if (expected instanceof Labeled) {
+			Labeled e = (Labeled) expected;
+			Labeled a = (Labeled) actual;
+			assertEquals(e.getText(), a.getText(), path);
+			assertEquals(e.getAlignment(), a.getAlignment(), path);
+			assertEquals(e.getGraphic() == null, a.getGraphic() == null, path);
+			if (e.getGraphic() != null) assertSameTree(e.getGraphic(), a.getGraphic(), path + "/graphic");
+		}
+		if (expected instanceof TextInputControl) {
+			assertEquals(((TextInputControl) expected).getText(), ((TextInputControl) actual).getText(), path);
+			assertEquals(((TextInputControl) expected).getPromptText(), ((TextInputControl) actual).getPromptText(), path);
+		}
+		if (expected instanceof Parent) {
+			assertEquals(((Parent) expected).getStylesheets(), ((Parent) actual).getStylesheets(), path);
+			List<Node> expectedChildren = ((Parent) expected).getChildrenUnmodifiable();
+			List<Node> actualChildren = ((Parent) actual).getChildrenUnmodifiable();
+			assertEquals(expectedChildren.size(), actualChildren.size(), path);
+			for (int i = 0; i < expectedChildren.size(); i++) {
+				assertSameTree(expectedChildren.get(i), actualChildren.get(i), path + "[" + i + "]");
+			}
+		}
+	}
+
+	private static String describe(Effect effect) {
+		if (!(effect instanceof DropShadow)) return effect != null ? effect.getClass().getName() : null;
+		DropShadow shadow = (DropShadow) effect;
+		return List.of(shadow.getBlurType(), shadow.getColor(), shadow.getRadius(), shadow.getSpread(),
+			shadow.getOffsetX(), shadow.getOffsetY()).toString();
+	}
+
+	private static <V> V fx(java.util.concurrent.Callable<V> task) throws Exception {
+		return WaitForAsyncUtils.asyncFx(task).get(30, TimeUnit.SECONDS);
+	}
+}
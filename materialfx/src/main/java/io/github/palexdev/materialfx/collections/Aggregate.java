@@ -0,0 +1,208 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.collections;
+
+import io.github.palexdev.materialfx.enums.AggregateType;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A {@link ViewListener} that incrementally computes an aggregate value, specified by an {@link AggregateType},
+ * over the items of a {@link TransformableList}.
+ * <p>
+ * Each item's contribution is computed by the given {@link ToDoubleFunction} only when the item enters the view,
+ * and it's remembered so that it can be removed when the item leaves the view, even if the item changed in the meantime.
+ * This means that the cost of keeping the value up to date is proportional to the number of items that enter or leave
+ * the view, not to the size of the list.
+ * <p>
+ * SUM, AVERAGE and COUNT are maintained with simple counters, MIN and MAX are backed by a sorted
+ * multiset ({@link TreeMap}) which supports deletion.
+ * <p></p>
+ * NaN values are counted by COUNT but ignored by the other types. When there are no valid values, the result is NaN
+ * (except for COUNT and SUM, which are 0).
+ *
+ * @see TransformableList#addViewListener(ViewListener)
+ */
+public class Aggregate<T> implements ViewListener<T> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final ToDoubleFunction<? super T> function;
+	private final AggregateType type;
+
+	private final Map<T, Contribution> contributions = new IdentityHashMap<>();
+	private final TreeMap<Double, int[]> values;
+	private double sum = 0;
+	private int count = 0;
+	private int validCount = 0;
+
+	private final ReadOnlyDoubleWrapper value = new ReadOnlyDoubleWrapper();
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public Aggregate(ToDoubleFunction<? super T> function, AggregateType type) {
+		this.function = function;
+		this.type = type;
+		this.values = (type == AggregateType.MIN || type == AggregateType.MAX) ? new TreeMap<>() : null;
+		value.set(compute());
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Resets the aggregate to its initial state, as if no item was ever notified.
+	 */
+	public void clear() {
+		contributions.clear();
+		if (values != null) values.clear();
+		sum = 0;
+		count = 0;
+		validCount = 0;
+		value.set(compute());
+	}
+
+	/**
+	 * Computes the aggregate value from the current state.
+	 */
+	protected double compute() {
+		switch (type) {
+			case SUM:
+				return sum;
+			case AVERAGE:
+				return validCount == 0 ? Double.NaN : sum / validCount;
+			case MIN:
+				return values.isEmpty() ? Double.NaN : values.firstKey();
+			case MAX:
+				return values.isEmpty() ? Double.NaN : values.lastKey();
+			case COUNT:
+				return count;
+			default:
+				return Double.NaN;
+		}
+	}
+
+	private void include(double val) {
+		count++;
+		if (Double.isNaN(val)) return;
+		validCount++;
+		sum += val;
+		if (values != null) {
+			int[] occurrences = values.computeIfAbsent(val, v -> new int[1]);
+			occurrences[0]++;
+		}
+	}
+
+	private void exclude(double val) {
+		count--;
+		if (Double.isNaN(val)) return;
+		validCount--;
+		sum -= val;
+		if (values != null) {
+			int[] occurrences = values.get(val);
+			if (occurrences != null && --occurrences[0] == 0) values.remove(val);
+		}
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+	@Override
+	public void itemEntered(T item) {
+		double val = function.applyAsDouble(item);
+		Contribution contribution = contributions.get(item);
+		if (contribution == null) {
+			contributions.put(item, new Contribution(val));
+			include(val);
+			return;
+		}
+
+		// The same instance is in the view more than once,
+		// all its contributions are aligned to the new value
+		for (int i = 0; i < contribution.count; i++) {
+			exclude(contribution.value);
+		}
+		contribution.value = val;
+		contribution.count++;
+		for (int i = 0; i < contribution.count; i++) {
+			include(val);
+		}
+	}
+
+	@Override
+	public void itemLeft(T item) {
+		Contribution contribution = contributions.get(item);
+		if (contribution == null) return;
+		exclude(contribution.value);
+		if (--contribution.count == 0) contributions.remove(item);
+	}
+
+	@Override
+	public void viewChanged() {
+		value.set(compute());
+	}
+
+	//================================================================================
+	// Getters
+	//================================================================================
+
+	/**
+	 * @return the function used to compute each item's contribution
+	 */
+	public ToDoubleFunction<? super T> getFunction() {
+		return function;
+	}
+
+	/**
+	 * @return the kind of aggregate computed by this object
+	 */
+	public AggregateType getType() {
+		return type;
+	}
+
+	public double getValue() {
+		return value.get();
+	}
+
+	/**
+	 * Specifies the aggregate value, updated at the end of each batch of notifications.
+	 */
+	public ReadOnlyDoubleProperty valueProperty() {
+		return value.getReadOnlyProperty();
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+	private static class Contribution {
+		private double value;
+		private int count = 1;
+
+		Contribution(double value) {
+			this.value = value;
+		}
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.collections;
+
+import io.github.palexdev.materialfx.enums.ComparisonOperator;
+import javafx.collections.ListChangeListener;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Base class for indexes over a field of the items of a {@link TransformableList}'s source.
+ * <p>
+ * An index is identified by the function used to extract the field, see {@link #getExtractor()}, and is
+ * kept up to date by the {@link TransformableList} it is added to, see {@link TransformableList#addIndex(ColumnIndex)}.
+ * <p></p>
+ * Subclasses only need to implement the basic operations: build, replace, remove and add items at a given position.
+ * This base class takes care of dispatching the source changes. Note that a replace change which does not change
+ * the source size (the most common case for updates) is processed in place, without shifting any index.
+ * <p></p>
+ * Lookups answer a comparison by returning the {@link BitSet} of matching source indexes,
+ * see {@link #lookup(ComparisonOperator, Object)}.
+ *
+ * @param <T> the type of items
+ * @param <V> the type of the indexed field
+ */
+public abstract class ColumnIndex<T, V> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	protected final Function<T, V> extractor;
+	protected int size = 0;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	protected ColumnIndex(Function<T, V> extractor) {
+		this.extractor = extractor;
+	}
+
+	//================================================================================
+	// Abstract Methods
+	//================================================================================
+
+	/**
+	 * Rebuilds the index from scratch for the given source.
+	 */
+	public abstract void build(List<? extends T> source);
+
+	/**
+	 * Updates the values at the given position, the number of items doesn't change.
+	 */
+	protected abstract void replaced(int from, List<? extends T> items);
+
+	/**
+	 * Removes the given number of values starting from the given position.
+	 */
+	protected abstract void removed(int from, int count);
+
+	/**
+	 * Inserts the values of the given items at the given position.
+	 */
+	protected abstract void added(int from, List<? extends T> items);
+
+	/**
+	 * @return whether this index can answer the given comparison
+	 */
+	public abstract boolean supports(ComparisonOperator operator);
+
+	/**
+	 * Answers the given comparison.
+	 *
+	 * @return a new {@link BitSet} with the source indexes of the values for which the comparison is true,
+	 * or null if the comparison is not supported
+	 */
+	public abstract BitSet lookup(ComparisonOperator operator, V value);
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Computes a superset of the source indexes of the values which satisfy the given predicate with the given value.
+	 * Unlike {@link #lookup(ComparisonOperator, Object)}, the result must be verified by testing the items.
+	 * <p>
+	 * By default returns null, meaning that this index cannot restrict the candidates for the given predicate.
+	 */
+	public BitSet candidates(BiPredicate<V, V> predicate, V value) {
+		return null;
+	}
+
+	/**
+	 * Updates the index according to the given change of the source list.
+	 * <p>
+	 * The change is not reset, that's up to the caller.
+	 */
+	public void sourceChanged(ListChangeListener.Change<? extends T> c) {
+		while (c.next()) {
+			int from = c.getFrom();
+			if (c.wasPermutated()) {
+				build(c.getList());
+				return;
+			}
+			if (c.wasUpdated()) {
+				replaced(from, c.getList().subList(from, c.getTo()));
+				continue;
+			}
+			if (c.wasReplaced() && c.getRemovedSize() == c.getAddedSize()) {
+				replaced(from, c.getAddedSubList());
+				continue;
+			}
+			if (c.wasRemoved()) {
+				removed(from, c.getRemovedSize());
+				size -= c.getRemovedSize();
+			}
+			if (c.wasAdded()) {
+				added(from, c.getAddedSubList());
+				size += c.getAddedSize();
+			}
+		}
+	}
+
+	/**
+	 * Shifts all the bits of the given {@link BitSet} starting from the given index by the given delta.
+	 * <p>
+	 * For a negative delta, the bits in the range [from + delta, from) are lost.
+	 */
+	protected static void shift(BitSet bits, int from, int delta) {
+		if (delta == 0 || from >= bits.length()) return;
+		BitSet tail = bits.get(from, bits.length());
+		bits.clear(Math.max(0, Math.min(from, from + delta)), bits.length());
+		for (int i = tail.nextSetBit(0); i >= 0; i = tail.nextSetBit(i + 1)) {
+			bits.set(from + delta + i);
+		}
+	}
+
+	//================================================================================
+	// Getters
+	//================================================================================
+
+	/**
+	 * @return the function used to extract the indexed field, also used to identify the index
+	 */
+	public Function<T, V> getExtractor() {
+		return extractor;
+	}
+
+	/**
+	 * @return the number of indexed values
+	 */
+	public int size() {
+		return size;
+	}
+}
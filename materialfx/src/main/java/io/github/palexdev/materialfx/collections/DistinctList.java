@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.collections;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A {@link TransformationList} which contains one item for each distinct key of the given list.
+ * <p></p>
+ * This is built on top of a {@link GroupedList}, which is this list's source and keeps the reference count
+ * of each key. Every item here is the first item of the corresponding group: when it is removed
+ * from the original list but other items share its key, it is replaced by the one added to the group after it.
+ * <p>
+ * Items appear in the order of the groups, see {@link GroupedList}. Since the groups' changes are
+ * incremental, so are this list's changes. An update of a group is forwarded as a replace change if its first
+ * item changed, as an update change otherwise.
+ *
+ * @param <T> the items type
+ * @param <K> the keys type
+ */
+public class DistinctList<T, K> extends TransformationList<T, GroupedList.Group<K, T>> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final GroupedList<T, K> groups;
+	private final List<T> items;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public DistinctList(ObservableList<? extends T> source, Function<? super T, ? extends K> keyExtractor) {
+		this(new GroupedList<>(source, keyExtractor));
+	}
+
+	private DistinctList(GroupedList<T, K> groups) {
+		super(groups);
+		this.groups = groups;
+		this.items = new ArrayList<>(groups.size());
+		for (GroupedList.Group<K, T> group : groups) {
+			items.add(group.getFirst());
+		}
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * @return the {@link GroupedList} this list is built upon
+	 */
+	public GroupedList<T, K> getGroups() {
+		return groups;
+	}
+
+	/**
+	 * @return how many items of the original list share the given key
+	 */
+	public int count(K key) {
+		return groups.count(key);
+	}
+
+	private void update(ListChangeListener.Change<? extends GroupedList.Group<K, T>> c) {
+		for (int i = c.getFrom(); i < c.getTo(); i++) {
+			T oldItem = items.get(i);
+			T newItem = groups.get(i).getFirst();
+			if (oldItem != newItem) {
+				items.set(i, newItem);
+				nextSet(i, oldItem);
+			} else {
+				nextUpdate(i);
+			}
+		}
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+	@Override
+	protected void sourceChanged(ListChangeListener.Change<? extends GroupedList.Group<K, T>> c) {
+		beginChange();
+		while (c.next()) {
+			int from = c.getFrom();
+			if (c.wasPermutated()) {
+				int[] perm = new int[c.getTo() - from];
+				List<T> old = new ArrayList<>(items.subList(from, c.getTo()));
+				for (int i = from; i < c.getTo(); i++) {
+					perm[i - from] = c.getPermutation(i);
+					items.set(c.getPermutation(i), old.get(i - from));
+				}
+				nextPermutation(from, c.getTo(), perm);
+			} else if (c.wasUpdated()) {
+				update(c);
+			} else {
+				if (c.wasRemoved()) {
+					List<T> range = items.subList(from, from + c.getRemovedSize());
+					List<T> removed = new ArrayList<>(range);
+					range.clear();
+					nextRemove(from, removed);
+				}
+				if (c.wasAdded()) {
+					for (int i = from; i < c.getTo(); i++) {
+						items.add(i, groups.get(i).getFirst());
+					}
+					nextAdd(from, c.getTo());
+				}
+			}
+		}
+		endChange();
+	}
+
+	@Override
+	public T get(int index) {
+		return items.get(index);
+	}
+
+	@Override
+	public int size() {
+		return items.size();
+	}
+
+	@Override
+	public int getSourceIndex(int index) {
+		if (index >= size()) throw new IndexOutOfBoundsException(index);
+		return index;
+	}
+
+	@Override
+	public int getViewIndex(int index) {
+		if (index >= size()) throw new IndexOutOfBoundsException(index);
+		return index;
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.collections;
+
+import io.github.palexdev.materialfx.enums.ComparisonOperator;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * A {@link ColumnIndex} which maps each distinct value to the {@link BitSet} of source indexes having that value.
+ * <p>
+ * Best suited for fields with few distinct values, such as enums and booleans. Answers
+ * {@link ComparisonOperator#EQUAL} and {@link ComparisonOperator#NOT_EQUAL} comparisons.
+ */
+public class EqualityIndex<T, V> extends ColumnIndex<T, V> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final Map<V, BitSet> buckets = new HashMap<>();
+	private final List<V> values = new ArrayList<>();
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public EqualityIndex(Function<T, V> extractor) {
+		super(extractor);
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+	private BitSet bucket(V value) {
+		return buckets.computeIfAbsent(value, v -> new BitSet());
+	}
+
+	private void clear(V value, int index) {
+		BitSet bucket = buckets.get(value);
+		if (bucket == null) return;
+		bucket.clear(index);
+		if (bucket.isEmpty()) buckets.remove(value);
+	}
+
+	/**
+	 * @return the distinct values currently in the index
+	 */
+	public Set<V> getValues() {
+		return Collections.unmodifiableSet(buckets.keySet());
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+	@Override
+	public void build(List<? extends T> source) {
+		buckets.clear();
+		values.clear();
+		for (int i = 0; i < source.size(); i++) {
+			V value = extractor.apply(source.get(i));
+			values.add(value);
+			bucket(value).set(i);
+		}
+		size = values.size();
+	}
+
+	@Override
+	protected void replaced(int from, List<? extends T> items) {
+		for (int i = 0; i < items.size(); i++) {
+			int index = from + i;
+			V oldValue = values.get(index);
+			V newValue = extractor.apply(items.get(i));
+			if (Objects.equals(oldValue, newValue)) continue;
+			clear(oldValue, index);
+			bucket(newValue).set(index);
+			values.set(index, newValue);
+		}
+	}
+
+	@Override
+	protected void removed(int from, int count) {
+		List<V> removed = values.subList(from, from + count);
+		for (int i = 0; i < count; i++) {
+			clear(removed.get(i), from + i);
+		}
+		removed.clear();
+		for (BitSet bucket : buckets.values()) {
+			shift(bucket, from + count, -count);
+		}
+	}
+
+	@Override
+	protected void added(int from, List<? extends T> items) {
+		for (BitSet bucket : buckets.values()) {
+			shift(bucket, from, items.size());
+		}
+		List<V> added = new ArrayList<>(items.size());
+		for (int i = 0; i < items.size(); i++) {
+			V value = extractor.apply(items.get(i));
+			added.add(value);
+			bucket(value).set(from + i);
+		}
+		values.addAll(from, added);
+	}
+
+	@Override
+	public boolean supports(ComparisonOperator operator) {
+		return operator == ComparisonOperator.EQUAL || operator == ComparisonOperator.NOT_EQUAL;
+	}
+
+	@Override
+	public BitSet lookup(ComparisonOperator operator, V value) {
+		BitSet bucket = buckets.get(value);
+		switch (operator) {
+			case EQUAL:
+				return bucket != null ? (BitSet) bucket.clone() : new BitSet();
+			case NOT_EQUAL: {
+				BitSet result = new BitSet(size);
+				result.set(0, size);
+				if (bucket != null) result.andNot(bucket);
+				return result;
+			}
+			default:
+				return null;
+		}
+	}
+}
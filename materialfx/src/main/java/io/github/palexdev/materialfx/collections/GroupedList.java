@@ -0,0 +1,337 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.collections;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * A {@link TransformationList} which groups the items of the source list by a key,
+ * exposing a {@link Group} for each distinct key.
+ * <p></p>
+ * Groups appear in the order in which they were created: initially the order in which their key first appears
+ * in the source, then new groups are added at the end. Note that this is not kept in sync with the source order,
+ * a group which is removed and created again goes to the end, and permutations of the source don't move groups.
+ * Each group keeps track of its items (and so of their count), in the order in which they were added to the group,
+ * a group is removed as soon as its last item is removed. Items are tracked by identity, so adding or removing an
+ * item costs O(1) regardless of the group's size.
+ * <p>
+ * Source changes are processed incrementally, each added/removed/updated item touches only its group:
+ * <p> - A new key adds a group at the end of the list
+ * <p> - A group whose items changed fires an update change, so that cells showing the count are refreshed
+ * <p> - A group left with no items is removed
+ * <p> - An updated item whose key changed is moved from the old group to the new one
+ * <p> - Permutations of the source do not change the groups
+ * <p></p>
+ * To know the old key of updated items, the keys of the source items are memoized, so the key extractor
+ * is called only once per item when it is added (or updated/replaced).
+ *
+ * @param <T> the source's items type
+ * @param <K> the keys type
+ * @see DistinctList
+ */
+public class GroupedList<T, K> extends TransformationList<GroupedList.Group<K, T>, T> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final Function<? super T, ? extends K> keyExtractor;
+	private final List<K> keys;
+	private final Map<K, Group<K, T>> groups = new HashMap<>();
+	private final List<Group<K, T>> view = new ArrayList<>();
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public GroupedList(ObservableList<? extends T> source, Function<? super T, ? extends K> keyExtractor) {
+		super(source);
+		this.keyExtractor = keyExtractor;
+		this.keys = new ArrayList<>(source.size());
+		for (T item : source) {
+			K key = keyExtractor.apply(item);
+			keys.add(key);
+			group(key).add(item);
+		}
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * @return the function used to extract the items' keys
+	 */
+	public Function<? super T, ? extends K> getKeyExtractor() {
+		return keyExtractor;
+	}
+
+	/**
+	 * @return the {@link Group} for the given key, or null if there are no items with such key
+	 */
+	public Group<K, T> getGroup(K key) {
+		return groups.get(key);
+	}
+
+	/**
+	 * @return the number of items with the given key, 0 if there are none
+	 */
+	public int count(K key) {
+		Group<K, T> group = groups.get(key);
+		return group != null ? group.getCount() : 0;
+	}
+
+	/**
+	 * Gets the group for the given key, creating it and adding it to the end of the list if needed.
+	 * Does not fire any change.
+	 */
+	private Group<K, T> group(K key) {
+		Group<K, T> group = groups.get(key);
+		if (group == null) {
+			group = new Group<>(key, view.size());
+			groups.put(key, group);
+			view.add(group);
+		}
+		return group;
+	}
+
+	private void addItem(K key, T item) {
+		boolean isNew = !groups.containsKey(key);
+		Group<K, T> group = group(key);
+		group.add(item);
+		if (isNew) {
+			nextAdd(group.position, group.position + 1);
+		} else {
+			nextUpdate(group.position);
+		}
+	}
+
+	private void removeItem(K key, T item) {
+		Group<K, T> group = groups.get(key);
+		if (group == null) return;
+		group.remove(item);
+
+		int position = group.position;
+		if (group.getCount() > 0) {
+			nextUpdate(position);
+			return;
+		}
+
+		groups.remove(key);
+		view.remove(position);
+		for (int i = position; i < view.size(); i++) {
+			view.get(i).position = i;
+		}
+		nextRemove(position, group);
+	}
+
+	private void permute(ListChangeListener.Change<? extends T> c) {
+		int from = c.getFrom();
+		List<K> old = new ArrayList<>(keys.subList(from, c.getTo()));
+		for (int i = from; i < c.getTo(); i++) {
+			keys.set(c.getPermutation(i), old.get(i - from));
+		}
+	}
+
+	private void update(ListChangeListener.Change<? extends T> c) {
+		for (int i = c.getFrom(); i < c.getTo(); i++) {
+			T item = getSource().get(i);
+			K oldKey = keys.get(i);
+			K newKey = keyExtractor.apply(item);
+			if (Objects.equals(oldKey, newKey)) {
+				nextUpdate(groups.get(oldKey).position);
+				continue;
+			}
+			keys.set(i, newKey);
+			removeItem(oldKey, item);
+			addItem(newKey, item);
+		}
+	}
+
+	private void addRemove(ListChangeListener.Change<? extends T> c) {
+		int from = c.getFrom();
+		if (c.wasRemoved()) {
+			List<K> range = keys.subList(from, from + c.getRemovedSize());
+			List<? extends T> removed = c.getRemoved();
+			for (int i = 0; i < removed.size(); i++) {
+				removeItem(range.get(i), removed.get(i));
+			}
+			range.clear();
+		}
+		if (c.wasAdded()) {
+			List<K> added = new ArrayList<>(c.getAddedSize());
+			for (T item : c.getAddedSubList()) {
+				K key = keyExtractor.apply(item);
+				added.add(key);
+				addItem(key, item);
+			}
+			keys.addAll(from, added);
+		}
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+	@Override
+	protected void sourceChanged(ListChangeListener.Change<? extends T> c) {
+		beginChange();
+		while (c.next()) {
+			if (c.wasPermutated()) {
+				permute(c);
+			} else if (c.wasUpdated()) {
+				update(c);
+			} else {
+				addRemove(c);
+			}
+		}
+		endChange();
+	}
+
+	@Override
+	public Group<K, T> get(int index) {
+		return view.get(index);
+	}
+
+	@Override
+	public int size() {
+		return view.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p></p>
+	 * For a group this is the index of the first source item with the group's key.
+	 * Note that this requires a linear scan of the source.
+	 */
+	@Override
+	public int getSourceIndex(int index) {
+		K key = view.get(index).getKey();
+		for (int i = 0; i < keys.size(); i++) {
+			if (Objects.equals(keys.get(i), key)) return i;
+		}
+		return -1;
+	}
+
+	@Override
+	public int getViewIndex(int index) {
+		return groups.get(keys.get(index)).position;
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * A group of items sharing the same key, see {@link GroupedList}.
+	 * <p>
+	 * Items are stored by identity along with the number of times they appear, in the order in which they were
+	 * first added to the group.
+	 */
+	public static class Group<K, T> {
+		private final K key;
+		private final Map<Identity<T>, Integer> items = new LinkedHashMap<>();
+		private int count = 0;
+		private int position;
+
+		Group(K key, int position) {
+			this.key = key;
+			this.position = position;
+		}
+
+		void add(T item) {
+			items.merge(new Identity<>(item), 1, Integer::sum);
+			count++;
+		}
+
+		void remove(T item) {
+			Identity<T> identity = new Identity<>(item);
+			Integer occurrences = items.get(identity);
+			if (occurrences == null) return;
+			if (occurrences == 1) {
+				items.remove(identity);
+			} else {
+				items.put(identity, occurrences - 1);
+			}
+			count--;
+		}
+
+		/**
+		 * @return the key shared by the group's items
+		 */
+		public K getKey() {
+			return key;
+		}
+
+		/**
+		 * @return the number of items in the group
+		 */
+		public int getCount() {
+			return count;
+		}
+
+		/**
+		 * @return the first item in the group, in the order they were added to it
+		 */
+		public T getFirst() {
+			return items.keySet().iterator().next().item;
+		}
+
+		/**
+		 * @return an unmodifiable list of the group's items, in the order they were added to it.
+		 * The list is built on each call
+		 */
+		public List<T> getItems() {
+			List<T> list = new ArrayList<>(count);
+			for (Map.Entry<Identity<T>, Integer> entry : items.entrySet()) {
+				for (int i = 0; i < entry.getValue(); i++) {
+					list.add(entry.getKey().item);
+				}
+			}
+			return Collections.unmodifiableList(list);
+		}
+
+		@Override
+		public String toString() {
+			return key + " (" + count + ")";
+		}
+	}
+
+	/**
+	 * Wraps an item to compare it by identity.
+	 */
+	private static class Identity<T> {
+		private final T item;
+
+		Identity(T item) {
+			this.item = item;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Identity && ((Identity<?>) o).item == item;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(item);
+		}
+	}
+}
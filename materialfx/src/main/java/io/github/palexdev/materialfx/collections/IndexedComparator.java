@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.collections;
+
+import java.util.Comparator;
+
+/**
+ * A {@link Comparator} that can compute the sorted order of a {@link TransformableList}'s source all at once,
+ * for example by using one of the list's {@link ColumnIndex}es.
+ * <p>
+ * When the comparator of a {@link TransformableList} implements this interface, {@link #order(TransformableList)}
+ * is used instead of sorting the items.
+ */
+public interface IndexedComparator<T> extends Comparator<T> {
+
+	/**
+	 * Computes the sorted order of the list's source.
+	 * <p>
+	 * The order must be consistent with {@link #compare(Object, Object)}, equal items must be ordered by their source index.
+	 *
+	 * @return all the source indexes in sorted order, or null to fall back to sorting the items
+	 */
+	int[] order(TransformableList<T> list);
+}
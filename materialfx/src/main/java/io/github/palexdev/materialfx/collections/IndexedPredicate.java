@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.collections;
+
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+/**
+ * A {@link Predicate} that can compute the matching items of a {@link TransformableList} all at once,
+ * for example by using the list's {@link ColumnIndex}es.
+ * <p>
+ * When the predicate of a {@link TransformableList} implements this interface, {@link #matches(TransformableList)}
+ * is used instead of testing each item, see {@link TransformableList#addIndex(ColumnIndex)}.
+ */
+public interface IndexedPredicate<T> extends Predicate<T> {
+
+	/**
+	 * Computes the source indexes of the items accepted by this predicate.
+	 *
+	 * @return a {@link java.util.BitSet} with the matching source indexes, or null to fall back to
+	 * testing each item
+	 */
+	BitSet matches(TransformableList<T> list);
+}
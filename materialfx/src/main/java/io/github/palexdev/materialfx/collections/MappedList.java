@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.collections;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A {@link TransformationList} which maps every item of the source list with the given function.
+ * <p></p>
+ * The mapped values are memoized, the function is called only once per item when it is added
+ * to the source (or updated/replaced), so {@link #get(int)} is just a lookup.
+ * <p>
+ * Source changes are processed incrementally, each sub-change is forwarded as the corresponding
+ * change of this list:
+ * <p> - Permutations are forwarded as they are
+ * <p> - Updates re-map the updated items, an update change is fired if the mapped value is the same object,
+ * a replace change otherwise
+ * <p> - Removals and additions remove/map only the involved items
+ * <p></p>
+ * Can be stacked with other transformations, for example a {@link TransformableList} of a {@link GroupedList}.
+ *
+ * @param <F> the source's items type
+ * @param <E> the mapped items type
+ */
+public class MappedList<F, E> extends TransformationList<E, F> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final Function<? super F, ? extends E> mapper;
+	private final List<E> mapped;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public MappedList(ObservableList<? extends F> source, Function<? super F, ? extends E> mapper) {
+		super(source);
+		this.mapper = mapper;
+		this.mapped = new ArrayList<>(source.size());
+		for (F item : source) {
+			mapped.add(mapper.apply(item));
+		}
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * @return the function used to map the source's items
+	 */
+	public Function<? super F, ? extends E> getMapper() {
+		return mapper;
+	}
+
+	private void permute(ListChangeListener.Change<? extends F> c) {
+		int from = c.getFrom();
+		int to = c.getTo();
+		int[] perm = new int[to - from];
+		List<E> old = new ArrayList<>(mapped.subList(from, to));
+		for (int i = from; i < to; i++) {
+			int newIndex = c.getPermutation(i);
+			perm[i - from] = newIndex;
+			mapped.set(newIndex, old.get(i - from));
+		}
+		nextPermutation(from, to, perm);
+	}
+
+	private void update(ListChangeListener.Change<? extends F> c) {
+		for (int i = c.getFrom(); i < c.getTo(); i++) {
+			E oldValue = mapped.get(i);
+			E newValue = mapper.apply(getSource().get(i));
+			mapped.set(i, newValue);
+			if (oldValue == newValue) {
+				nextUpdate(i);
+			} else {
+				nextSet(i, oldValue);
+			}
+		}
+	}
+
+	private void addRemove(ListChangeListener.Change<? extends F> c) {
+		int from = c.getFrom();
+		if (c.wasRemoved()) {
+			List<E> range = mapped.subList(from, from + c.getRemovedSize());
+			List<E> removed = new ArrayList<>(range);
+			range.clear();
+			nextRemove(from, removed);
+		}
+		if (c.wasAdded()) {
+			List<E> added = new ArrayList<>(c.getAddedSize());
+			for (F item : c.getAddedSubList()) {
+				added.add(mapper.apply(item));
+			}
+			mapped.addAll(from, added);
+			nextAdd(from, c.getTo());
+		}
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+	@Override
+	protected void sourceChanged(ListChangeListener.Change<? extends F> c) {
+		beginChange();
+		while (c.next()) {
+			if (c.wasPermutated()) {
+				permute(c);
+			} else if (c.wasUpdated()) {
+				update(c);
+			} else {
+				addRemove(c);
+			}
+		}
+		endChange();
+	}
+
+	@Override
+	public E get(int index) {
+		return mapped.get(index);
+	}
+
+	@Override
+	public int size() {
+		return mapped.size();
+	}
+
+	@Override
+	public int getSourceIndex(int index) {
+		if (index >= size()) throw new IndexOutOfBoundsException(index);
+		return index;
+	}
+
+	@Override
+	public int getViewIndex(int index) {
+		if (index >= size()) throw new IndexOutOfBoundsException(index);
+		return index;
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.collections;
+
+import io.github.palexdev.materialfx.enums.ComparisonOperator;
+import io.github.palexdev.materialfx.utils.StringMatcher;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.Function;
+
+/**
+ * A {@link ColumnIndex} for String fields which keeps the values case-folded and sorted, to find the
+ * items starting with a given prefix by binary search, see {@link SortedKeyIndex}.
+ * <p>
+ * The values starting with a prefix are a contiguous range of the sorted entries, the lowest source index in such range
+ * is found with a segment tree of minimums, so {@link #first(String)} runs in O(log n).
+ * <p>
+ * The tree is kept up to date in place when the values of some items change, only the moved entries and their
+ * ancestors are recomputed. Additions and removals instead shift the source indexes of all the following entries,
+ * so in such case the tree is rebuilt, lazily, on the first query after the change. That costs O(n), the same order
+ * of the work the change itself requires to shift the sorted arrays.
+ * <p></p>
+ * Since the index is not bound to a {@link TransformableList}, it can be kept up to date for any list by
+ * forwarding its changes to {@link #sourceChanged(javafx.collections.ListChangeListener.Change)},
+ * see {@link io.github.palexdev.materialfx.utils.Typeahead}.
+ *
+ * @param <T> the type of items
+ */
+public class PrefixIndex<T> extends SortedKeyIndex<T, String, String[]> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private int[] tree;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public PrefixIndex(Function<T, String> extractor) {
+		super(extractor);
+	}
+
+	//================================================================================
+	// Static Methods
+	//================================================================================
+
+	/**
+	 * Folds every char of the given string with {@link StringMatcher#fold(char)}. Null is treated as an empty string.
+	 */
+	public static String fold(String value) {
+		if (value == null) return "";
+		char[] chars = value.toCharArray();
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = StringMatcher.fold(chars[i]);
+		}
+		return new String(chars);
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * @return the lowest source index whose value starts with the given prefix (ignoring case), or -1 if there's none
+	 */
+	public int first(String prefix) {
+		String query = fold(prefix);
+		int from = firstWhere(0, size, i -> keys[i].compareTo(query) >= 0);
+		int to = firstWhere(from, size, i -> !keys[i].startsWith(query));
+		if (from == to) return -1;
+		if (to - from == 1) return perm[from];
+		return min(from, to);
+	}
+
+	/**
+	 * @return the number of values starting with the given prefix (ignoring case)
+	 */
+	public int count(String prefix) {
+		String query = fold(prefix);
+		int from = firstWhere(0, size, i -> keys[i].compareTo(query) >= 0);
+		return firstWhere(from, size, i -> !keys[i].startsWith(query)) - from;
+	}
+
+	/**
+	 * @return the lowest source index in the given range of sorted entries
+	 */
+	private int min(int from, int to) {
+		if (tree == null) buildTree();
+		int result = Integer.MAX_VALUE;
+		for (int l = from + size, r = to + size; l < r; l >>= 1, r >>= 1) {
+			if ((l & 1) == 1) result = Math.min(result, tree[l++]);
+			if ((r & 1) == 1) result = Math.min(result, tree[--r]);
+		}
+		return result;
+	}
+
+	private void buildTree() {
+		tree = new int[size * 2];
+		System.arraycopy(perm, 0, tree, size, size);
+		for (int i = size - 1; i > 0; i--) {
+			tree[i] = Math.min(tree[i * 2], tree[i * 2 + 1]);
+		}
+	}
+
+	/**
+	 * Updates the leaves of the tree in the given range of sorted entries and their ancestors,
+	 * in O(to - from + log n).
+	 */
+	private void updateTree(int from, int to) {
+		System.arraycopy(perm, from, tree, size + from, to - from);
+		for (int l = (size + from) >> 1, r = (size + to - 1) >> 1; l > 0; l >>= 1, r >>= 1) {
+			for (int i = l; i <= r; i++) {
+				tree[i] = Math.min(tree[i * 2], tree[i * 2 + 1]);
+			}
+		}
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+	@Override
+	protected String[] newKeys(int length) {
+		return new String[length];
+	}
+
+	@Override
+	protected void setKey(String[] array, int pos, T item) {
+		array[pos] = fold(extractor.apply(item));
+	}
+
+	@Override
+	protected int compare(String[] a, int i, String[] b, int j) {
+		return a[i].compareTo(b[j]);
+	}
+
+	@Override
+	protected void clearKeys(String[] array, int from, int to) {
+		Arrays.fill(array, from, to, null);
+	}
+
+	@Override
+	protected void entriesChanged(int from, int to) {
+		if (tree != null) updateTree(from, to);
+	}
+
+	@Override
+	protected void entriesReset() {
+		tree = null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p></p>
+	 * This index does not answer comparisons, it is meant for prefix searches, see {@link #first(String)}.
+	 */
+	@Override
+	public boolean supports(ComparisonOperator operator) {
+		return false;
+	}
+
+	@Override
+	public BitSet lookup(ComparisonOperator operator, String value) {
+		return null;
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.collections;
+
+import io.github.palexdev.materialfx.enums.ComparisonOperator;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.function.Function;
+
+/**
+ * A {@link ColumnIndex} for numeric fields which keeps the values sorted, stored as a primitive array of keys
+ * and a permutation of source indexes, see {@link SortedKeyIndex}.
+ * <p>
+ * Answers all the {@link ComparisonOperator}s by binary search, the matching source indexes are then a contiguous
+ * range of the permutation. Values are compared as doubles, so this index is exact only for types which
+ * can be converted to double without losing precision (Integer, Float, Double). Null values are indexed as NaN.
+ * <p></p>
+ * Since entries are ordered by key and then by source index, the same order a stable sort would produce, the index
+ * can also serve sort requests, see {@link #comparator(Function)}.
+ *
+ * @param <T> the type of items
+ * @param <V> the type of the indexed numbers
+ */
+public class SortedIndex<T, V extends Number> extends SortedKeyIndex<T, V, double[]> {
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public SortedIndex(Function<T, V> extractor) {
+		super(extractor);
+	}
+
+	//================================================================================
+	// Static Methods
+	//================================================================================
+
+	/**
+	 * Builds a {@link Comparator} for the numbers extracted by the given function.
+	 * <p>
+	 * If the {@link TransformableList} the comparator is used on has a {@link SortedIndex} for the same extractor
+	 * (the same instance, for example the one returned by a filter's getExtractor()), the list is sorted by using the index.
+	 */
+	public static <T, V extends Number> IndexedComparator<T> comparator(Function<T, V> extractor) {
+		return new KeyComparator<>(extractor, false);
+	}
+
+	private static double key(Number value) {
+		return value != null ? value.doubleValue() : Double.NaN;
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * @return the source indexes sorted by value, ascending or descending. Equal values are always
+	 * ordered by source index
+	 */
+	public int[] order(boolean descending) {
+		if (!descending) return Arrays.copyOf(perm, size);
+
+		int[] order = new int[size];
+		int w = 0;
+		int end = size;
+		while (end > 0) {
+			int start = end - 1;
+			while (start > 0 && Double.compare(keys[start - 1], keys[end - 1]) == 0) start--;
+			System.arraycopy(perm, start, order, w, end - start);
+			w += end - start;
+			end = start;
+		}
+		return order;
+	}
+
+	private BitSet range(int from, int to) {
+		BitSet result = new BitSet();
+		for (int i = from; i < to; i++) {
+			result.set(perm[i]);
+		}
+		return result;
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+	@Override
+	protected double[] newKeys(int length) {
+		return new double[length];
+	}
+
+	@Override
+	protected void setKey(double[] array, int pos, T item) {
+		array[pos] = key(extractor.apply(item));
+	}
+
+	@Override
+	protected int compare(double[] a, int i, double[] b, int j) {
+		return Double.compare(a[i], b[j]);
+	}
+
+	@Override
+	public boolean supports(ComparisonOperator operator) {
+		return true;
+	}
+
+	@Override
+	public BitSet lookup(ComparisonOperator operator, V value) {
+		if (value == null) return new BitSet();
+		double q = value.doubleValue();
+		int valid = firstWhere(0, size, i -> Double.isNaN(keys[i]));
+		switch (operator) {
+			case EQUAL:
+				return range(firstWhere(0, size, i -> Double.compare(keys[i], q) >= 0), firstWhere(0, size, i -> Double.compare(keys[i], q) > 0));
+			case NOT_EQUAL: {
+				BitSet result = new BitSet(size);
+				result.set(0, size);
+				result.andNot(lookup(ComparisonOperator.EQUAL, value));
+				return result;
+			}
+			case GREATER:
+				return range(firstWhere(0, valid, i -> keys[i] > q), valid);
+			case GREATER_EQUAL:
+				return range(firstWhere(0, valid, i -> keys[i] >= q), valid);
+			case LESSER:
+				return range(0, firstWhere(0, valid, i -> !(keys[i] < q)));
+			case LESSER_EQUAL:
+				return range(0, firstWhere(0, valid, i -> !(keys[i] <= q)));
+			default:
+				return null;
+		}
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * {@link IndexedComparator} implementation returned by {@link #comparator(Function)}.
+	 */
+	private static class KeyComparator<T, V extends Number> implements IndexedComparator<T> {
+		private final Function<T, V> extractor;
+		private final boolean descending;
+
+		KeyComparator(Function<T, V> extractor, boolean descending) {
+			this.extractor = extractor;
+			this.descending = descending;
+		}
+
+		@Override
+		public int compare(T o1, T o2) {
+			int cmp = Double.compare(key(extractor.apply(o1)), key(extractor.apply(o2)));
+			return descending ? -cmp : cmp;
+		}
+
+		@Override
+		public int[] order(TransformableList<T> list) {
+			ColumnIndex<T, ?> index = list.getIndex(extractor);
+			return (index instanceof SortedIndex) ? ((SortedIndex<T, ?>) index).order(descending) : null;
+		}
+
+		@Override
+		public Comparator<T> reversed() {
+			return new KeyComparator<>(extractor, !descending);
+		}
+	}
+}
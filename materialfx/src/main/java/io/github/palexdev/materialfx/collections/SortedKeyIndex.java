@@ -0,0 +1,291 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.collections;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+
+/**
+ * Base class for {@link ColumnIndex}es which keep the keys extracted from the items sorted, stored as an array of keys
+ * in sorted order and a permutation of source indexes.
+ * <p>
+ * Entries are ordered by key and then by source index, which is the same order a stable sort would produce.
+ * Subclasses define the keys' type and how keys are computed and compared, see {@link #newKeys(int)},
+ * {@link #setKey(Object, int, Object)} and {@link #compare(Object, int, Object, int)}. The keys are stored in a generic
+ * array type so that subclasses can use primitive arrays.
+ * <p></p>
+ * Small changes are applied in place, while changes involving many items cause the sorted arrays to be rebuilt.
+ * Subclasses which keep other structures over the sorted entries are notified by {@link #entriesChanged(int, int)}
+ * and {@link #entriesReset()}.
+ *
+ * @param <T> the type of items
+ * @param <V> the type of the indexed field
+ * @param <A> the type of the keys array, for example double[]
+ * @see SortedIndex
+ * @see PrefixIndex
+ */
+public abstract class SortedKeyIndex<T, V, A> extends ColumnIndex<T, V> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private static final int REBUILD_RATIO = 32;
+
+	protected A sourceKeys;
+	protected A keys;
+	protected int[] perm = new int[0];
+	private int capacity = 0;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	protected SortedKeyIndex(Function<T, V> extractor) {
+		super(extractor);
+		sourceKeys = newKeys(0);
+		keys = newKeys(0);
+	}
+
+	//================================================================================
+	// Abstract Methods
+	//================================================================================
+
+	/**
+	 * @return a new keys array of the given length
+	 */
+	protected abstract A newKeys(int length);
+
+	/**
+	 * Computes the key of the given item and stores it in the given array at the given position.
+	 */
+	protected abstract void setKey(A array, int pos, T item);
+
+	/**
+	 * Compares the key at position {@code i} of array {@code a} with the key at position {@code j} of array {@code b}.
+	 */
+	protected abstract int compare(A a, int i, A b, int j);
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Called when the keys in the given range of the given array are not used anymore.
+	 * Subclasses storing objects can clear them to let them be garbage collected, by default does nothing.
+	 */
+	protected void clearKeys(A array, int from, int to) {}
+
+	/**
+	 * Called when the entries at the positions in [from, to) changed, while the others are untouched
+	 * (and the number of entries did not change). By default does nothing.
+	 */
+	protected void entriesChanged(int from, int to) {}
+
+	/**
+	 * Called when the entries changed in a way not described by {@link #entriesChanged(int, int)}, for example because
+	 * the index has been rebuilt or items have been added/removed, which shifts the source indexes. By default does nothing.
+	 */
+	protected void entriesReset() {}
+
+	/**
+	 * @return the first position in [from, to) for which the given condition is true, or {@code to} if there's none.
+	 * The condition must be monotone over the sorted keys in such range
+	 */
+	protected int firstWhere(int from, int to, IntPredicate condition) {
+		int lo = from, hi = to;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (condition.test(mid)) {
+				hi = mid;
+			} else {
+				lo = mid + 1;
+			}
+		}
+		return lo;
+	}
+
+	/**
+	 * @return the position of the entry for the given source index, according to its current source key, if present,
+	 * otherwise the position at which it should be inserted
+	 */
+	protected int position(int index) {
+		return firstWhere(0, size, i -> {
+			int cmp = compare(keys, i, sourceKeys, index);
+			return cmp > 0 || (cmp == 0 && perm[i] >= index);
+		});
+	}
+
+	/**
+	 * Sorts the entries from scratch, the first {@code n} source keys must be up to date.
+	 */
+	private void rebuild(int n) {
+		int[] order = new int[n];
+		for (int i = 0; i < n; i++) order[i] = i;
+		mergeSort(order, new int[n], 0, n);
+
+		keys = newKeys(capacity);
+		perm = new int[capacity];
+		for (int i = 0; i < n; i++) {
+			perm[i] = order[i];
+			System.arraycopy(sourceKeys, order[i], keys, i, 1);
+		}
+	}
+
+	/**
+	 * Stable merge sort of source indexes by their key.
+	 */
+	private void mergeSort(int[] a, int[] tmp, int from, int to) {
+		if (to - from < 2) return;
+		int mid = (from + to) >>> 1;
+		mergeSort(a, tmp, from, mid);
+		mergeSort(a, tmp, mid, to);
+		if (compare(sourceKeys, a[mid - 1], sourceKeys, a[mid]) <= 0) return;
+
+		System.arraycopy(a, from, tmp, from, to - from);
+		int i = from, j = mid, k = from;
+		while (i < mid && j < to) {
+			a[k++] = compare(sourceKeys, tmp[j], sourceKeys, tmp[i]) < 0 ? tmp[j++] : tmp[i++];
+		}
+		while (i < mid) a[k++] = tmp[i++];
+		while (j < to) a[k++] = tmp[j++];
+	}
+
+	/**
+	 * Inserts the entry for the given source index, according to its source key.
+	 *
+	 * @return the position of the new entry
+	 */
+	private int insert(int index) {
+		int pos = position(index);
+		System.arraycopy(keys, pos, keys, pos + 1, size - pos);
+		System.arraycopy(perm, pos, perm, pos + 1, size - pos);
+		System.arraycopy(sourceKeys, index, keys, pos, 1);
+		perm[pos] = index;
+		size++;
+		return pos;
+	}
+
+	private void removeAt(int pos) {
+		System.arraycopy(keys, pos + 1, keys, pos, size - pos - 1);
+		System.arraycopy(perm, pos + 1, perm, pos, size - pos - 1);
+		clearKeys(keys, size - 1, size);
+		size--;
+	}
+
+	private void ensureCapacity(int minCapacity) {
+		if (minCapacity <= capacity) return;
+		int newCapacity = Math.max(minCapacity, capacity + (capacity >> 1));
+		A newSourceKeys = newKeys(newCapacity);
+		A newKeys = newKeys(newCapacity);
+		System.arraycopy(sourceKeys, 0, newSourceKeys, 0, capacity);
+		System.arraycopy(keys, 0, newKeys, 0, capacity);
+		sourceKeys = newSourceKeys;
+		keys = newKeys;
+		perm = Arrays.copyOf(perm, newCapacity);
+		capacity = newCapacity;
+	}
+
+	private boolean shouldRebuild(int count) {
+		return count > 16 && count > size / REBUILD_RATIO;
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+	@Override
+	public void build(List<? extends T> source) {
+		int n = source.size();
+		capacity = n;
+		sourceKeys = newKeys(n);
+		for (int i = 0; i < n; i++) {
+			setKey(sourceKeys, i, source.get(i));
+		}
+		rebuild(n);
+		size = n;
+		entriesReset();
+	}
+
+	@Override
+	protected void replaced(int from, List<? extends T> items) {
+		int count = items.size();
+		if (shouldRebuild(count)) {
+			for (int i = 0; i < count; i++) {
+				setKey(sourceKeys, from + i, items.get(i));
+			}
+			rebuild(size);
+			entriesReset();
+			return;
+		}
+
+		for (int i = 0; i < count; i++) {
+			int index = from + i;
+			int oldPos = position(index);
+			setKey(sourceKeys, index, items.get(i));
+			if (compare(keys, oldPos, sourceKeys, index) == 0) continue;
+			removeAt(oldPos);
+			int newPos = insert(index);
+			entriesChanged(Math.min(oldPos, newPos), Math.max(oldPos, newPos) + 1);
+		}
+	}
+
+	@Override
+	protected void removed(int from, int count) {
+		int to = from + count;
+		System.arraycopy(sourceKeys, to, sourceKeys, from, size - to);
+		clearKeys(sourceKeys, size - count, size);
+
+		int w = 0;
+		for (int r = 0; r < size; r++) {
+			int index = perm[r];
+			if (index >= from && index < to) continue;
+			perm[w] = index >= to ? index - count : index;
+			if (w != r) System.arraycopy(keys, r, keys, w, 1);
+			w++;
+		}
+		clearKeys(keys, w, size);
+		entriesReset();
+	}
+
+	@Override
+	protected void added(int from, List<? extends T> items) {
+		int count = items.size();
+		int oldSize = size;
+		ensureCapacity(oldSize + count);
+		System.arraycopy(sourceKeys, from, sourceKeys, from + count, oldSize - from);
+		for (int i = 0; i < count; i++) {
+			setKey(sourceKeys, from + i, items.get(i));
+		}
+
+		if (shouldRebuild(count)) {
+			rebuild(oldSize + count);
+			entriesReset();
+			return;
+		}
+
+		for (int i = 0; i < oldSize; i++) {
+			if (perm[i] >= from) perm[i] += count;
+		}
+		for (int i = 0; i < count; i++) {
+			insert(from + i);
+		}
+		// The base class updates the size after this call
+		size = oldSize;
+		entriesReset();
+	}
+}
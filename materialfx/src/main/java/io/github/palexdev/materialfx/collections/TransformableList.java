@@ -21,6 +21,8 @@
 import io.github.palexdev.materialfx.beans.properties.functional.ComparatorProperty;
 import io.github.palexdev.materialfx.beans.properties.functional.PredicateProperty;
 import io.github.palexdev.materialfx.collections.NonIterableChange.GenericAddRemoveChange;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
@@ -28,6 +30,7 @@
 import javafx.collections.transformation.TransformationList;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -72,6 +75,11 @@
  * <b>IMPORTANT:</b> If using a reversed comparator please use {@link #setComparator(Comparator, boolean)} with 'true' as argument,
  * as {@link #setComparator(Comparator)} will always assume it is a natural order comparator. This is needed to make {@link #sourceToView(int)}
  * properly work as it uses a binary search algorithm to find the right index.
+ * <p></p>
+ * The view can also be capped to the first K items, see {@link #limitProperty()}.
+ * <p></p>
+ * Updates of the source's items (for example from a list created with an extractor) are handled incrementally,
+ * the changed items are re-tested and re-positioned without recomputing the whole view, see {@link #reshape(ListChangeListener.Change)}.
  *
  * @param <T> the items' type
  */
@@ -79,20 +87,32 @@
 	//================================================================================
 	// Constructors
 	//================================================================================
+	private static final int RESHAPE_RATIO = 32;
+
 	private final List<Integer> indexes = new ArrayList<>();
 	private boolean reversed = false;
+	private final List<ViewListener<? super T>> viewListeners = new ArrayList<>();
+	private final Map<Function<T, ?>, ColumnIndex<T, ?>> columnIndexes = new IdentityHashMap<>();
+	private long sourceVersion = 0;
 
 	private final PredicateProperty<T> predicate = new PredicateProperty<>() {
 		@Override
 		protected void invalidated() {
-			update();
+			update(true);
 		}
 	};
 
 	private final ComparatorProperty<T> comparator = new ComparatorProperty<>() {
 		@Override
 		protected void invalidated() {
-			update();
+			update(isLimited());
+		}
+	};
+
+	private final IntegerProperty limit = new SimpleIntegerProperty(0) {
+		@Override
+		protected void invalidated() {
+			update(true);
 		}
 	};
 
@@ -136,30 +156,426 @@ public int sourceToView(int index) {
 		return getViewIndex(index);
 	}
 
+	/**
+	 * Registers the given {@link ViewListener} on this list.
+	 * <p>
+	 * The listener is immediately notified of all the items currently in the view.
+	 */
+	public void addViewListener(ViewListener<? super T> listener) {
+		viewListeners.add(listener);
+		for (int i = 0; i < size(); i++) {
+			listener.itemEntered(get(i));
+		}
+		listener.viewChanged();
+	}
+
+	/**
+	 * Removes the given {@link ViewListener} from this list.
+	 */
+	public void removeViewListener(ViewListener<? super T> listener) {
+		viewListeners.remove(listener);
+	}
+
+	/**
+	 * Adds the given {@link ColumnIndex} to this list. The index is built from the current source
+	 * and then kept up to date as the source changes.
+	 * <p>
+	 * Predicates implementing {@link IndexedPredicate} can use the list's indexes to compute the matching
+	 * items without testing each of them, see {@link #getIndex(Function)}.
+	 * <p>
+	 * Indexes are identified by their extractor, an index with the same extractor is replaced.
+	 */
+	public void addIndex(ColumnIndex<T, ?> index) {
+		index.build(getSource());
+		columnIndexes.put(index.getExtractor(), index);
+	}
+
+	/**
+	 * Removes the {@link ColumnIndex} identified by the given extractor.
+	 *
+	 * @return the removed index or null if there was no index for the given extractor
+	 */
+	public ColumnIndex<T, ?> removeIndex(Function<T, ?> extractor) {
+		return columnIndexes.remove(extractor);
+	}
+
+	/**
+	 * @return the {@link ColumnIndex} identified by the given extractor, or null if there's none
+	 */
+	public ColumnIndex<T, ?> getIndex(Function<T, ?> extractor) {
+		return columnIndexes.get(extractor);
+	}
+
+	/**
+	 * @return a counter which is incremented every time the source list changes. Useful to
+	 * invalidate data computed on the source, for example by an {@link IndexedPredicate}
+	 */
+	public long getSourceVersion() {
+		return sourceVersion;
+	}
+
+	/**
+	 * Increments the source version, see {@link #getSourceVersion()}, without any change of the source list.
+	 * <p>
+	 * To be called when items have been mutated in place without firing update changes, so that data computed on the
+	 * source, such as the results cached by a {@link io.github.palexdev.materialfx.filter.FilterResultCache}, is invalidated.
+	 * Note that this doesn't update the view nor the {@link ColumnIndex}es, for that the source list must fire update changes.
+	 */
+	public void invalidateSourceVersion() {
+		sourceVersion++;
+	}
+
 	/**
 	 * Responsible for updating the transformed indexes when the
 	 * predicate or the comparator change.
 	 */
 	private void update() {
+		update(true);
+	}
+
+	/**
+	 * Updates the transformed indexes, see {@link #update()}.
+	 * <p>
+	 * If there are {@link ViewListener}s registered and the set of items in the view may have changed
+	 * (the predicate or the limit changed), the old and new sets are compared to notify only the items which entered or left the view.
+	 * A comparator change does not produce any notification, unless the view is limited, see {@link #limitProperty()}.
+	 */
+	private void update(boolean membershipChanged) {
+		BitSet oldMembers = (membershipChanged && !viewListeners.isEmpty()) ? members() : null;
 		indexes.clear();
 		indexes.addAll(computeIndexes());
+		if (oldMembers != null) {
+			BitSet newMembers = members();
+			BitSet changed = (BitSet) oldMembers.clone();
+			changed.xor(newMembers);
+			for (int i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1)) {
+				T item = getSource().get(i);
+				if (newMembers.get(i)) {
+					notifyEntered(item);
+				} else {
+					notifyLeft(item);
+				}
+			}
+			notifyViewChanged();
+		}
 		if (this.hasListeners()) {
 			this.fireChange(new GenericAddRemoveChange<>(0, size(), new ArrayList<>(this), this));
 		}
 	}
 
+	/**
+	 * Processes a change of the source list to notify the registered {@link ViewListener}s of
+	 * the items that entered or left the view.
+	 * <p>
+	 * This must be called before the indexes are updated, as the current indexes are used to determine which
+	 * of the removed/updated items were in the view.
+	 * Sub-changes are processed in order, keeping track of the shift they cause to map indexes back to the old state.
+	 */
+	private void processViewChange(ListChangeListener.Change<? extends T> c) {
+		Predicate<? super T> filter = getPredicate();
+		BitSet oldMembers = members();
+		int shift = 0;
+		while (c.next()) {
+			if (c.wasPermutated()) continue;
+			if (c.wasUpdated()) {
+				for (int i = c.getFrom(); i < c.getTo(); i++) {
+					T item = c.getList().get(i);
+					if (oldMembers.get(i - shift)) notifyLeft(item);
+					if (filter == null || filter.test(item)) notifyEntered(item);
+				}
+				continue;
+			}
+			if (c.wasRemoved()) {
+				List<? extends T> removed = c.getRemoved();
+				int from = c.getFrom() - shift;
+				for (int i = 0; i < removed.size(); i++) {
+					if (oldMembers.get(from + i)) notifyLeft(removed.get(i));
+				}
+			}
+			if (c.wasAdded()) {
+				for (T item : c.getAddedSubList()) {
+					if (filter == null || filter.test(item)) notifyEntered(item);
+				}
+			}
+			shift += c.getAddedSize() - c.getRemovedSize();
+		}
+		c.reset();
+		notifyViewChanged();
+	}
+
+	/**
+	 * Variant of {@link #processViewChange(ListChangeListener.Change)} used when the view is limited.
+	 * <p>
+	 * In this case the predicate is not enough to tell whether an item is in the view, as an item
+	 * entering the view may push out another one. So, the items in the view before and after the update are
+	 * compared by identity, counting their occurrences, since the same item may be in the view more than once.
+	 * Items which were updated or replaced and are in the view both before and after are notified as left and then
+	 * entered, so that {@link ViewListener}s can account for their new values.
+	 */
+	private void limitedSourceChanged(ListChangeListener.Change<? extends T> c) {
+		Map<T, int[]> oldItems = viewItems(c);
+		List<T> updated = new ArrayList<>();
+		while (c.next()) {
+			if (c.wasUpdated()) {
+				updated.addAll(c.getList().subList(c.getFrom(), c.getTo()));
+			} else if (c.wasReplaced()) {
+				updated.addAll(c.getAddedSubList());
+			}
+		}
+		c.reset();
+
+		if (!columnIndexes.isEmpty()) updateIndexes(c);
+		applyChange(c);
+
+		Map<T, int[]> newItems = viewItems(null);
+		for (T item : oldItems.keySet()) {
+			for (int i = occurrences(newItems, item); i < occurrences(oldItems, item); i++) {
+				notifyLeft(item);
+			}
+		}
+		for (T item : newItems.keySet()) {
+			for (int i = occurrences(oldItems, item); i < occurrences(newItems, item); i++) {
+				notifyEntered(item);
+			}
+		}
+		Set<T> refreshed = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (T item : updated) {
+			if (!refreshed.add(item)) continue;
+			int kept = Math.min(occurrences(oldItems, item), occurrences(newItems, item));
+			for (int i = 0; i < kept; i++) {
+				notifyLeft(item);
+				notifyEntered(item);
+			}
+		}
+		notifyViewChanged();
+	}
+
+	/**
+	 * Updates the view after a change of the source list. Tries {@link #reshape(ListChangeListener.Change)}
+	 * first and falls back to {@link #update(boolean)}.
+	 */
+	private void applyChange(ListChangeListener.Change<? extends T> c) {
+		if (!reshape(c)) update(false);
+	}
+
+	/**
+	 * Live filtering and sorting.
+	 * <p>
+	 * If the given change contains only updates or replacements of single items (same removed and added size),
+	 * the view is updated incrementally rather than recomputed: only the changed items are tested against the
+	 * predicate, and they are re-positioned in the view by removal and binary insertion, firing
+	 * a remove/add change for each of them.
+	 * <p>
+	 * Structural changes (additions, removals, permutations) and big batches of updates are not handled, in this
+	 * case the method returns false and the view must be recomputed.
+	 * <p>
+	 * When the view is limited, see {@link #limitProperty()}, a changed item may leave the first K and make room for
+	 * an item which is not in the view. Since items outside the view are not tracked, the view is recomputed in such case.
+	 *
+	 * @return whether the change has been handled
+	 */
+	private boolean reshape(ListChangeListener.Change<? extends T> c) {
+		int count = 0;
+		while (c.next()) {
+			boolean replaced = c.wasReplaced() && c.getAddedSize() == c.getRemovedSize();
+			if (c.wasPermutated() || (!c.wasUpdated() && !replaced)) {
+				c.reset();
+				return false;
+			}
+			count += c.getTo() - c.getFrom();
+		}
+		c.reset();
+		if (count > 16 && count > getSource().size() / RESHAPE_RATIO) return false;
+
+		// Collect the changed items
+		Predicate<? super T> filter = getPredicate();
+		BitSet changed = new BitSet(getSource().size());
+		Map<Integer, T> oldItems = new HashMap<>();
+		while (c.next()) {
+			for (int i = c.getFrom(); i < c.getTo(); i++) {
+				changed.set(i);
+				oldItems.put(i, c.wasUpdated() ? getSource().get(i) : c.getRemoved().get(i - c.getFrom()));
+			}
+		}
+		c.reset();
+
+		// Remove them from the view, from the last to keep the positions valid.
+		// The remaining indexes are still sorted, which is needed by the binary insertion
+		boolean wasFull = isLimited() && indexes.size() >= getLimit();
+		for (int i = indexes.size() - 1; i >= 0; i--) {
+			int index = indexes.get(i);
+			if (changed.get(index)) {
+				indexes.remove(i);
+				nextRemove(i, oldItems.get(index));
+			}
+		}
+
+		// Re-insert those that pass the predicate
+		for (int i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1)) {
+			T item = getSource().get(i);
+			if (filter != null && !filter.test(item)) continue;
+			int pos = insertionPoint(i, item);
+			indexes.add(pos, i);
+			nextAdd(pos, pos + 1);
+		}
+
+		if (isLimited()) {
+			// If the view was full, the items outside it rank after all the unchanged items in the view
+			// but may rank before the changed ones. So the view is valid only if the first K items are
+			// followed by an unchanged one (or are unchanged themselves)
+			int limit = getLimit();
+			if (wasFull) {
+				int known = indexes.size();
+				while (known > 0 && changed.get(indexes.get(known - 1))) known--;
+				if (known < limit) {
+					rebuild();
+					return true;
+				}
+			}
+			for (int i = indexes.size() - 1; i >= limit; i--) {
+				T evicted = getSource().get(indexes.remove(i));
+				nextRemove(i, evicted);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Finds the position at which the given item must be inserted in the view, by binary search.
+	 * Ties are broken by source index, the same order produced by a stable sort.
+	 */
+	private int insertionPoint(int sourceIndex, T item) {
+		Comparator<? super T> sorter = getComparator();
+		int low = 0;
+		int high = indexes.size();
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			int other = indexes.get(mid);
+			int cmp = sorter != null ? sorter.compare(item, getSource().get(other)) : 0;
+			if (cmp == 0) cmp = Integer.compare(sourceIndex, other);
+			if (cmp > 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Recomputes the view while a change is being built, as a removal of all the items followed by an addition.
+	 */
+	private void rebuild() {
+		List<T> removed = new ArrayList<>(this);
+		indexes.clear();
+		indexes.addAll(computeIndexes());
+		if (!removed.isEmpty()) nextRemove(0, removed);
+		if (!indexes.isEmpty()) nextAdd(0, size());
+	}
+
+	/**
+	 * @return an identity based map of the items in the view to the number of times they appear in it. If the given
+	 * change is not null, the indexes are considered as indexes of the source before the change, see {@link #oldItem(ListChangeListener.Change, int)}
+	 */
+	private Map<T, int[]> viewItems(ListChangeListener.Change<? extends T> c) {
+		Map<T, int[]> items = new IdentityHashMap<>();
+		for (Integer index : indexes) {
+			T item = (c != null) ? oldItem(c, index) : getSource().get(index);
+			items.computeIfAbsent(item, i -> new int[1])[0]++;
+		}
+		return items;
+	}
+
+	/**
+	 * @return the item which was at the given index of the source before the given change, by following
+	 * the index through the sub-changes
+	 */
+	private T oldItem(ListChangeListener.Change<? extends T> c, int index) {
+		int pos = index;
+		while (c.next()) {
+			if (c.wasPermutated()) {
+				if (pos >= c.getFrom() && pos < c.getTo()) pos = c.getPermutation(pos);
+			} else if (!c.wasUpdated() && pos >= c.getFrom()) {
+				if (pos < c.getFrom() + c.getRemovedSize()) {
+					T item = c.getRemoved().get(pos - c.getFrom());
+					c.reset();
+					return item;
+				}
+				pos += c.getAddedSize() - c.getRemovedSize();
+			}
+		}
+		c.reset();
+		return getSource().get(pos);
+	}
+
+	private static <T> int occurrences(Map<T, int[]> items, T item) {
+		int[] count = items.get(item);
+		return count != null ? count[0] : 0;
+	}
+
+	/**
+	 * @return a {@link BitSet} containing the source indexes of the items currently in the view
+	 */
+	private BitSet members() {
+		BitSet members = new BitSet(getSource().size());
+		for (Integer index : indexes) {
+			members.set(index);
+		}
+		return members;
+	}
+
+	/**
+	 * Updates the registered {@link ColumnIndex}es according to the given change.
+	 */
+	private void updateIndexes(ListChangeListener.Change<? extends T> c) {
+		for (ColumnIndex<T, ?> index : columnIndexes.values()) {
+			index.sourceChanged(c);
+			c.reset();
+		}
+	}
+
+	private void notifyEntered(T item) {
+		for (ViewListener<? super T> listener : viewListeners) {
+			listener.itemEntered(item);
+		}
+	}
+
+	private void notifyLeft(T item) {
+		for (ViewListener<? super T> listener : viewListeners) {
+			listener.itemLeft(item);
+		}
+	}
+
+	private void notifyViewChanged() {
+		for (ViewListener<? super T> listener : viewListeners) {
+			listener.viewChanged();
+		}
+	}
+
 	/**
 	 * Core method of TransformableLists. This is responsible for computing
 	 * the transformed indexes by creating a {@link SortedMap} and mapping every index from 0 to source size
 	 * to its item. Before mapping, items are filtered with the given predicate, {@link #predicateProperty()}.
 	 * Before returning, the map's entry set is sorted by its values with the given comparator, {@link #comparatorProperty()}.
 	 * Finally, returns the map's key set, this set contains the transformed indexes, filtered and sorted.
+	 * <p></p>
+	 * If the predicate is an {@link IndexedPredicate}, the filtered indexes are computed by {@link IndexedPredicate#matches(TransformableList)}
+	 * rather than by testing each item, unless it returns null.
+	 * Similarly, if the comparator is an {@link IndexedComparator}, the order is given by {@link IndexedComparator#order(TransformableList)}.
+	 * <p></p>
+	 * If the view is limited, see {@link #limitProperty()}, only the first K indexes are returned. When sorting with a
+	 * regular comparator, they are selected with {@link #topK(SortedMap, Comparator, int)} rather than by sorting all the items.
 	 */
+	@SuppressWarnings("unchecked")
 	private Collection<Integer> computeIndexes() {
 		Predicate<? super T> filter = this.getPredicate();
 		Comparator<? super T> sorter = this.getComparator();
+		BitSet matches = (filter instanceof IndexedPredicate) ? ((IndexedPredicate<T>) filter).matches(this) : null;
 		SortedMap<Integer, T> sourceMap;
-		if (filter != null) {
+		if (matches != null) {
+			sourceMap = matches.stream()
+					.collect(TreeMap::new, (map, index) -> map.put(index, getSource().get(index)), TreeMap::putAll);
+		} else if (filter != null) {
 			sourceMap = IntStream.range(0, getSource().size())
 					.filter((index) -> filter.test(getSource().get(index)))
 					.collect(TreeMap::new, (map, index) -> map.put(index, getSource().get(index)), TreeMap::putAll);
@@ -168,12 +584,68 @@ private Collection<Integer> computeIndexes() {
 					.collect(TreeMap::new, (map, index) -> map.put(index, getSource().get(index)), TreeMap::putAll);
 		}
 
+		int limit = isLimited() ? Math.min(getLimit(), sourceMap.size()) : sourceMap.size();
+		int[] order = (sorter instanceof IndexedComparator) ? ((IndexedComparator<T>) sorter).order(this) : null;
+		if (order != null) {
+			List<Integer> sorted = new ArrayList<>(limit);
+			for (int i = 0; i < order.length && sorted.size() < limit; i++) {
+				if (sourceMap.containsKey(order[i])) sorted.add(order[i]);
+			}
+			return sorted;
+		}
+
+		if (limit < sourceMap.size()) {
+			return sorter != null ?
+					topK(sourceMap, sorter, limit) :
+					sourceMap.keySet().stream().limit(limit).collect(Collectors.toList());
+		}
+
 		return sorter != null ? sourceMap.entrySet().stream()
 				.sorted((o1, o2) -> sorter.compare(o1.getValue(), o2.getValue()))
 				.map(Map.Entry::getKey)
 				.collect(Collectors.toList()) : sourceMap.keySet();
 	}
 
+	/**
+	 * Selects the first K entries of the given map according to the given comparator, in O(n log k).
+	 * <p>
+	 * The entries are offered to a bounded heap whose head is the worst of the K best entries found so far,
+	 * it is evicted whenever the heap grows past K. Ties are broken by source index, so the result is the same
+	 * as sorting all the entries with a stable sort and taking the first K.
+	 *
+	 * @return the indexes of the selected entries, sorted
+	 */
+	private List<Integer> topK(SortedMap<Integer, T> sourceMap, Comparator<? super T> sorter, int k) {
+		Comparator<Map.Entry<Integer, T>> entryComparator = (o1, o2) -> {
+			int cmp = sorter.compare(o1.getValue(), o2.getValue());
+			return cmp != 0 ? cmp : Integer.compare(o1.getKey(), o2.getKey());
+		};
+		PriorityQueue<Map.Entry<Integer, T>> heap = new PriorityQueue<>(k + 1, entryComparator.reversed());
+		for (Map.Entry<Integer, T> entry : sourceMap.entrySet()) {
+			if (heap.size() < k) {
+				heap.offer(entry);
+			} else if (entryComparator.compare(entry, heap.peek()) < 0) {
+				heap.poll();
+				heap.offer(entry);
+			}
+		}
+
+		List<Map.Entry<Integer, T>> selected = new ArrayList<>(heap);
+		selected.sort(entryComparator);
+		List<Integer> result = new ArrayList<>(selected.size());
+		for (Map.Entry<Integer, T> entry : selected) {
+			result.add(entry.getKey());
+		}
+		return result;
+	}
+
+	/**
+	 * @return whether the view is currently capped, see {@link #limitProperty()}
+	 */
+	public boolean isLimited() {
+		return getLimit() > 0;
+	}
+
 	public Predicate<? super T> getPredicate() {
 		return this.predicate.get();
 	}
@@ -216,6 +688,28 @@ public void setComparator(Comparator<T> comparator, boolean reversed) {
 		this.comparator.set(comparator);
 	}
 
+	public int getLimit() {
+		return limit.get();
+	}
+
+	/**
+	 * Specifies the maximum number of items in the view, a value lesser or equal to 0 means no limit.
+	 * <p>
+	 * When set, the view contains only the first K items that pass the predicate, in the comparator's order
+	 * (or in source order if there is no comparator). The items are selected with a bounded heap, which is much
+	 * cheaper than sorting all of them for a "top 10 of a million" kind of view.
+	 * <p>
+	 * Note that when the view is limited, changing the comparator changes the items in the view too, so
+	 * {@link ViewListener}s are notified accordingly.
+	 */
+	public IntegerProperty limitProperty() {
+		return limit;
+	}
+
+	public void setLimit(int limit) {
+		this.limit.set(limit);
+	}
+
 	/**
 	 * Specifies if a reversed comparator is being used.
 	 */
@@ -238,12 +732,23 @@ public void setReversed(boolean reversed) {
 	/**
 	 * {@inheritDoc}
 	 * <p></p>
-	 * Calls {@link #update()}.
+	 * Updates the view, see {@link #reshape(ListChangeListener.Change)}, but before that, if there are {@link ViewListener}s registered,
+	 * the change is processed to notify them of the items that entered or left the view.
+	 * Also updates the registered {@link ColumnIndex}es.
 	 */
 	@Override
 	protected void sourceChanged(ListChangeListener.Change<? extends T> c) {
 		beginChange();
-		update();
+		sourceVersion++;
+		if (!viewListeners.isEmpty() && isLimited()) {
+			limitedSourceChanged(c);
+			endChange();
+			return;
+		}
+
+		if (!viewListeners.isEmpty()) processViewChange(c);
+		if (!columnIndexes.isEmpty()) updateIndexes(c);
+		applyChange(c);
 		endChange();
 	}
 
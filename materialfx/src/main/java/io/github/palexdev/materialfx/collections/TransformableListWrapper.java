@@ -21,6 +21,7 @@
 import io.github.palexdev.materialfx.beans.properties.functional.ComparatorProperty;
 import io.github.palexdev.materialfx.beans.properties.functional.PredicateProperty;
 import javafx.beans.InvalidationListener;
+import javafx.beans.property.IntegerProperty;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.TransformationList;
@@ -318,6 +319,21 @@ public void setComparator(Comparator<T> sorter, boolean reversed) {
 		transformableList.setComparator(sorter, reversed);
 	}
 
+	public int getLimit() {
+		return transformableList.getLimit();
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#limitProperty()}.
+	 */
+	public IntegerProperty limitProperty() {
+		return transformableList.limitProperty();
+	}
+
+	public void setLimit(int limit) {
+		transformableList.setLimit(limit);
+	}
+
 	/**
 	 * Delegate for {@link TransformableList#isReversed()}.
 	 */
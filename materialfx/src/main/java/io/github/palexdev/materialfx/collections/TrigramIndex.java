@@ -0,0 +1,326 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.collections;
+
+import io.github.palexdev.materialfx.enums.ComparisonOperator;
+import io.github.palexdev.materialfx.utils.ExecutionUtils;
+import io.github.palexdev.materialfx.utils.StringMatcher;
+import javafx.application.Platform;
+
+import java.util.*;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * A {@link ColumnIndex} for String fields which maps each trigram (sequence of three chars, case-folded)
+ * to the sorted list of source indexes whose value contains it.
+ * <p>
+ * This index does not answer comparisons, rather it computes candidates for substring searches, see
+ * {@link #candidates(BiPredicate, String)}: a value can contain the query (even ignoring case) only if it contains all the
+ * query's trigrams. The candidates are then verified with the actual predicate.
+ * <p></p>
+ * The posting lists are built on a background thread, see {@link ExecutionUtils#runInBackground(Runnable)}, until
+ * then no candidates are produced and searches fall back to testing every item. Values replaced or appended while building
+ * are reindexed when the build completes.
+ * <p>
+ * Once built, replacements and appends are applied incrementally, while insertions and removals, which
+ * shift the source indexes, cause the posting lists to be rebuilt in background.
+ * <p></p>
+ * This class must be used on the JavaFX Application Thread, like the {@link TransformableList} it belongs to.
+ */
+public class TrigramIndex<T> extends ColumnIndex<T, String> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final List<String> values = new ArrayList<>();
+	private Map<Long, Postings> postings;
+
+	private boolean building = false;
+	private boolean shifted = false;
+	private final BitSet dirty = new BitSet();
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public TrigramIndex(Function<T, String> extractor) {
+		super(extractor);
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * @return whether the posting lists are built and up to date
+	 */
+	public boolean isReady() {
+		return postings != null;
+	}
+
+	/**
+	 * Starts building the posting lists on a background thread from a snapshot of the current values.
+	 * <p>
+	 * If a build is already running, a new one is started when it completes.
+	 */
+	private void schedule() {
+		if (building) {
+			shifted = true;
+			return;
+		}
+		building = true;
+		shifted = false;
+		dirty.clear();
+		List<String> snapshot = new ArrayList<>(values);
+		ExecutionUtils.runInBackground(() -> {
+			Map<Long, Postings> built = null;
+			try {
+				built = index(snapshot);
+			} finally {
+				Map<Long, Postings> result = built;
+				Platform.runLater(() -> completed(snapshot, result));
+			}
+		});
+	}
+
+	private void completed(List<String> snapshot, Map<Long, Postings> built) {
+		building = false;
+		if (built == null) return;
+		if (shifted) {
+			schedule();
+			return;
+		}
+
+		postings = built;
+		for (int i = dirty.nextSetBit(0); i >= 0; i = dirty.nextSetBit(i + 1)) {
+			if (i < snapshot.size()) remove(snapshot.get(i), i);
+			add(values.get(i), i);
+		}
+		dirty.clear();
+	}
+
+	private static Map<Long, Postings> index(List<String> values) {
+		Map<Long, Postings> postings = new HashMap<>();
+		for (int i = 0; i < values.size(); i++) {
+			String value = values.get(i);
+			if (value == null) continue;
+			for (int j = 0; j + 2 < value.length(); j++) {
+				postings.computeIfAbsent(trigram(value, j), k -> new Postings()).append(i);
+			}
+		}
+		return postings;
+	}
+
+	private void add(String value, int index) {
+		if (value == null) return;
+		for (int j = 0; j + 2 < value.length(); j++) {
+			postings.computeIfAbsent(trigram(value, j), k -> new Postings()).insert(index);
+		}
+	}
+
+	private void remove(String value, int index) {
+		if (value == null) return;
+		for (int j = 0; j + 2 < value.length(); j++) {
+			long key = trigram(value, j);
+			Postings list = postings.get(key);
+			if (list == null) continue;
+			list.remove(index);
+			if (list.size == 0) postings.remove(key);
+		}
+	}
+
+	/**
+	 * Packs the case-folded trigram starting at the given position in a long.
+	 */
+	private static long trigram(String s, int start) {
+		return ((long) StringMatcher.fold(s.charAt(start)) << 32) |
+				((long) StringMatcher.fold(s.charAt(start + 1)) << 16) |
+				StringMatcher.fold(s.charAt(start + 2));
+	}
+
+	/**
+	 * Computes the candidates for a substring search, that is the source indexes of the values which contain
+	 * all the trigrams of the given query.
+	 * <p>
+	 * Candidates are computed only if the index is ready, the query has at least three chars and the given predicate
+	 * is a {@link StringMatcher.Compiler} which implies a substring match, see {@link StringMatcher.Compiler#isSubstring()}.
+	 *
+	 * @return the candidates, or null if they cannot be computed
+	 */
+	@Override
+	public BitSet candidates(BiPredicate<String, String> predicate, String query) {
+		if (postings == null || query == null || query.length() < 3) return null;
+		if (!(predicate instanceof StringMatcher.Compiler) || !((StringMatcher.Compiler) predicate).isSubstring()) return null;
+
+		Set<Long> keys = new HashSet<>();
+		for (int j = 0; j + 2 < query.length(); j++) {
+			keys.add(trigram(query, j));
+		}
+		List<Postings> lists = new ArrayList<>(keys.size());
+		for (Long key : keys) {
+			Postings list = postings.get(key);
+			if (list == null) return new BitSet();
+			lists.add(list);
+		}
+		lists.sort(Comparator.comparingInt(list -> list.size));
+
+		int[] current = Arrays.copyOf(lists.get(0).data, lists.get(0).size);
+		int size = current.length;
+		for (int l = 1; l < lists.size() && size > 0; l++) {
+			size = lists.get(l).intersect(current, size);
+		}
+
+		BitSet result = new BitSet();
+		for (int i = 0; i < size; i++) {
+			result.set(current[i]);
+		}
+		return result;
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+	@Override
+	public void build(List<? extends T> source) {
+		values.clear();
+		for (T item : source) {
+			values.add(extractor.apply(item));
+		}
+		size = values.size();
+		postings = null;
+		schedule();
+	}
+
+	@Override
+	protected void replaced(int from, List<? extends T> items) {
+		for (int i = 0; i < items.size(); i++) {
+			int index = from + i;
+			String oldValue = values.get(index);
+			String newValue = extractor.apply(items.get(i));
+			if (Objects.equals(oldValue, newValue)) continue;
+			values.set(index, newValue);
+			if (postings != null) {
+				remove(oldValue, index);
+				add(newValue, index);
+			} else {
+				dirty.set(index);
+			}
+		}
+	}
+
+	@Override
+	protected void removed(int from, int count) {
+		values.subList(from, from + count).clear();
+		postings = null;
+		schedule();
+	}
+
+	@Override
+	protected void added(int from, List<? extends T> items) {
+		if (from != values.size()) {
+			List<String> added = new ArrayList<>(items.size());
+			for (T item : items) {
+				added.add(extractor.apply(item));
+			}
+			values.addAll(from, added);
+			postings = null;
+			schedule();
+			return;
+		}
+
+		for (T item : items) {
+			int index = values.size();
+			String value = extractor.apply(item);
+			values.add(value);
+			if (postings != null) {
+				add(value, index);
+			} else {
+				dirty.set(index);
+			}
+		}
+	}
+
+	@Override
+	public boolean supports(ComparisonOperator operator) {
+		return false;
+	}
+
+	@Override
+	public BitSet lookup(ComparisonOperator operator, String value) {
+		return null;
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * A sorted list of source indexes, backed by a primitive array.
+	 */
+	private static class Postings {
+		private int[] data = new int[4];
+		private int size = 0;
+
+		/**
+		 * Adds the given index at the end, ignores it if it's equal to the last one.
+		 */
+		void append(int index) {
+			if (size > 0 && data[size - 1] == index) return;
+			if (size == data.length) data = Arrays.copyOf(data, size * 2);
+			data[size++] = index;
+		}
+
+		void insert(int index) {
+			int pos = Arrays.binarySearch(data, 0, size, index);
+			if (pos >= 0) return;
+			pos = -pos - 1;
+			if (size == data.length) data = Arrays.copyOf(data, size * 2);
+			System.arraycopy(data, pos, data, pos + 1, size - pos);
+			data[pos] = index;
+			size++;
+		}
+
+		void remove(int index) {
+			int pos = Arrays.binarySearch(data, 0, size, index);
+			if (pos < 0) return;
+			System.arraycopy(data, pos + 1, data, pos, size - pos - 1);
+			size--;
+		}
+
+		/**
+		 * Retains in the given sorted array only the indexes contained in this list.
+		 *
+		 * @return the new number of indexes in the array
+		 */
+		int intersect(int[] indexes, int count) {
+			int w = 0;
+			int j = 0;
+			for (int i = 0; i < count; i++) {
+				int index = indexes[i];
+				j = Arrays.binarySearch(data, j, size, index);
+				if (j >= 0) {
+					indexes[w++] = index;
+				} else {
+					j = -j - 1;
+				}
+				if (j >= size) break;
+			}
+			return w;
+		}
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.collections;
+
+/**
+ * A listener that can be registered on a {@link TransformableList} to be notified of which items
+ * enter or leave the view, see {@link TransformableList#addViewListener(ViewListener)}.
+ * <p>
+ * Unlike a {@link javafx.collections.ListChangeListener}, this only cares about the set of items that pass the
+ * predicate and ignores their order. This means that sorting the list does not produce any notification, and
+ * filtering notifies only the items that actually changed their state.
+ * <p>
+ * An item that is updated while being in the view (signaled by the source list through an update change)
+ * is first notified as left and then as entered again.
+ * <p></p>
+ * After each batch of notifications {@link #viewChanged()} is called.
+ */
+public interface ViewListener<T> {
+
+	/**
+	 * Called when the given item enters the view.
+	 */
+	void itemEntered(T item);
+
+	/**
+	 * Called when the given item leaves the view.
+	 */
+	void itemLeft(T item);
+
+	/**
+	 * Called at the end of each batch of notifications.
+	 */
+	default void viewChanged() {
+	}
+}
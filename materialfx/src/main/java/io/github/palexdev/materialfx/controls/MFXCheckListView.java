@@ -220,6 +220,14 @@ public Theme getTheme() {
 		return MaterialFXStylesheets.CHECK_LIST_VIEW;
 	}
 
+	/**
+	 * In check lists the selection is the set of checked items, so typeahead only scrolls to the found item.
+	 */
+	@Override
+	public boolean isTypeaheadSelecting() {
+		return false;
+	}
+
 	/**
 	 * Sets the default factory for the cells.
 	 */
@@ -104,6 +104,7 @@
     private final ListChangeListener<? super T> itemsChanged = this::itemsChanged;
     private final ConsumerProperty<String> onCommit = new ConsumerProperty<>();
     private final ConsumerProperty<String> onCancel = new ConsumerProperty<>();
+    private final Typeahead<T> typeahead = new Typeahead<>(items, converter);
 
     protected static final PseudoClass POPUP_OPEN_PSEUDO_CLASS = PseudoClass.getPseudoClass("popup");
 
@@ -399,6 +400,13 @@ public MFXValidator getValidator() {
             false
     );
 
+    private final StyleableBooleanProperty typeaheadEnabled = new StyleableBooleanProperty(
+            StyleableProperties.TYPEAHEAD_ENABLED,
+            this,
+            "typeaheadEnabled",
+            true
+    );
+
     public int getRowsCount() {
         return rowsCount.get();
     }
@@ -430,6 +438,24 @@ public void setScrollOnOpen(boolean scrollOnOpen) {
         this.scrollOnOpen.set(scrollOnOpen);
     }
 
+    public boolean isTypeaheadEnabled() {
+        return typeaheadEnabled.get();
+    }
+
+    /**
+     * Specifies whether typing on a non-editable combo box selects the first item
+     * whose text starts with the typed chars, see {@link #getTypeahead()}.
+     * <p>
+     * Enabled by default, set this to false to keep the previous behavior, in which typing doesn't change the selection.
+     */
+    public StyleableBooleanProperty typeaheadEnabledProperty() {
+        return typeaheadEnabled;
+    }
+
+    public void setTypeaheadEnabled(boolean typeaheadEnabled) {
+        this.typeaheadEnabled.set(typeaheadEnabled);
+    }
+
     //================================================================================
     // CSSMetaData
     //================================================================================
@@ -451,10 +477,17 @@ private static class StyleableProperties {
                         false
                 );
 
+        private static final CssMetaData<MFXComboBox<?>, Boolean> TYPEAHEAD_ENABLED =
+                FACTORY.createBooleanCssMetaData(
+                        "-mfx-typeahead-enabled",
+                        MFXComboBox::typeaheadEnabledProperty,
+                        true
+                );
+
         static {
             cssMetaDataList = StyleablePropertiesUtils.cssMetaDataList(
                     MFXTextField.getClassCssMetaData(),
-                    ROWS_COUNT, SCROLL_ON_OPEN
+                    ROWS_COUNT, SCROLL_ON_OPEN, TYPEAHEAD_ENABLED
             );
         }
     }
@@ -635,6 +668,13 @@ public ComboBoxSelectionModel<T> getSelectionModel() {
         return selectionModel;
     }
 
+    /**
+     * @return the {@link Typeahead} used to find items by the typed text, built on the combo's items and converter
+     */
+    public Typeahead<T> getTypeahead() {
+        return typeahead;
+    }
+
     //================================================================================
     // Events
     //================================================================================
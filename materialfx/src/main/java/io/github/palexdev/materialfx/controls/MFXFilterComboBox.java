@@ -19,21 +19,26 @@
 package io.github.palexdev.materialfx.controls;
 
 import io.github.palexdev.materialfx.beans.properties.functional.FunctionProperty;
+import io.github.palexdev.materialfx.collections.ColumnIndex;
+import io.github.palexdev.materialfx.collections.IndexedPredicate;
 import io.github.palexdev.materialfx.collections.TransformableList;
 import io.github.palexdev.materialfx.collections.TransformableListWrapper;
+import io.github.palexdev.materialfx.collections.TrigramIndex;
 import io.github.palexdev.materialfx.controls.cell.MFXComboBoxCell;
 import io.github.palexdev.materialfx.controls.cell.MFXFilterComboBoxCell;
 import io.github.palexdev.materialfx.skins.MFXFilterComboBoxSkin;
 import io.github.palexdev.materialfx.theming.MaterialFXStylesheets;
 import io.github.palexdev.materialfx.theming.base.Theme;
-import io.github.palexdev.materialfx.utils.StringUtils;
+import io.github.palexdev.materialfx.utils.StringMatcher;
 import javafx.beans.InvalidationListener;
-import javafx.beans.property.SimpleStringProperty;
-import javafx.beans.property.StringProperty;
+import javafx.beans.property.*;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.control.Skin;
+import javafx.util.Duration;
 
+import java.util.BitSet;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -48,6 +53,9 @@
  * the comparator is in reverse order otherwise indexes will be inconsistent.
  * <p> - A function that takes the typed search text as an input and builds a {@link Predicate} as a result to
  * filter the list. This means that the user can fully customize how the list is filtered.
+ * <p> - Filtering is debounced while typing, see {@link #searchDelayProperty()} and {@link #searchMaxLatencyProperty()}
+ * <p> - An optional {@link TrigramIndex} on the items' string representation, see {@link #searchIndexedProperty()}.
+ * The default filter function uses it to find the candidates before testing them
  * <p></p>
  * Note: this combo box do not use {@link MFXComboBoxCell} and while it does allow it it should never be used.
  * Use {@link MFXFilterComboBoxCell} instead for consistent selection behavior.
@@ -56,11 +64,25 @@
 	//================================================================================
 	// Properties
 	//================================================================================
+	private static final StringMatcher.Compiler SEARCH_PREDICATE = StringMatcher.cached(StringMatcher::containsIgnoreCase, true);
 	private final String STYLECLASS = "mfx-filter-combo-box";
 
 	private final StringProperty searchText = new SimpleStringProperty();
 	private final TransformableListWrapper<T> filterList = new TransformableListWrapper<>(FXCollections.observableArrayList());
-	private final FunctionProperty<String, Predicate<T>> filterFunction = new FunctionProperty<>(s -> t -> StringUtils.containsIgnoreCase(t.toString(), s));
+	private final Function<T, String> searchExtractor = Object::toString;
+	private final FunctionProperty<String, Predicate<T>> filterFunction = new FunctionProperty<>(SearchPredicate::new);
+	private final BooleanProperty searchIndexed = new SimpleBooleanProperty(false) {
+		@Override
+		protected void invalidated() {
+			if (get()) {
+				getFilterList().addIndex(new TrigramIndex<>(searchExtractor));
+			} else {
+				getFilterList().removeIndex(searchExtractor);
+			}
+		}
+	};
+	private final ObjectProperty<Duration> searchDelay = new SimpleObjectProperty<>(Duration.millis(150));
+	private final ObjectProperty<Duration> searchMaxLatency = new SimpleObjectProperty<>(Duration.millis(500));
 	private boolean resetOnPopupHidden = true;
 
 	private final InvalidationListener itemsChanged = invalidated -> filterList.setAll(getItems());
@@ -137,6 +159,59 @@ public void setFilterFunction(Function<String, Predicate<T>> filterFunction) {
 		this.filterFunction.set(filterFunction);
 	}
 
+	public boolean isSearchIndexed() {
+		return searchIndexed.get();
+	}
+
+	/**
+	 * Specifies whether to maintain a {@link TrigramIndex} on the items' string representation.
+	 * <p>
+	 * The index is built in background and speeds up the default filter function on large lists,
+	 * at the cost of some memory.
+	 */
+	public BooleanProperty searchIndexedProperty() {
+		return searchIndexed;
+	}
+
+	public void setSearchIndexed(boolean searchIndexed) {
+		this.searchIndexed.set(searchIndexed);
+	}
+
+	public Duration getSearchDelay() {
+		return searchDelay.get();
+	}
+
+	/**
+	 * Specifies how long to wait after the last change of the {@link #searchTextProperty()} before filtering the list.
+	 * <p>
+	 * This way, fast typing results in a single filter pass rather than one for each keystroke.
+	 * Clearing the search text always filters immediately. Set to {@link Duration#ZERO} to filter on every change.
+	 */
+	public ObjectProperty<Duration> searchDelayProperty() {
+		return searchDelay;
+	}
+
+	public void setSearchDelay(Duration searchDelay) {
+		this.searchDelay.set(searchDelay);
+	}
+
+	public Duration getSearchMaxLatency() {
+		return searchMaxLatency.get();
+	}
+
+	/**
+	 * Specifies the maximum time a change of the {@link #searchTextProperty()} can be delayed, see {@link #searchDelayProperty()}.
+	 * <p>
+	 * This guarantees that the list is updated periodically even if the user keeps typing.
+	 */
+	public ObjectProperty<Duration> searchMaxLatencyProperty() {
+		return searchMaxLatency;
+	}
+
+	public void setSearchMaxLatency(Duration searchMaxLatency) {
+		this.searchMaxLatency.set(searchMaxLatency);
+	}
+
 	/**
 	 * @return whether to reset the filter state, such as the {@link #searchTextProperty()}
 	 * when the popup is closed
@@ -166,4 +241,44 @@ public Theme getTheme() {
 	protected Skin<?> createDefaultSkin() {
 		return new MFXFilterComboBoxSkin<>(this, boundField);
 	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * The predicate built by the default filter function, checks if an item's string representation
+	 * contains the search text, ignoring case.
+	 * <p>
+	 * If the list has a {@link TrigramIndex}, see {@link #searchIndexedProperty()}, only its candidates are tested.
+	 */
+	private class SearchPredicate implements IndexedPredicate<T> {
+		private final String query;
+		private final StringMatcher matcher;
+
+		SearchPredicate(String query) {
+			this.query = query != null ? query : "";
+			this.matcher = StringMatcher.containsIgnoreCase(this.query);
+		}
+
+		@Override
+		public boolean test(T t) {
+			return matcher.test(searchExtractor.apply(t));
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public BitSet matches(TransformableList<T> list) {
+			ColumnIndex<T, String> index = (ColumnIndex<T, String>) list.getIndex(searchExtractor);
+			BitSet candidates = index != null ? index.candidates(SEARCH_PREDICATE, query) : null;
+			if (candidates == null) return null;
+
+			List<? extends T> source = list.getSource();
+			BitSet result = new BitSet();
+			for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+				if (test(source.get(i))) result.set(i);
+			}
+			return result;
+		}
+	}
 }
@@ -21,6 +21,8 @@
 import io.github.palexdev.materialfx.beans.FilterBean;
 import io.github.palexdev.materialfx.controls.base.Themable;
 import io.github.palexdev.materialfx.enums.ChainMode;
+import io.github.palexdev.materialfx.filter.FilterPlan;
+import io.github.palexdev.materialfx.filter.FilterResultCache;
 import io.github.palexdev.materialfx.filter.base.AbstractFilter;
 import io.github.palexdev.materialfx.i18n.I18N;
 import io.github.palexdev.materialfx.skins.MFXFilterPaneSkin;
@@ -30,6 +32,7 @@
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.event.EventHandler;
 import javafx.scene.Parent;
@@ -146,6 +149,7 @@
 	private final StringProperty headerText = new SimpleStringProperty(I18N.getOrDefault("filterPane.headerText"));
 	private final ObservableList<AbstractFilter<T, ?>> filters = FXCollections.observableArrayList();
 	private final ObservableList<FilterBean<T, ?>> activeFilters = FXCollections.observableArrayList();
+	private final FilterResultCache resultCache = new FilterResultCache();
 
 	private EventHandler<MouseEvent> onFilter = event -> {
 	};
@@ -164,32 +168,28 @@ public MFXFilterPane() {
 	//================================================================================
 	private void initialize() {
 		getStyleClass().add(STYLE_CLASS);
+		activeFilters.addListener((ListChangeListener<FilterBean<T, ?>>) c -> {
+			while (c.next()) {
+				c.getRemoved().forEach(resultCache::invalidate);
+			}
+		});
 		sceneBuilderIntegration();
 	}
 
 	/**
 	 * Builds a predicate from the list of built filters (active filters).
 	 * <p></p>
-	 * The {@link FilterBean} are chained by using {@link PredicateUtils#chain(Predicate, Predicate, ChainMode)}.
+	 * The {@link FilterBean}s are compiled to a {@link FilterPlan}, which chains them in the same way
+	 * {@link PredicateUtils#chain(Predicate, Predicate, ChainMode)} would, but extracts each field only once per item
+	 * and evaluates cheap filters first.
+	 * <p>
+	 * The plan uses this pane's {@link FilterResultCache}, so when used on a {@link io.github.palexdev.materialfx.collections.TransformableList},
+	 * filtering again after changing the {@link ChainMode}s or removing a filter only combines the cached results.
 	 * <p></p>
 	 * If the list is empty by default a predicate that always returns true is built.
 	 */
-	public Predicate<T> filter() {
-		Predicate<T> filter = null;
-		ChainMode mode = null;
-
-		for (FilterBean<T, ?> activeFilter : activeFilters) {
-			if (filter == null) {
-				filter = activeFilter.predicate();
-				mode = activeFilter.getMode();
-				continue;
-			}
-
-			filter = PredicateUtils.chain(filter, activeFilter.predicate(), mode);
-			mode = activeFilter.getMode();
-		}
-
-		return filter != null ? filter : t -> true;
+	public FilterPlan<T> filter() {
+		return FilterPlan.compile(activeFilters, resultCache);
 	}
 
 	//================================================================================
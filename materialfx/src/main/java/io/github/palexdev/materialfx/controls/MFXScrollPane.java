@@ -157,7 +157,7 @@ private void setColors() {
 			.addStyle("-thumb-hover-color: " + ColorUtils.toCss(thumbHoverColor.get()))
 			.closeSelector()
 			.toCSS()
-			.toDataUri();
+			.toURL();
 		getStylesheets().add(colorsStylesheet);
 	}
 
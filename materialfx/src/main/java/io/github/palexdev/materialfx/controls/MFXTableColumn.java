@@ -20,10 +20,13 @@
 
 import io.github.palexdev.materialfx.beans.properties.functional.ComparatorProperty;
 import io.github.palexdev.materialfx.beans.properties.functional.FunctionProperty;
+import io.github.palexdev.materialfx.collections.Aggregate;
 import io.github.palexdev.materialfx.controls.cell.MFXTableRowCell;
+import io.github.palexdev.materialfx.enums.AggregateType;
 import io.github.palexdev.materialfx.enums.SortState;
 import io.github.palexdev.materialfx.skins.MFXTableColumnSkin;
 import io.github.palexdev.materialfx.utils.DragResizer;
+import io.github.palexdev.materialfx.utils.NumberUtils;
 import javafx.beans.property.*;
 import javafx.css.PseudoClass;
 import javafx.event.Event;
@@ -36,6 +39,7 @@
 
 import java.util.Comparator;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
 
 /**
  * This is the implementation of the column cells used in the {@link MFXTableView} control.
@@ -62,6 +66,10 @@
  * Unlike the old implementation, where all the "system" was managed by the table view skin, the new implementation vastly
  * improves the separation of roles. The cells' width (mentioned before), the sorting and the icon animation are all handled by the
  * columns now. To communicate with the table skin, the table column now uses {@link Event}s, see {@link MFXTableColumnEvent}.
+ * <p></p>
+ * Columns can also define an aggregate (sum, average, min, max, count) to show in the table's footer, by specifying
+ * the {@link #aggregateFunctionProperty()} and the {@link #aggregateTypeProperty()}. The produced {@link Aggregate} is
+ * kept up to date incrementally by the table view, see {@link #aggregateProperty()}.
  *
  * @see MFXTableColumnSkin
  */
@@ -110,6 +118,26 @@ protected void invalidated() {
 		}
 	};
 
+	private final ObjectProperty<ToDoubleFunction<T>> aggregateFunction = new SimpleObjectProperty<>() {
+		@Override
+		protected void invalidated() {
+			updateAggregate();
+		}
+	};
+
+	private final ObjectProperty<AggregateType> aggregateType = new SimpleObjectProperty<>(AggregateType.SUM) {
+		@Override
+		protected void invalidated() {
+			updateAggregate();
+		}
+	};
+
+	private final ReadOnlyObjectWrapper<Aggregate<T>> aggregate = new ReadOnlyObjectWrapper<>();
+	private final FunctionProperty<Double, String> aggregateConverter = new FunctionProperty<>(value -> {
+		if (value == null || Double.isNaN(value)) return "-";
+		return (getAggregateType() == AggregateType.COUNT) ? String.valueOf(value.longValue()) : NumberUtils.formatToString(value, 2);
+	});
+
 	private final ReadOnlyBooleanWrapper dragged = new ReadOnlyBooleanWrapper();
 	private final BooleanProperty columnResizable = new SimpleBooleanProperty(false);
 	protected static final PseudoClass DRAGGED_PSEUDO_CLASS = PseudoClass.getPseudoClass("dragged");
@@ -166,6 +194,16 @@ private void initialize() {
 		});
 	}
 
+	/**
+	 * Builds a new {@link Aggregate} from the {@link #aggregateFunctionProperty()} and the {@link #aggregateTypeProperty()},
+	 * or sets the {@link #aggregateProperty()} to null if one of them is null.
+	 */
+	protected void updateAggregate() {
+		ToDoubleFunction<T> function = getAggregateFunction();
+		AggregateType type = getAggregateType();
+		aggregate.set((function != null && type != null) ? new Aggregate<>(function, type) : null);
+	}
+
 	//================================================================================
 	// Overridden Methods
 	//================================================================================
@@ -222,6 +260,67 @@ public void setComparator(Comparator<T> comparator) {
 		this.comparator.set(comparator);
 	}
 
+	public ToDoubleFunction<T> getAggregateFunction() {
+		return aggregateFunction.get();
+	}
+
+	/**
+	 * Specifies the function used to extract from each item the value to aggregate.
+	 * <p>
+	 * When null (default), the column has no aggregate.
+	 */
+	public ObjectProperty<ToDoubleFunction<T>> aggregateFunctionProperty() {
+		return aggregateFunction;
+	}
+
+	public void setAggregateFunction(ToDoubleFunction<T> aggregateFunction) {
+		this.aggregateFunction.set(aggregateFunction);
+	}
+
+	public AggregateType getAggregateType() {
+		return aggregateType.get();
+	}
+
+	/**
+	 * Specifies the kind of aggregate to compute, {@link AggregateType#SUM} by default.
+	 */
+	public ObjectProperty<AggregateType> aggregateTypeProperty() {
+		return aggregateType;
+	}
+
+	public void setAggregateType(AggregateType aggregateType) {
+		this.aggregateType.set(aggregateType);
+	}
+
+	public Aggregate<T> getAggregate() {
+		return aggregate.get();
+	}
+
+	/**
+	 * Specifies the {@link Aggregate} built from the {@link #aggregateFunctionProperty()} and the {@link #aggregateTypeProperty()}.
+	 * <p>
+	 * A new instance is built every time one of the two changes, the table view takes care of registering
+	 * it on its {@link io.github.palexdev.materialfx.collections.TransformableList}.
+	 */
+	public ReadOnlyObjectProperty<Aggregate<T>> aggregateProperty() {
+		return aggregate.getReadOnlyProperty();
+	}
+
+	public Function<Double, String> getAggregateConverter() {
+		return aggregateConverter.get();
+	}
+
+	/**
+	 * Specifies the {@link Function} used to convert the aggregate value to the String shown in the table's footer.
+	 */
+	public FunctionProperty<Double, String> aggregateConverterProperty() {
+		return aggregateConverter;
+	}
+
+	public void setAggregateConverter(Function<Double, String> aggregateConverter) {
+		this.aggregateConverter.set(aggregateConverter);
+	}
+
 	public boolean isDragged() {
 		return dragged.get();
 	}
@@ -32,9 +32,11 @@
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.HBox;
+import javafx.util.Duration;
 
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * This is the HBox that contains the table row cells built by each column.
@@ -127,6 +129,30 @@ public void updateRow() {
 		updateRow(data);
 	}
 
+	/**
+	 * Updates the row's cells just like {@link #updateRow()}, but also makes the cells
+	 * whose text changed flash for the given duration, see {@link MFXTableRowCell#flash(Duration)}.
+	 * <p>
+	 * A null or zero duration disables the flash.
+	 * <p></p>
+	 * Used by the table view to refresh the rows whose items have been marked as dirty, see {@link MFXTableView#markDirty(Object)}.
+	 */
+	public void updateRow(Duration flashDuration) {
+		T data = getData();
+		if (data == null) return;
+		if (cells.isEmpty()) {
+			buildCells();
+			return;
+		}
+
+		boolean flash = flashDuration != null && flashDuration.greaterThan(Duration.ZERO);
+		for (MFXTableRowCell<T, ?> cell : cells) {
+			String oldText = cell.getText();
+			cell.update(data);
+			if (flash && !Objects.equals(oldText, cell.getText())) cell.flash(flashDuration);
+		}
+	}
+
 	/**
 	 * Called by the {@link #updateItem(Object)} method.
 	 * Responsible for updating the cells, {@link #updateCells(Object)}, or building them
@@ -19,25 +19,36 @@
 package io.github.palexdev.materialfx.controls;
 
 import io.github.palexdev.materialfx.beans.properties.functional.FunctionProperty;
+import io.github.palexdev.materialfx.collections.Aggregate;
+import io.github.palexdev.materialfx.collections.ColumnIndex;
 import io.github.palexdev.materialfx.collections.TransformableList;
 import io.github.palexdev.materialfx.collections.TransformableListWrapper;
 import io.github.palexdev.materialfx.controls.base.Themable;
 import io.github.palexdev.materialfx.controls.cell.MFXTableRowCell;
+import io.github.palexdev.materialfx.enums.AutosizeMode;
+import io.github.palexdev.materialfx.enums.ExportFormat;
+import io.github.palexdev.materialfx.filter.FilterPlan;
 import io.github.palexdev.materialfx.filter.base.AbstractFilter;
 import io.github.palexdev.materialfx.selection.MultipleSelectionModel;
 import io.github.palexdev.materialfx.selection.base.IMultipleSelectionModel;
 import io.github.palexdev.materialfx.skins.MFXTableViewSkin;
 import io.github.palexdev.materialfx.theming.MaterialFXStylesheets;
 import io.github.palexdev.materialfx.theming.base.Theme;
+import io.github.palexdev.materialfx.utils.ExecutionUtils;
 import io.github.palexdev.materialfx.utils.ListChangeHelper;
 import io.github.palexdev.materialfx.utils.ListChangeProcessor;
+import io.github.palexdev.materialfx.utils.TextUtils;
+import io.github.palexdev.materialfx.utils.others.TableExporter;
 import io.github.palexdev.materialfx.utils.others.observables.When;
 import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
 import io.github.palexdev.virtualizedfx.unused.simple.SimpleVirtualFlow;
-import javafx.beans.InvalidationListener;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 import javafx.beans.property.*;
+import javafx.beans.value.ChangeListener;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
 import javafx.geometry.Orientation;
 import javafx.scene.Parent;
@@ -45,8 +56,18 @@
 import javafx.scene.control.Skin;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
-
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.util.Duration;
+import javafx.util.StringConverter;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 /**
@@ -72,11 +93,31 @@
 	private final ObservableList<MFXTableColumn<T>> tableColumns = FXCollections.observableArrayList();
 	private final FunctionProperty<T, MFXTableRow<T>> tableRowFactory = new FunctionProperty<>(item -> new MFXTableRow<>(this, item));
 
-	private final TransformableListWrapper<T> transformableList = new TransformableListWrapper<>(FXCollections.observableArrayList());
+	private final MirrorList<T> mirrorList = new MirrorList<>();
+	private final TransformableListWrapper<T> transformableList = new TransformableListWrapper<>(mirrorList);
 	private final ObservableList<AbstractFilter<T, ?>> filters = FXCollections.observableArrayList();
-	private final InvalidationListener itemsInvalid = invalidated -> transformableList.setAll(getItems());
+	private final ListChangeListener<? super T> itemsMirror = this::mirrorChange;
+	private final ListChangeListener<MFXTableColumn<T>> columnsChanged = this::columnsChanged;
+	private final ChangeListener<Aggregate<T>> aggregateChanged = (observable, oldValue, newValue) -> {
+		if (oldValue != null) transformableList.getTransformableList().removeViewListener(oldValue);
+		if (newValue != null) transformableList.getTransformableList().addViewListener(newValue);
+	};
 	private final BooleanProperty footerVisible = new SimpleBooleanProperty(true);
 
+	private final Set<T> dirtyItems = ConcurrentHashMap.newKeySet();
+	private final AtomicBoolean dirtyScheduled = new AtomicBoolean(false);
+	private final AnimationTimer dirtyProcessor = new AnimationTimer() {
+		@Override
+		public void handle(long now) {
+			stop();
+			dirtyScheduled.set(false);
+			processDirty();
+		}
+	};
+	private final ObjectProperty<Duration> changeFlashDuration = new SimpleObjectProperty<>(Duration.ZERO);
+	private final ObjectProperty<AutosizeMode> autosizeMode = new SimpleObjectProperty<>(AutosizeMode.VISIBLE);
+	private final IntegerProperty autosizeSampleSize = new SimpleIntegerProperty(1000);
+
 	//================================================================================
 	// Constructors
 	//================================================================================
@@ -107,20 +148,50 @@ private void initialize() {
 		itemsProperty().addListener((observable, oldValue, newValue) -> {
 			if (oldValue != null) {
 				oldValue.removeListener(itemsChanged);
-				oldValue.removeListener(itemsInvalid);
+				oldValue.removeListener(itemsMirror);
 			}
 			if (newValue != null) {
 				newValue.addListener(itemsChanged);
-				newValue.addListener(itemsInvalid);
+				newValue.addListener(itemsMirror);
 				transformableList.setAll(newValue);
 			}
 		});
 
 		getItems().addListener(itemsChanged);
-		getItems().addListener(itemsInvalid);
+		getItems().addListener(itemsMirror);
+		tableColumns.addListener(columnsChanged);
 		sceneBuilderIntegration();
 	}
 
+	/**
+	 * Responsible for keeping the list used by the {@link TransformableListWrapper} in sync with the items list.
+	 * <p>
+	 * Changes are applied incrementally rather than copying the whole list, and each change of the items list is
+	 * mirrored as a single change with the same structure (permutations, updates, additions and removals), so that
+	 * the {@link TransformableList} and its {@link io.github.palexdev.materialfx.collections.ViewListener}s (such as
+	 * the columns' aggregates) process it only once and only for what actually changed.
+	 */
+	protected void mirrorChange(ListChangeListener.Change<? extends T> c) {
+		mirrorList.mirror(c);
+	}
+
+	/**
+	 * Responsible for registering/unregistering the columns' {@link Aggregate}s on the {@link TransformableList}
+	 * when columns are added/removed or when their aggregate changes.
+	 */
+	private void columnsChanged(ListChangeListener.Change<? extends MFXTableColumn<T>> c) {
+		while (c.next()) {
+			for (MFXTableColumn<T> column : c.getRemoved()) {
+				column.aggregateProperty().removeListener(aggregateChanged);
+				if (column.getAggregate() != null) transformableList.getTransformableList().removeViewListener(column.getAggregate());
+			}
+			for (MFXTableColumn<T> column : c.getAddedSubList()) {
+				column.aggregateProperty().addListener(aggregateChanged);
+				if (column.getAggregate() != null) transformableList.getTransformableList().addViewListener(column.getAggregate());
+			}
+		}
+	}
+
 	/**
 	 * Responsible for updating the selection when the items list changes.
 	 */
@@ -155,6 +226,70 @@ public void update() {
 		rowsFlow.getCells().values().forEach(MFXTableRow::updateRow);
 	}
 
+	/**
+	 * Marks the given item as dirty, meaning that one or more of its fields changed and the row
+	 * showing it (if any) needs to be refreshed.
+	 * <p>
+	 * This is meant for high-frequency updates and can be safely called from any thread.
+	 * Dirty items are collected in a concurrent set, so marking the same item multiple times before
+	 * the next pulse results in a single refresh. The set is processed once per pulse on the JavaFX thread by
+	 * {@link #processDirty()}, which updates only the currently built rows whose item has been marked.
+	 * <p></p>
+	 * <b>N.B:</b> since items are stored in a set, their {@code hashCode()} must not depend on the changing fields.
+	 * <p>
+	 * Also note that this only refreshes the rows: the filter and sort state and the columns' indexes and aggregates
+	 * are not updated. If those must follow the changes, the items list must fire update changes instead (for example
+	 * by using an extractor).
+	 *
+	 * @see #changeFlashDurationProperty()
+	 */
+	public void markDirty(T item) {
+		if (item == null) return;
+		dirtyItems.add(item);
+		if (dirtyScheduled.compareAndSet(false, true)) {
+			Platform.runLater(dirtyProcessor::start);
+		}
+	}
+
+	/**
+	 * Calls {@link #markDirty(Object)} for each of the given items.
+	 */
+	public void markDirty(Collection<? extends T> items) {
+		for (T item : items) {
+			markDirty(item);
+		}
+	}
+
+	/**
+	 * Responsible for refreshing the rows whose items have been marked as dirty, see {@link #markDirty(Object)}.
+	 * <p>
+	 * The dirty set is drained, and for each of the currently built rows, {@link SimpleVirtualFlow#getCells()},
+	 * {@link MFXTableRow#updateRow(Duration)} is called if the row's item is in the drained set.
+	 * Items that are not visible are simply discarded, as rows are updated anyway when they are built/scrolled into view.
+	 * <p>
+	 * The source version of the {@link TransformableList} is also invalidated, {@link TransformableList#invalidateSourceVersion()},
+	 * so that filter results cached by the {@link MFXFilterPane} are not reused for the mutated items.
+	 */
+	protected void processDirty() {
+		if (dirtyItems.isEmpty()) return;
+
+		Set<T> dirty = new HashSet<>();
+		Iterator<T> it = dirtyItems.iterator();
+		while (it.hasNext()) {
+			dirty.add(it.next());
+			it.remove();
+		}
+
+		transformableList.getTransformableList().invalidateSourceVersion();
+		Duration flashDuration = getChangeFlashDuration();
+		for (MFXTableRow<T> row : rowsFlow.getCells().values()) {
+			T data = row.getData();
+			if (data != null && dirty.contains(data)) {
+				row.updateRow(flashDuration);
+			}
+		}
+	}
+
 	/**
 	 * Autosize all the table columns.
 	 */
@@ -176,12 +311,38 @@ public void autosizeColumn(int index) {
 	}
 
 	/**
-	 * Autosizes the given column.
+	 * Autosizes the given column according to the current {@link #autosizeModeProperty()}.
+	 *
+	 * @see AutosizeMode
 	 */
 	public void autosizeColumn(MFXTableColumn<T> column) {
 		int index = tableColumns.indexOf(column);
 		if (index == -1) return;
 
+		AutosizeMode mode = getAutosizeMode();
+		if (mode == null) mode = AutosizeMode.VISIBLE;
+		switch (mode) {
+			case HEADER: {
+				column.setMinWidth(column.prefWidth(-1));
+				break;
+			}
+			case SAMPLED: {
+				autosizeToSample(column, index);
+				break;
+			}
+			default: {
+				autosizeToVisible(column, index);
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Autosizes the given column by computing the pref width of the cells of the currently built rows.
+	 *
+	 * @see AutosizeMode#VISIBLE
+	 */
+	protected void autosizeToVisible(MFXTableColumn<T> column, int index) {
 		Collection<MFXTableRow<T>> rows = rowsFlow.getCells().values();
 		List<Double> minSizes = new ArrayList<>();
 		minSizes.add(column.getWidth());
@@ -198,6 +359,136 @@ public void autosizeColumn(MFXTableColumn<T> column) {
 		}
 	}
 
+	/**
+	 * Autosizes the given column by measuring the text of a sample of the items shown by the table,
+	 * the whole list if {@link #autosizeSampleSizeProperty()} is less or equal to 0.
+	 * Samples are picked at regular intervals.
+	 * <p>
+	 * No row is built for this. A reference cell (one of the built cells if possible, otherwise a new one built
+	 * by the column's factory) is used to retrieve the extractor, the converter and the font. The extra space
+	 * needed by insets and graphics is measured on the built cell, when there's none (for example when no row is
+	 * shown yet) the new cell would have no skin nor CSS applied, so that space is not accounted for, and the font
+	 * is the cell's default one. The items' text is then computed and measured by a single {@link Text} node
+	 * on a background thread, see {@link ExecutionUtils#runInBackground(Runnable)}. Finally, the width is applied
+	 * on the JavaFX thread, and it's never less than the header's width.
+	 * <p></p>
+	 * <b>N.B:</b> since the extraction happens on a background thread, cells' extractors must not modify
+	 * the items or the UI. If they throw, the exception is printed and the column's width is left unchanged.
+	 *
+	 * @see AutosizeMode#SAMPLED
+	 */
+	protected void autosizeToSample(MFXTableColumn<T> column, int index) {
+		double headerWidth = column.prefWidth(-1);
+		TransformableListWrapper<T> view = getTransformableList();
+		int size = view.size();
+		if (size == 0) {
+			column.setMinWidth(headerWidth);
+			return;
+		}
+
+		int sampleSize = getAutosizeSampleSize();
+		int count = (sampleSize <= 0 || sampleSize >= size) ? size : sampleSize;
+		double step = (double) size / count;
+		List<T> sample = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			sample.add(view.get((int) (i * step)));
+		}
+
+		MFXTableRowCell<T, ?> built = rowsFlow.getCells().values().stream()
+				.map(MFXTableRow::getCells)
+				.filter(cells -> cells.size() > index)
+				.map(cells -> cells.get(index))
+				.findFirst()
+				.orElse(null);
+		MFXTableRowCell<T, ?> reference = (built != null) ? built : column.getRowCellFactory().apply(sample.get(0));
+		Font font = reference.getFont();
+		double extra = (built != null) ? extraWidth(built, font) : 0;
+
+		ExecutionUtils.runInBackground(() -> {
+			try {
+				double max = measureText(sample, reference, font);
+				Platform.runLater(() -> column.setMinWidth(Math.max(headerWidth, max + extra)));
+			} catch (Exception ex) {
+				ex.printStackTrace();
+			}
+		});
+	}
+
+	/**
+	 * @return the space taken by the given cell beside its text, such as insets and graphics
+	 */
+	private static double extraWidth(MFXTableRowCell<?, ?> cell, Font font) {
+		String text = cell.getText();
+		double textWidth = (text != null) ? TextUtils.computeTextWidth(font, text) : 0;
+		return Math.max(0, cell.computePrefWidth(-1) - textWidth);
+	}
+
+	/**
+	 * Computes the text of each of the given items by using the reference cell's extractor and converter,
+	 * and returns the maximum width measured with the given font.
+	 */
+	private static <T, E> double measureText(List<T> items, MFXTableRowCell<T, E> reference, Font font) {
+		Function<T, E> extractor = reference.getExtractor();
+		StringConverter<E> converter = reference.getConverter();
+		if (extractor == null) return 0;
+
+		Text helper = new Text();
+		helper.setFont(font);
+		double max = 0;
+		for (T item : items) {
+			String text = converter.toString(extractor.apply(item));
+			if (text == null || text.isEmpty()) continue;
+			helper.setText(text);
+			max = Math.max(max, helper.getLayoutBounds().getWidth());
+		}
+		return max;
+	}
+
+	/**
+	 * Exports the items currently in the view (filtered and sorted) to the given {@link Writer}
+	 * in the given {@link ExportFormat}.
+	 * <p>
+	 * This must be called on the JavaFX thread, the items and the columns are snapshot immediately, then the
+	 * rows are converted and streamed to the writer on a background thread, see {@link ExecutionUtils#runInBackground(Runnable)}.
+	 * The returned {@link TableExporter} can be used to track the progress or to cancel the export.
+	 */
+	public TableExporter<T> export(Writer writer, ExportFormat format) {
+		TableExporter<T> exporter = new TableExporter<>(this, writer, format);
+		ExecutionUtils.runInBackground(exporter);
+		return exporter;
+	}
+
+	/**
+	 * Wraps the given {@link OutputStream} in a UTF-8 {@link Writer} and calls {@link #export(Writer, ExportFormat)}.
+	 */
+	public TableExporter<T> export(OutputStream out, ExportFormat format) {
+		return export(new OutputStreamWriter(out, StandardCharsets.UTF_8), format);
+	}
+
+	/**
+	 * Creates an index for the field of the given filter, see {@link AbstractFilter#createIndex()}.
+	 * <p>
+	 * The index is maintained incrementally as the items change, and allows the filter's comparisons
+	 * (for example "is" and "is not") to be answered without testing every item, see {@link FilterPlan}.
+	 * This is opt-in since the index has a memory cost and slows down changes to the items a bit.
+	 *
+	 * @throws IllegalArgumentException if the given filter does not support indexing
+	 */
+	public void addFilterIndex(AbstractFilter<T, ?> filter) {
+		ColumnIndex<T, ?> index = filter.createIndex();
+		if (index == null) {
+			throw new IllegalArgumentException("Filter " + filter.name() + " does not support indexing");
+		}
+		transformableList.getTransformableList().addIndex(index);
+	}
+
+	/**
+	 * Removes the index created by {@link #addFilterIndex(AbstractFilter)} for the given filter.
+	 */
+	public void removeFilterIndex(AbstractFilter<T, ?> filter) {
+		transformableList.getTransformableList().removeIndex(filter.getExtractor());
+	}
+
 	/**
 	 * This should be called only if you need to autosize the columns
 	 * before the table is laid out/initialized.
@@ -391,6 +682,60 @@ public void setFooterVisible(boolean footerVisible) {
 		this.footerVisible.set(footerVisible);
 	}
 
+	public Duration getChangeFlashDuration() {
+		return changeFlashDuration.get();
+	}
+
+	/**
+	 * Specifies for how long the cells updated because of {@link #markDirty(Object)}
+	 * should be highlighted, see {@link MFXTableRowCell#flash(Duration)}.
+	 * <p>
+	 * Only the cells whose text actually changed are highlighted. A null or zero duration disables the effect,
+	 * which is also the default.
+	 */
+	public ObjectProperty<Duration> changeFlashDurationProperty() {
+		return changeFlashDuration;
+	}
+
+	public void setChangeFlashDuration(Duration changeFlashDuration) {
+		this.changeFlashDuration.set(changeFlashDuration);
+	}
+
+	public AutosizeMode getAutosizeMode() {
+		return autosizeMode.get();
+	}
+
+	/**
+	 * Specifies the strategy used by {@link #autosizeColumn(MFXTableColumn)}.
+	 * <p>
+	 * The default is {@link AutosizeMode#VISIBLE}.
+	 */
+	public ObjectProperty<AutosizeMode> autosizeModeProperty() {
+		return autosizeMode;
+	}
+
+	public void setAutosizeMode(AutosizeMode autosizeMode) {
+		this.autosizeMode.set(autosizeMode);
+	}
+
+	public int getAutosizeSampleSize() {
+		return autosizeSampleSize.get();
+	}
+
+	/**
+	 * Specifies how many items are measured when the {@link #autosizeModeProperty()} is set
+	 * to {@link AutosizeMode#SAMPLED}. A value less or equal to 0 means that all the items will be measured.
+	 * <p>
+	 * The default is 1000.
+	 */
+	public IntegerProperty autosizeSampleSizeProperty() {
+		return autosizeSampleSize;
+	}
+
+	public void setAutosizeSampleSize(int autosizeSampleSize) {
+		this.autosizeSampleSize.set(autosizeSampleSize);
+	}
+
 	public boolean isVirtualFlowInitialized() {
 		return virtualFlowInitialized.get();
 	}
@@ -409,4 +754,83 @@ public boolean isVirtualFlowInitialized() {
 	public ReadOnlyBooleanProperty virtualFlowInitializedProperty() {
 		return virtualFlowInitialized.getReadOnlyProperty();
 	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * The list used as the source of the {@link TransformableListWrapper}, a copy of the items list.
+	 * <p>
+	 * Other than the usual modifications, it allows to replay a change of the items list as a single change,
+	 * see {@link #mirror(ListChangeListener.Change)}.
+	 */
+	private static class MirrorList<T> extends ModifiableObservableListBase<T> {
+		private final List<T> items = new ArrayList<>();
+
+		/**
+		 * Applies all the sub-changes of the given change between a single {@link #beginChange()}/{@link #endChange()}
+		 * pair, so that listeners receive one change. Permutations and updates are forwarded as they are.
+		 */
+		void mirror(ListChangeListener.Change<? extends T> c) {
+			beginChange();
+			try {
+				while (c.next()) {
+					int from = c.getFrom();
+					if (c.wasPermutated()) {
+						int to = c.getTo();
+						int[] perm = new int[to - from];
+						List<T> old = new ArrayList<>(items.subList(from, to));
+						for (int i = from; i < to; i++) {
+							perm[i - from] = c.getPermutation(i);
+							items.set(perm[i - from], old.get(i - from));
+						}
+						nextPermutation(from, to, perm);
+					} else if (c.wasUpdated()) {
+						for (int i = from; i < c.getTo(); i++) {
+							nextUpdate(i);
+						}
+					} else {
+						if (c.wasRemoved()) {
+							List<T> range = items.subList(from, from + c.getRemovedSize());
+							List<T> removed = new ArrayList<>(range);
+							range.clear();
+							nextRemove(from, removed);
+						}
+						if (c.wasAdded()) {
+							items.addAll(from, c.getAddedSubList());
+							nextAdd(from, from + c.getAddedSize());
+						}
+					}
+				}
+			} finally {
+				endChange();
+			}
+		}
+
+		@Override
+		public T get(int index) {
+			return items.get(index);
+		}
+
+		@Override
+		public int size() {
+			return items.size();
+		}
+
+		@Override
+		protected void doAdd(int index, T element) {
+			items.add(index, element);
+		}
+
+		@Override
+		protected T doSet(int index, T element) {
+			return items.set(index, element);
+		}
+
+		@Override
+		protected T doRemove(int index) {
+			return items.remove(index);
+		}
+	}
 }
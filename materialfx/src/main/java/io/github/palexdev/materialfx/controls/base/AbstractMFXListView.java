@@ -23,6 +23,7 @@
 import io.github.palexdev.materialfx.selection.base.IMultipleSelectionModel;
 import io.github.palexdev.materialfx.utils.ColorUtils;
 import io.github.palexdev.materialfx.utils.StyleablePropertiesUtils;
+import io.github.palexdev.materialfx.utils.Typeahead;
 import io.github.palexdev.virtualizedfx.cell.Cell;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
@@ -50,6 +51,7 @@
 	protected final ObjectProperty<ObservableList<T>> items = new SimpleObjectProperty<>(FXCollections.observableArrayList());
 	protected final ObjectProperty<StringConverter<T>> converter = new SimpleObjectProperty<>();
 	protected final IMultipleSelectionModel<T> selectionModel = new MultipleSelectionModel<>(items);
+	protected final Typeahead<T> typeahead = new Typeahead<>(items, converter);
 
 	//================================================================================
 	// Constructors
@@ -110,6 +112,16 @@ protected void setColors() {
 		setStyle(sb.toString());
 	}
 
+	/**
+	 * Specifies what typeahead does with the found item, see {@link #typeaheadEnabledProperty()}.
+	 * <p>
+	 * By default this returns true, the item is selected and the list scrolls to it. Lists for which
+	 * the selection has a different meaning can override this to return false, so that the list only scrolls.
+	 */
+	public boolean isTypeaheadSelecting() {
+		return true;
+	}
+
 	//================================================================================
 	// ScrollBars Properties
 	//================================================================================
@@ -222,6 +234,13 @@ public IMultipleSelectionModel<T> getSelectionModel() {
 		return selectionModel;
 	}
 
+	/**
+	 * @return the {@link Typeahead} used to find items by the typed text, built on the list's items and converter
+	 */
+	public Typeahead<T> getTypeahead() {
+		return typeahead;
+	}
+
 	//================================================================================
 	// Styleable Properties
 	//================================================================================
@@ -239,6 +258,13 @@ public IMultipleSelectionModel<T> getSelectionModel() {
 			DepthLevel.LEVEL2
 	);
 
+	private final StyleableBooleanProperty typeaheadEnabled = new SimpleStyleableBooleanProperty(
+			StyleableProperties.TYPEAHEAD_ENABLED,
+			this,
+			"typeaheadEnabled",
+			true
+	);
+
 	public boolean isHideScrollBars() {
 		return hideScrollBars.get();
 	}
@@ -269,6 +295,24 @@ public void setDepthLevel(DepthLevel depthLevel) {
 		this.depthLevel.set(depthLevel);
 	}
 
+	public boolean isTypeaheadEnabled() {
+		return typeaheadEnabled.get();
+	}
+
+	/**
+	 * Specifies whether typing on the focused list selects and scrolls to the first item
+	 * whose text starts with the typed chars, see {@link #getTypeahead()} and {@link #isTypeaheadSelecting()}.
+	 * <p>
+	 * Enabled by default, set this to false to keep the previous behavior, in which typing doesn't change the selection.
+	 */
+	public StyleableBooleanProperty typeaheadEnabledProperty() {
+		return typeaheadEnabled;
+	}
+
+	public void setTypeaheadEnabled(boolean typeaheadEnabled) {
+		this.typeaheadEnabled.set(typeaheadEnabled);
+	}
+
 	private static class StyleableProperties {
 		private static final StyleablePropertyFactory<AbstractMFXListView<?, ?>> FACTORY = new StyleablePropertyFactory<>(Control.getClassCssMetaData());
 		private static final List<CssMetaData<? extends Styleable, ?>> cssMetaDataList;
@@ -288,11 +332,17 @@ private static class StyleableProperties {
 						DepthLevel.LEVEL2
 				);
 
+		private static final CssMetaData<AbstractMFXListView<?, ?>, Boolean> TYPEAHEAD_ENABLED =
+				FACTORY.createBooleanCssMetaData(
+						"-mfx-typeahead-enabled",
+						AbstractMFXListView::typeaheadEnabledProperty,
+						true
+				);
 
 		static {
 			cssMetaDataList = StyleablePropertiesUtils.cssMetaDataList(
 					Control.getClassCssMetaData(),
-					HIDE_SCROLLBARS, DEPTH_LEVEL
+					HIDE_SCROLLBARS, DEPTH_LEVEL, TYPEAHEAD_ENABLED
 			);
 		}
 	}
@@ -23,12 +23,15 @@
 import io.github.palexdev.materialfx.controls.MFXTableView;
 import io.github.palexdev.materialfx.skins.MFXTableRowCellSkin;
 import io.github.palexdev.materialfx.utils.others.FunctionalStringConverter;
+import javafx.animation.PauseTransition;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.css.PseudoClass;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.control.Labeled;
 import javafx.scene.control.Skin;
+import javafx.util.Duration;
 import javafx.util.StringConverter;
 
 import java.util.Objects;
@@ -57,6 +60,9 @@
  * or updated programmatically when requested by the table view (but the update process always starts from the row though).
  * The cell's text is computed using a {@link StringConverter}, the default converter uses {@link Objects#toString(Object)}
  * The update process is handled by {@link #update(Object)}.
+ * <p></p>
+ * Defines the following new PseudoClass for usage in CSS:
+ * <p> - ":changed", active for a brief moment after the cell has been updated, see {@link #flash(Duration)}
  */
 public class MFXTableRowCell<T, E> extends Labeled {
 	//================================================================================
@@ -69,6 +75,9 @@
 	private final ObjectProperty<Node> leadingGraphic = new SimpleObjectProperty<>();
 	private final ObjectProperty<Node> trailingGraphic = new SimpleObjectProperty<>();
 
+	private PauseTransition flashTimer;
+	protected static final PseudoClass CHANGED_PSEUDO_CLASS = PseudoClass.getPseudoClass("changed");
+
 	//================================================================================
 	// Constructors
 	//================================================================================
@@ -99,6 +108,23 @@ public void update(T item) {
 		setText(converter.toString(data));
 	}
 
+	/**
+	 * Activates the ":changed" PseudoClass on the cell for the given duration,
+	 * used to highlight the cells whose content has just been updated.
+	 * <p>
+	 * Calling this while the cell is still flashing restarts the timer.
+	 */
+	public void flash(Duration duration) {
+		if (flashTimer == null) {
+			flashTimer = new PauseTransition();
+			flashTimer.setOnFinished(event -> pseudoClassStateChanged(CHANGED_PSEUDO_CLASS, false));
+		}
+		flashTimer.stop();
+		flashTimer.setDuration(duration);
+		pseudoClassStateChanged(CHANGED_PSEUDO_CLASS, true);
+		flashTimer.playFromStart();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * <p></p>
@@ -122,6 +148,21 @@ protected Skin<?> createDefaultSkin() {
 	//================================================================================
 	// Getters/Setters
 	//================================================================================
+
+	/**
+	 * @return the {@link Function} used to extract the data E from an item of type T
+	 */
+	public Function<T, E> getExtractor() {
+		return extractor;
+	}
+
+	/**
+	 * @return the {@link StringConverter} used to convert the extracted data to the cell's text
+	 */
+	public StringConverter<E> getConverter() {
+		return converter;
+	}
+
 	public Node getLeadingGraphic() {
 		return leadingGraphic.get();
 	}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.enums;
+
+import io.github.palexdev.materialfx.controls.MFXTableView;
+
+/**
+ * Enumeration to specify how {@link MFXTableView} should autosize its columns.
+ */
+public enum AutosizeMode {
+	/**
+	 * Columns are sized to fit their header.
+	 */
+	HEADER,
+
+	/**
+	 * Columns are sized to fit the cells of the currently built rows, the old behavior.
+	 */
+	VISIBLE,
+
+	/**
+	 * Columns are sized to fit the text of a sample of the items shown by the table,
+	 * the size of the sample is specified by {@link MFXTableView#autosizeSampleSizeProperty()}.
+	 * <p>
+	 * Rows are not built for this, the text is measured off the JavaFX thread and the result is
+	 * applied afterwards.
+	 */
+	SAMPLED
+}
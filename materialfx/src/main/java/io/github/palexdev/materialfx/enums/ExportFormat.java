@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.enums;
+
+import io.github.palexdev.materialfx.controls.MFXTableView;
+
+/**
+ * Enumeration to specify the format used by {@link MFXTableView} to export its data,
+ * see {@link MFXTableView#export(java.io.Writer, ExportFormat)}.
+ */
+public enum ExportFormat {
+	/**
+	 * Comma separated values, fields are quoted only when needed.
+	 */
+	CSV(','),
+
+	/**
+	 * Tab separated values, fields are quoted only when needed.
+	 */
+	TSV('\t');
+
+	private final char separator;
+
+	ExportFormat(char separator) {
+		this.separator = separator;
+	}
+
+	/**
+	 * @return the character used to separate the fields
+	 */
+	public char separator() {
+		return separator;
+	}
+}
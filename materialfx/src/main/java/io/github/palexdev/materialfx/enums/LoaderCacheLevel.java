@@ -25,8 +25,8 @@
 /**
  * Enumerator to define the level of caching used by {@link MFXLoader}.
  * <p>
- * By enabling cache the switch performance vastly improves
- * but the views cannot be loaded in parallel (quite acceptable loss in some cases).
+ * By enabling cache the switch performance vastly improves. Views are still loaded in parallel, but
+ * caching is performed on the JavaFX thread, one view at a time, as soon as each view is loaded.
  */
 public enum LoaderCacheLevel {
 	/**
@@ -36,7 +36,7 @@ public enum LoaderCacheLevel {
 	NONE,
 
 	/**
-	 * The root node is added to a dummy pane and {@link Scene},
+	 * The root node is set as the root of a temporary {@link Scene},
 	 * then {@link Parent#applyCss()} and {@link Parent#layout()} are called.
 	 * This causes all nodes in the scene to create their skin and layout
 	 * thus "caching" the scenegraph. Vastly improves view switching performance.
@@ -48,5 +48,15 @@ public enum LoaderCacheLevel {
 	 * and the cache hint to SPEED on the loaded root node.
 	 * (To be honest I don't know if this truly improves performance since I didn't notice anything notable)
 	 */
-	SCENE_JAVAFX_CACHE
+	SCENE_JAVAFX_CACHE,
+
+	/**
+	 * Does what SCENE_CACHE does, but on the loading thread, right after the FXML file is loaded, so that
+	 * the JavaFX thread only has to attach the view. If this fails (for example because some control in the view
+	 * requires the JavaFX thread), the view is cached on the JavaFX thread as for SCENE_CACHE.
+	 * <p>
+	 * Beware, JavaFX allows to create and modify nodes on any thread as long as they are not part of a showing window,
+	 * but code that assumes to run on the JavaFX thread (in controllers or custom skins) may break.
+	 */
+	BACKGROUND_CACHE
 }
@@ -19,6 +19,8 @@
 package io.github.palexdev.materialfx.filter;
 
 import io.github.palexdev.materialfx.beans.BiPredicateBean;
+import io.github.palexdev.materialfx.enums.ComparisonOperator;
+import io.github.palexdev.materialfx.filter.base.ComparisonPredicate;
 import io.github.palexdev.materialfx.filter.base.NumberFilter;
 import io.github.palexdev.materialfx.i18n.I18N;
 import io.github.palexdev.materialfx.utils.FXCollectors;
@@ -78,12 +80,12 @@ public BigDecimal fromString(String s) {
 	@Override
 	protected ObservableList<BiPredicateBean<BigDecimal, BigDecimal>> defaultPredicates() {
 		return Stream.<BiPredicateBean<BigDecimal, BigDecimal>>of(
-				new BiPredicateBean<>(I18N.getOrDefault("filter.is"), BigDecimal::equals),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.isNot"), (aFloat, aFloat2) -> !aFloat.equals(aFloat2)),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.greater"), (aFloat, aFloat2) -> aFloat.compareTo(aFloat2) > 0),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.greaterEqual"), (aFloat, aFloat2) -> aFloat.compareTo(aFloat2) >= 0),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.lesser"), (aFloat, aFloat2) -> aFloat.compareTo(aFloat2) < 0),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.lesserEqual"), (aFloat, aFloat2) -> aFloat.compareTo(aFloat2) <= 0)
+				new BiPredicateBean<>(I18N.getOrDefault("filter.is"), ComparisonPredicate.of(ComparisonOperator.EQUAL, BigDecimal::equals)),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.isNot"), ComparisonPredicate.of(ComparisonOperator.NOT_EQUAL, (aFloat, aFloat2) -> !aFloat.equals(aFloat2))),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.greater"), ComparisonPredicate.of(ComparisonOperator.GREATER, (aFloat, aFloat2) -> aFloat.compareTo(aFloat2) > 0)),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.greaterEqual"), ComparisonPredicate.of(ComparisonOperator.GREATER_EQUAL, (aFloat, aFloat2) -> aFloat.compareTo(aFloat2) >= 0)),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.lesser"), ComparisonPredicate.of(ComparisonOperator.LESSER, (aFloat, aFloat2) -> aFloat.compareTo(aFloat2) < 0)),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.lesserEqual"), ComparisonPredicate.of(ComparisonOperator.LESSER_EQUAL, (aFloat, aFloat2) -> aFloat.compareTo(aFloat2) <= 0))
 		).collect(FXCollectors.toList());
 	}
 
@@ -19,7 +19,11 @@
 package io.github.palexdev.materialfx.filter;
 
 import io.github.palexdev.materialfx.beans.BiPredicateBean;
+import io.github.palexdev.materialfx.collections.ColumnIndex;
+import io.github.palexdev.materialfx.collections.EqualityIndex;
+import io.github.palexdev.materialfx.enums.ComparisonOperator;
 import io.github.palexdev.materialfx.filter.base.AbstractFilter;
+import io.github.palexdev.materialfx.filter.base.ComparisonPredicate;
 import io.github.palexdev.materialfx.i18n.I18N;
 import io.github.palexdev.materialfx.utils.FXCollectors;
 import javafx.collections.ObservableList;
@@ -53,11 +57,21 @@ public BooleanFilter(String name, Function<T, Boolean> extractor, StringConverte
 	//================================================================================
 	// Overridden Methods
 	//================================================================================
+	@Override
+	public int evaluationCost() {
+		return 0;
+	}
+
+	@Override
+	public ColumnIndex<T, Boolean> createIndex() {
+		return new EqualityIndex<>(getExtractor());
+	}
+
 	@Override
 	protected ObservableList<BiPredicateBean<Boolean, Boolean>> defaultPredicates() {
 		return Stream.<BiPredicateBean<Boolean, Boolean>>of(
-				new BiPredicateBean<>(I18N.getOrDefault("filter.is"), Boolean::equals),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.isNot"), (aBoolean, aBoolean2) -> !aBoolean.equals(aBoolean2))
+				new BiPredicateBean<>(I18N.getOrDefault("filter.is"), ComparisonPredicate.of(ComparisonOperator.EQUAL, Boolean::equals)),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.isNot"), ComparisonPredicate.of(ComparisonOperator.NOT_EQUAL, (aBoolean, aBoolean2) -> !aBoolean.equals(aBoolean2)))
 		).collect(FXCollectors.toList());
 	}
 
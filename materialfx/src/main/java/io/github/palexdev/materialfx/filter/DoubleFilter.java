@@ -19,6 +19,10 @@
 package io.github.palexdev.materialfx.filter;
 
 import io.github.palexdev.materialfx.beans.BiPredicateBean;
+import io.github.palexdev.materialfx.collections.ColumnIndex;
+import io.github.palexdev.materialfx.collections.SortedIndex;
+import io.github.palexdev.materialfx.enums.ComparisonOperator;
+import io.github.palexdev.materialfx.filter.base.ComparisonPredicate;
 import io.github.palexdev.materialfx.filter.base.NumberFilter;
 import io.github.palexdev.materialfx.i18n.I18N;
 import io.github.palexdev.materialfx.utils.FXCollectors;
@@ -57,15 +61,20 @@ public DoubleFilter(String name, Function<T, Double> extractor, StringConverter<
 	//================================================================================
 	// Overridden Methods
 	//================================================================================
+	@Override
+	public ColumnIndex<T, Double> createIndex() {
+		return new SortedIndex<>(getExtractor());
+	}
+
 	@Override
 	protected ObservableList<BiPredicateBean<Double, Double>> defaultPredicates() {
 		return Stream.<BiPredicateBean<Double, Double>>of(
-				new BiPredicateBean<>(I18N.getOrDefault("filter.is"), Double::equals),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.isNot"), (aDouble, aDouble2) -> !aDouble.equals(aDouble2)),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.greater"), (aDouble, aDouble2) -> aDouble > aDouble2),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.greaterEqual"), (aDouble, aDouble2) -> aDouble >= aDouble2),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.lesser"), (aDouble, aDouble2) -> aDouble < aDouble2),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.lesserEqual"), (aDouble, aDouble2) -> aDouble <= aDouble2)
+				new BiPredicateBean<>(I18N.getOrDefault("filter.is"), ComparisonPredicate.of(ComparisonOperator.EQUAL, Double::equals)),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.isNot"), ComparisonPredicate.of(ComparisonOperator.NOT_EQUAL, (aDouble, aDouble2) -> !aDouble.equals(aDouble2))),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.greater"), ComparisonPredicate.of(ComparisonOperator.GREATER, (aDouble, aDouble2) -> aDouble > aDouble2)),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.greaterEqual"), ComparisonPredicate.of(ComparisonOperator.GREATER_EQUAL, (aDouble, aDouble2) -> aDouble >= aDouble2)),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.lesser"), ComparisonPredicate.of(ComparisonOperator.LESSER, (aDouble, aDouble2) -> aDouble < aDouble2)),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.lesserEqual"), ComparisonPredicate.of(ComparisonOperator.LESSER_EQUAL, (aDouble, aDouble2) -> aDouble <= aDouble2))
 		).collect(FXCollectors.toList());
 	}
 
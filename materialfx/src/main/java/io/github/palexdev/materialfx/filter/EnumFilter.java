@@ -19,7 +19,11 @@
 package io.github.palexdev.materialfx.filter;
 
 import io.github.palexdev.materialfx.beans.BiPredicateBean;
+import io.github.palexdev.materialfx.collections.ColumnIndex;
+import io.github.palexdev.materialfx.collections.EqualityIndex;
+import io.github.palexdev.materialfx.enums.ComparisonOperator;
 import io.github.palexdev.materialfx.filter.base.AbstractFilter;
+import io.github.palexdev.materialfx.filter.base.ComparisonPredicate;
 import io.github.palexdev.materialfx.i18n.I18N;
 import io.github.palexdev.materialfx.utils.EnumStringConverter;
 import io.github.palexdev.materialfx.utils.FXCollectors;
@@ -68,11 +72,21 @@ public Class<E> getEnumType() {
 	//================================================================================
 	// Overridden Methods
 	//================================================================================
+	@Override
+	public int evaluationCost() {
+		return 0;
+	}
+
+	@Override
+	public ColumnIndex<T, E> createIndex() {
+		return new EqualityIndex<>(getExtractor());
+	}
+
 	@Override
 	protected ObservableList<BiPredicateBean<E, E>> defaultPredicates() {
 		return Stream.<BiPredicateBean<E, E>>of(
-				new BiPredicateBean<>(I18N.getOrDefault("filter.is"), Enum::equals),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.isNot"), (anEnum, anEnum2) -> !anEnum.equals(anEnum2))
+				new BiPredicateBean<>(I18N.getOrDefault("filter.is"), ComparisonPredicate.of(ComparisonOperator.EQUAL, Enum::equals)),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.isNot"), ComparisonPredicate.of(ComparisonOperator.NOT_EQUAL, (anEnum, anEnum2) -> !anEnum.equals(anEnum2)))
 		).collect(FXCollectors.toList());
 	}
 
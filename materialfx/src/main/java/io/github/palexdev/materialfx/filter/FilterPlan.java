@@ -0,0 +1,566 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.filter;
+
+import io.github.palexdev.materialfx.beans.FilterBean;
+import io.github.palexdev.materialfx.collections.ColumnIndex;
+import io.github.palexdev.materialfx.collections.IndexedPredicate;
+import io.github.palexdev.materialfx.collections.TransformableList;
+import io.github.palexdev.materialfx.controls.MFXFilterPane;
+import io.github.palexdev.materialfx.enums.ChainMode;
+import io.github.palexdev.materialfx.enums.ComparisonOperator;
+import io.github.palexdev.materialfx.filter.base.AbstractFilter;
+import io.github.palexdev.materialfx.filter.base.ComparisonPredicate;
+import io.github.palexdev.materialfx.utils.StringMatcher;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A {@code FilterPlan} is a {@link Predicate} compiled from a list of {@link FilterBean}s, it's what
+ * {@link MFXFilterPane#filter()} produces.
+ * <p></p>
+ * Compared to chaining the beans' predicates, the plan:
+ * <p> - Converts each bean's query and resolves its {@link BiPredicate} only once, at compile time
+ * <p> - Extracts each field only once per item, even if more filters operate on it. Fields are identified by the
+ * filters' extractors and are extracted lazily, only when a clause needs them
+ * <p> - Flattens the chain into groups of clauses, each group is an array of tests evaluated with short-circuit
+ * <p> - Reorders the clauses of each group so that cheap tests run before the expensive ones, see {@link AbstractFilter#evaluationCost()}
+ * <p></p>
+ * Filters are chained the same way as before, from left to right with no precedence. For example, the beans
+ * {@code a AND b AND c OR d} produce {@code ((a AND b AND c) OR d)}. Only clauses joined by the same operator are
+ * grouped and reordered, so the result is always the same as the chained predicates.
+ * <p></p>
+ * When used as the predicate of a {@link TransformableList} which has {@link ColumnIndex}es for some of the filtered
+ * fields, the plan is evaluated as a whole by {@link #matches(TransformableList)}: clauses that can be answered
+ * by an index (see {@link ComparisonPredicate}) produce a {@link BitSet} of source indexes without testing any item,
+ * then the results are intersected (AND) or united (OR) according to the {@link ChainMode}. The remaining clauses
+ * are tested only on the items which can still change the result.
+ * <p>
+ * If the plan has been compiled with a {@link FilterResultCache}, the results of the clauses that need to test the items are
+ * cached, so that filtering again after changing the chain modes or removing a clause doesn't test any item. In such
+ * case the plan is always evaluated as a whole by {@link #matches(TransformableList)}.
+ * <p></p>
+ * For diagnostic purposes, the time spent by each clause can be measured by enabling {@link #setProfiling(boolean)},
+ * the stats are then available through {@link #getStats()}.
+ */
+public class FilterPlan<T> implements IndexedPredicate<T> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final List<Function<T, ?>> extractors;
+	private final Node<T> root;
+	private final List<Clause<T, ?>> clauses;
+	private final FilterResultCache cache;
+	private final ThreadLocal<Row> rows;
+	private boolean profiling = false;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	private FilterPlan(List<Function<T, ?>> extractors, Node<T> root, List<Clause<T, ?>> clauses, FilterResultCache cache) {
+		this.extractors = extractors;
+		this.root = root;
+		this.clauses = clauses;
+		this.cache = cache;
+		this.rows = ThreadLocal.withInitial(() -> new Row(extractors.size()));
+	}
+
+	//================================================================================
+	// Static Methods
+	//================================================================================
+
+	/**
+	 * Compiles the given list of {@link FilterBean}s into a {@code FilterPlan}.
+	 * <p>
+	 * If the list is empty the plan accepts every item.
+	 */
+	public static <T> FilterPlan<T> compile(List<FilterBean<T, ?>> beans) {
+		return compile(beans, null);
+	}
+
+	/**
+	 * Compiles the given list of {@link FilterBean}s into a {@code FilterPlan}, which will use the given
+	 * {@link FilterResultCache} to store and reuse the beans' results.
+	 * <p>
+	 * If the list is empty the plan accepts every item.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> FilterPlan<T> compile(List<FilterBean<T, ?>> beans, FilterResultCache cache) {
+		Map<Function<T, ?>, Integer> slots = new IdentityHashMap<>();
+		List<Clause<T, ?>> clauses = new ArrayList<>();
+
+		Node<T> acc = null;
+		ChainMode mode = null;
+		for (FilterBean<T, ?> bean : beans) {
+			Function<T, ?> extractor = bean.getFilter().getExtractor();
+			int slot = slots.computeIfAbsent(extractor, e -> slots.size());
+			Clause<T, ?> clause = clause(bean, slot);
+			clauses.add(clause);
+
+			if (acc == null) {
+				acc = clause;
+			} else if (acc instanceof Group && ((Group<T>) acc).mode == mode) {
+				((Group<T>) acc).terms.add(clause);
+			} else {
+				Group<T> group = new Group<>(mode);
+				group.terms.add(acc);
+				group.terms.add(clause);
+				acc = group;
+			}
+			mode = bean.getMode();
+		}
+		if (acc instanceof Group) ((Group<T>) acc).seal();
+
+		List<Function<T, ?>> extractors = new ArrayList<>(Collections.nCopies(slots.size(), null));
+		slots.forEach((extractor, slot) -> extractors.set(slot, extractor));
+		return new FilterPlan<>(extractors, acc, Collections.unmodifiableList(clauses), cache);
+	}
+
+	/**
+	 * Builds a clause from the given bean. If the bean's predicate is a {@link StringMatcher.Compiler}
+	 * the query is compiled here, once, rather than relying on the compiler's cache.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T, U> Clause<T, U> clause(FilterBean<T, U> bean, int slot) {
+		AbstractFilter<T, U> filter = bean.getFilter();
+		BiPredicate<U, U> original = bean.getPredicateBean().predicate();
+		BiPredicate<U, U> predicate = original;
+		ComparisonOperator operator = (predicate instanceof ComparisonPredicate) ? ((ComparisonPredicate<U>) predicate).getOperator() : null;
+		U query = filter.getValue(bean.getQuery());
+		if (predicate instanceof StringMatcher.Compiler && query instanceof String) {
+			StringMatcher matcher = ((StringMatcher.Compiler) predicate).compile((String) query);
+			predicate = (u, q) -> matcher.test((String) u);
+		}
+		return new Clause<>(bean, slot, filter.getExtractor(), original, predicate, operator, query, filter.evaluationCost());
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * @return the stats of each clause, in the same order of the beans the plan was compiled from
+	 */
+	public List<ClauseStats> getStats() {
+		List<ClauseStats> stats = new ArrayList<>();
+		for (Clause<T, ?> clause : clauses) {
+			stats.add(clause.stats);
+		}
+		return stats;
+	}
+
+	/**
+	 * Resets the stats of all the clauses.
+	 */
+	public void resetStats() {
+		clauses.forEach(clause -> clause.stats.reset());
+	}
+
+	/**
+	 * @return the number of distinct fields extracted by the plan
+	 */
+	public int getFieldsCount() {
+		return extractors.size();
+	}
+
+	/**
+	 * @return whether the time spent by each clause is being measured
+	 */
+	public boolean isProfiling() {
+		return profiling;
+	}
+
+	/**
+	 * Enables or disables the measurement of the time spent by each clause, disabled by default
+	 * as it adds a noticeable overhead.
+	 */
+	public void setProfiling(boolean profiling) {
+		this.profiling = profiling;
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+	@Override
+	public boolean test(T t) {
+		if (root == null) return true;
+		Row row = rows.get();
+		row.next();
+		return root.test(t, this, row);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p></p>
+	 * Returns null if there's no {@link FilterResultCache} and none of the clauses can be answered by the list's indexes,
+	 * in such case testing each item with {@link #test(Object)} is faster.
+	 */
+	@Override
+	public BitSet matches(TransformableList<T> list) {
+		if (root == null || (cache == null && !root.anyIndexed(list))) return null;
+		BitSet all = new BitSet();
+		all.set(0, list.getSource().size());
+		return root.matches(this, list, all);
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * Per-thread cache of the fields extracted from the item being tested.
+	 * Instead of clearing the cache for each item, a generation counter is used.
+	 */
+	private static class Row {
+		private final Object[] values;
+		private final long[] generations;
+		private long generation = 0;
+
+		Row(int fields) {
+			this.values = new Object[fields];
+			this.generations = new long[fields];
+		}
+
+		void next() {
+			generation++;
+		}
+	}
+
+	private interface Node<T> {
+		boolean test(T t, FilterPlan<T> plan, Row row);
+
+		/**
+		 * Computes the source indexes which satisfy this node among the given candidates.
+		 * The returned set may be modified by the caller, the candidates must not be modified.
+		 */
+		BitSet matches(FilterPlan<T> plan, TransformableList<T> list, BitSet candidates);
+
+		/**
+		 * @return whether this node can be answered entirely by the list's indexes
+		 */
+		boolean indexed(TransformableList<T> list);
+
+		/**
+		 * @return whether at least one clause of this node can be answered by the list's indexes
+		 */
+		boolean anyIndexed(TransformableList<T> list);
+
+		int cost();
+	}
+
+	/**
+	 * A group of nodes joined by the same {@link ChainMode}, evaluated with short-circuit.
+	 */
+	private static class Group<T> implements Node<T> {
+		private final ChainMode mode;
+		private final List<Node<T>> terms = new ArrayList<>();
+		private List<Node<T>> sorted;
+		private int cost;
+
+		Group(ChainMode mode) {
+			this.mode = mode;
+		}
+
+		/**
+		 * Sorts the terms by cost (stable) and converts them to an array, recursively.
+		 */
+		@SuppressWarnings("unchecked")
+		void seal() {
+			cost = 0;
+			for (Node<T> term : terms) {
+				if (term instanceof Group) ((Group<T>) term).seal();
+				cost += term.cost();
+			}
+			terms.sort(Comparator.comparingInt(Node::cost));
+			sorted = new ArrayList<>(terms);
+		}
+
+		@Override
+		public boolean test(T t, FilterPlan<T> plan, Row row) {
+			if (mode == ChainMode.AND) {
+				for (Node<T> term : sorted) {
+					if (!term.test(t, plan, row)) return false;
+				}
+				return true;
+			}
+			for (Node<T> term : sorted) {
+				if (term.test(t, plan, row)) return true;
+			}
+			return false;
+		}
+
+		@Override
+		public BitSet matches(FilterPlan<T> plan, TransformableList<T> list, BitSet candidates) {
+			// Indexed terms first, they don't need to test any item and reduce the candidates for the others
+			List<Node<T>> ordered = new ArrayList<>(sorted.size());
+			for (Node<T> term : sorted) {
+				if (term.indexed(list)) ordered.add(term);
+			}
+			for (Node<T> term : sorted) {
+				if (!term.indexed(list)) ordered.add(term);
+			}
+
+			if (mode == ChainMode.AND) {
+				BitSet result = candidates;
+				for (Node<T> term : ordered) {
+					result = term.matches(plan, list, result);
+					if (result.isEmpty()) break;
+				}
+				return result;
+			}
+
+			BitSet result = new BitSet();
+			BitSet remaining = (BitSet) candidates.clone();
+			for (Node<T> term : ordered) {
+				if (remaining.isEmpty()) break;
+				BitSet matches = term.matches(plan, list, remaining);
+				result.or(matches);
+				remaining.andNot(matches);
+			}
+			return result;
+		}
+
+		@Override
+		public boolean indexed(TransformableList<T> list) {
+			for (Node<T> term : sorted) {
+				if (!term.indexed(list)) return false;
+			}
+			return true;
+		}
+
+		@Override
+		public boolean anyIndexed(TransformableList<T> list) {
+			for (Node<T> term : sorted) {
+				if (term.anyIndexed(list)) return true;
+			}
+			return false;
+		}
+
+		@Override
+		public int cost() {
+			return cost;
+		}
+	}
+
+	/**
+	 * A single test, built from a {@link FilterBean}.
+	 */
+	private static class Clause<T, U> implements Node<T> {
+		private final FilterBean<T, U> bean;
+		private final int slot;
+		private final Function<T, U> extractor;
+		private final BiPredicate<U, U> original;
+		private final BiPredicate<U, U> predicate;
+		private final ComparisonOperator operator;
+		private final U query;
+		private final int cost;
+		private final ClauseStats stats;
+
+		Clause(FilterBean<T, U> bean, int slot, Function<T, U> extractor, BiPredicate<U, U> original, BiPredicate<U, U> predicate, ComparisonOperator operator, U query, int cost) {
+			this.bean = bean;
+			this.slot = slot;
+			this.extractor = extractor;
+			this.original = original;
+			this.predicate = predicate;
+			this.operator = operator;
+			this.query = query;
+			this.cost = cost;
+			this.stats = new ClauseStats(bean);
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public boolean test(T t, FilterPlan<T> plan, Row row) {
+			if (!plan.profiling) return predicate.test((U) field(t, plan, row), query);
+
+			long start = System.nanoTime();
+			boolean result = predicate.test((U) field(t, plan, row), query);
+			stats.record(System.nanoTime() - start, 1, result ? 1 : 0);
+			return result;
+		}
+
+		@Override
+		public BitSet matches(FilterPlan<T> plan, TransformableList<T> list, BitSet candidates) {
+			long start = plan.profiling ? System.nanoTime() : 0;
+			BitSet result = lookup(list);
+			if (result != null) {
+				result.and(candidates);
+				if (plan.profiling) stats.record(System.nanoTime() - start, 0, result.cardinality());
+				return result;
+			}
+
+			// Items outside the index's candidates (if any) are known to not satisfy the clause
+			BitSet toTest = candidates;
+			BitSet possible = candidates(list);
+			if (possible != null) {
+				toTest = (BitSet) candidates.clone();
+				toTest.and(possible);
+			}
+
+			long evaluated;
+			if (plan.cache != null) {
+				FilterResultCache.Entry entry = plan.cache.get(bean, list);
+				BitSet missing = (BitSet) toTest.clone();
+				missing.andNot(entry.getEvaluated());
+				evaluated = missing.cardinality();
+				entry.getMatches().or(scan(list, missing));
+				entry.getEvaluated().or(candidates);
+				result = (BitSet) entry.getMatches().clone();
+				result.and(candidates);
+			} else {
+				evaluated = toTest.cardinality();
+				result = scan(list, toTest);
+			}
+			if (plan.profiling) stats.record(System.nanoTime() - start, evaluated, result.cardinality());
+			return result;
+		}
+
+		/**
+		 * Tests the items at the given source indexes.
+		 */
+		private BitSet scan(TransformableList<T> list, BitSet indexes) {
+			BitSet result = new BitSet();
+			List<? extends T> source = list.getSource();
+			for (int i = indexes.nextSetBit(0); i >= 0; i = indexes.nextSetBit(i + 1)) {
+				if (predicate.test(extractor.apply(source.get(i)), query)) result.set(i);
+			}
+			return result;
+		}
+
+		/**
+		 * @return the result of the index lookup, or null if the clause cannot be answered by an index
+		 */
+		@SuppressWarnings("unchecked")
+		private BitSet lookup(TransformableList<T> list) {
+			if (operator == null) return null;
+			ColumnIndex<T, U> index = (ColumnIndex<T, U>) list.getIndex(extractor);
+			return (index != null && index.supports(operator)) ? index.lookup(operator, query) : null;
+		}
+
+		/**
+		 * @return the candidates computed by the index, see {@link ColumnIndex#candidates(BiPredicate, Object)},
+		 * or null if there's no index or it cannot restrict the candidates for this clause
+		 */
+		@SuppressWarnings("unchecked")
+		private BitSet candidates(TransformableList<T> list) {
+			ColumnIndex<T, U> index = (ColumnIndex<T, U>) list.getIndex(extractor);
+			return index != null ? index.candidates(original, query) : null;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public boolean indexed(TransformableList<T> list) {
+			if (operator == null) return false;
+			ColumnIndex<T, U> index = (ColumnIndex<T, U>) list.getIndex(extractor);
+			return index != null && index.supports(operator);
+		}
+
+		@Override
+		public boolean anyIndexed(TransformableList<T> list) {
+			return indexed(list) || list.getIndex(extractor) != null;
+		}
+
+		private Object field(T t, FilterPlan<T> plan, Row row) {
+			if (row.generations[slot] != row.generation) {
+				row.values[slot] = plan.extractors.get(slot).apply(t);
+				row.generations[slot] = row.generation;
+			}
+			return row.values[slot];
+		}
+
+		@Override
+		public int cost() {
+			return cost;
+		}
+	}
+
+	/**
+	 * Timing stats of a single clause of a {@link FilterPlan}, collected only when profiling is enabled.
+	 * The measured time includes the field's extraction if the clause is the first one that needs it.
+	 */
+	public static class ClauseStats {
+		private final FilterBean<?, ?> bean;
+		private final LongAdder evaluations = new LongAdder();
+		private final LongAdder matches = new LongAdder();
+		private final LongAdder nanos = new LongAdder();
+
+		ClauseStats(FilterBean<?, ?> bean) {
+			this.bean = bean;
+		}
+
+		void record(long elapsed, long evaluated, long matched) {
+			evaluations.add(evaluated);
+			matches.add(matched);
+			nanos.add(elapsed);
+		}
+
+		void reset() {
+			evaluations.reset();
+			matches.reset();
+			nanos.reset();
+		}
+
+		/**
+		 * @return the {@link FilterBean} the clause was built from
+		 */
+		public FilterBean<?, ?> getBean() {
+			return bean;
+		}
+
+		/**
+		 * @return how many items the clause has been tested on. Because of short-circuiting, indexes and
+		 * cached results, this may be less than the number of filtered items
+		 */
+		public long getEvaluations() {
+			return evaluations.sum();
+		}
+
+		/**
+		 * @return how many times the clause was satisfied
+		 */
+		public long getMatches() {
+			return matches.sum();
+		}
+
+		/**
+		 * @return the total time spent evaluating the clause, in nanoseconds
+		 */
+		public long getNanos() {
+			return nanos.sum();
+		}
+
+		/**
+		 * @return the average time spent for each evaluation, in nanoseconds
+		 */
+		public double getAverageNanos() {
+			long evaluations = getEvaluations();
+			return evaluations == 0 ? 0 : (double) getNanos() / evaluations;
+		}
+
+		@Override
+		public String toString() {
+			return bean.getFilterName() + " " + bean.getPredicateName() + " " + bean.getQuery() +
+					" [evaluations: " + getEvaluations() + ", matches: " + getMatches() + ", avg: " + getAverageNanos() + "ns]";
+		}
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.filter;
+
+import io.github.palexdev.materialfx.beans.FilterBean;
+import io.github.palexdev.materialfx.collections.TransformableList;
+import io.github.palexdev.materialfx.controls.MFXFilterPane;
+
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Caches the results of {@link FilterBean}s as {@link BitSet}s over the source indexes of a {@link TransformableList}.
+ * <p>
+ * Used by {@link FilterPlan} when evaluated on a {@link TransformableList}, see {@link FilterPlan#matches(TransformableList)}.
+ * Since a bean's result doesn't depend on how it is chained with the others, changing the {@link io.github.palexdev.materialfx.enums.ChainMode}s
+ * or removing a bean and filtering again only combines the cached results, without testing any item.
+ * <p>
+ * Results may be partial: because of short-circuiting, a bean may have been tested only on some items.
+ * The cache keeps track of which items have been tested, so that only the missing ones are tested later.
+ * <p></p>
+ * Results are valid as long as the list's source doesn't change, see {@link TransformableList#getSourceVersion()}.
+ * Items mutated in place must either fire update changes (for example through an extractor) or be reported with
+ * {@link TransformableList#invalidateSourceVersion()}, otherwise stale results would be reused.
+ * {@link io.github.palexdev.materialfx.controls.MFXTableView#markDirty(Object)} does the latter.
+ * <p>
+ * {@link MFXFilterPane} has its own cache, and removes the beans which are removed from the active filters.
+ */
+public class FilterResultCache {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final Map<FilterBean<?, ?>, Entry> entries = new IdentityHashMap<>();
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Retrieves the cached result of the given bean for the given list. If there's no entry yet,
+	 * or the entry has been computed for another list or for another version of the source, it is reset.
+	 */
+	public Entry get(FilterBean<?, ?> bean, TransformableList<?> list) {
+		Entry entry = entries.computeIfAbsent(bean, b -> new Entry());
+		if (entry.list != list || entry.version != list.getSourceVersion()) {
+			entry.list = list;
+			entry.version = list.getSourceVersion();
+			entry.evaluated.clear();
+			entry.matches.clear();
+		}
+		return entry;
+	}
+
+	/**
+	 * Removes the cached result of the given bean.
+	 */
+	public void invalidate(FilterBean<?, ?> bean) {
+		entries.remove(bean);
+	}
+
+	/**
+	 * Removes all the cached results.
+	 */
+	public void clear() {
+		entries.clear();
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * The cached result of a single bean.
+	 */
+	public static class Entry {
+		private TransformableList<?> list;
+		private long version;
+		private final BitSet evaluated = new BitSet();
+		private final BitSet matches = new BitSet();
+
+		/**
+		 * @return the source indexes on which the bean has been tested
+		 */
+		public BitSet getEvaluated() {
+			return evaluated;
+		}
+
+		/**
+		 * @return the source indexes which satisfy the bean, among the evaluated ones
+		 */
+		public BitSet getMatches() {
+			return matches;
+		}
+	}
+}
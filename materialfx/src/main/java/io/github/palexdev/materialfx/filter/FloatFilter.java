@@ -19,6 +19,10 @@
 package io.github.palexdev.materialfx.filter;
 
 import io.github.palexdev.materialfx.beans.BiPredicateBean;
+import io.github.palexdev.materialfx.collections.ColumnIndex;
+import io.github.palexdev.materialfx.collections.SortedIndex;
+import io.github.palexdev.materialfx.enums.ComparisonOperator;
+import io.github.palexdev.materialfx.filter.base.ComparisonPredicate;
 import io.github.palexdev.materialfx.filter.base.NumberFilter;
 import io.github.palexdev.materialfx.i18n.I18N;
 import io.github.palexdev.materialfx.utils.FXCollectors;
@@ -57,15 +61,20 @@ public FloatFilter(String name, Function<T, Float> extractor, StringConverter<Fl
 	//================================================================================
 	// Overridden Methods
 	//================================================================================
+	@Override
+	public ColumnIndex<T, Float> createIndex() {
+		return new SortedIndex<>(getExtractor());
+	}
+
 	@Override
 	protected ObservableList<BiPredicateBean<Float, Float>> defaultPredicates() {
 		return Stream.<BiPredicateBean<Float, Float>>of(
-				new BiPredicateBean<>(I18N.getOrDefault("filter.is"), Float::equals),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.isNot"), (aFloat, aFloat2) -> !aFloat.equals(aFloat2)),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.greater"), (aFloat, aFloat2) -> aFloat > aFloat2),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.greaterEqual"), (aFloat, aFloat2) -> aFloat >= aFloat2),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.lesser"), (aFloat, aFloat2) -> aFloat < aFloat2),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.lesserEqual"), (aFloat, aFloat2) -> aFloat <= aFloat2)
+				new BiPredicateBean<>(I18N.getOrDefault("filter.is"), ComparisonPredicate.of(ComparisonOperator.EQUAL, Float::equals)),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.isNot"), ComparisonPredicate.of(ComparisonOperator.NOT_EQUAL, (aFloat, aFloat2) -> !aFloat.equals(aFloat2))),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.greater"), ComparisonPredicate.of(ComparisonOperator.GREATER, (aFloat, aFloat2) -> aFloat > aFloat2)),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.greaterEqual"), ComparisonPredicate.of(ComparisonOperator.GREATER_EQUAL, (aFloat, aFloat2) -> aFloat >= aFloat2)),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.lesser"), ComparisonPredicate.of(ComparisonOperator.LESSER, (aFloat, aFloat2) -> aFloat < aFloat2)),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.lesserEqual"), ComparisonPredicate.of(ComparisonOperator.LESSER_EQUAL, (aFloat, aFloat2) -> aFloat <= aFloat2))
 		).collect(FXCollectors.toList());
 	}
 
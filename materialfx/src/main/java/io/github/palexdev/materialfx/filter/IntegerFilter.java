@@ -19,6 +19,10 @@
 package io.github.palexdev.materialfx.filter;
 
 import io.github.palexdev.materialfx.beans.BiPredicateBean;
+import io.github.palexdev.materialfx.collections.ColumnIndex;
+import io.github.palexdev.materialfx.collections.SortedIndex;
+import io.github.palexdev.materialfx.enums.ComparisonOperator;
+import io.github.palexdev.materialfx.filter.base.ComparisonPredicate;
 import io.github.palexdev.materialfx.filter.base.NumberFilter;
 import io.github.palexdev.materialfx.i18n.I18N;
 import io.github.palexdev.materialfx.utils.FXCollectors;
@@ -57,15 +61,20 @@ public IntegerFilter(String name, Function<T, Integer> extractor, StringConverte
 	//================================================================================
 	// Overridden Methods
 	//================================================================================
+	@Override
+	public ColumnIndex<T, Integer> createIndex() {
+		return new SortedIndex<>(getExtractor());
+	}
+
 	@Override
 	protected ObservableList<BiPredicateBean<Integer, Integer>> defaultPredicates() {
 		return Stream.<BiPredicateBean<Integer, Integer>>of(
-				new BiPredicateBean<>(I18N.getOrDefault("filter.is"), Integer::equals),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.isNot"), (anInteger, anInteger2) -> !anInteger.equals(anInteger2)),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.greater"), (anInteger, anInteger2) -> anInteger > anInteger2),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.greaterEqual"), (anInteger, anInteger2) -> anInteger >= anInteger2),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.lesser"), (anInteger, anInteger2) -> anInteger < anInteger2),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.lesserEqual"), (anInteger, anInteger2) -> anInteger <= anInteger2)
+				new BiPredicateBean<>(I18N.getOrDefault("filter.is"), ComparisonPredicate.of(ComparisonOperator.EQUAL, Integer::equals)),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.isNot"), ComparisonPredicate.of(ComparisonOperator.NOT_EQUAL, (anInteger, anInteger2) -> !anInteger.equals(anInteger2))),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.greater"), ComparisonPredicate.of(ComparisonOperator.GREATER, (anInteger, anInteger2) -> anInteger > anInteger2)),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.greaterEqual"), ComparisonPredicate.of(ComparisonOperator.GREATER_EQUAL, (anInteger, anInteger2) -> anInteger >= anInteger2)),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.lesser"), ComparisonPredicate.of(ComparisonOperator.LESSER, (anInteger, anInteger2) -> anInteger < anInteger2)),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.lesserEqual"), ComparisonPredicate.of(ComparisonOperator.LESSER_EQUAL, (anInteger, anInteger2) -> anInteger <= anInteger2))
 		).collect(FXCollectors.toList());
 	}
 
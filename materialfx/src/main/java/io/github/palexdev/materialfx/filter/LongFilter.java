@@ -19,6 +19,8 @@
 package io.github.palexdev.materialfx.filter;
 
 import io.github.palexdev.materialfx.beans.BiPredicateBean;
+import io.github.palexdev.materialfx.enums.ComparisonOperator;
+import io.github.palexdev.materialfx.filter.base.ComparisonPredicate;
 import io.github.palexdev.materialfx.filter.base.NumberFilter;
 import io.github.palexdev.materialfx.i18n.I18N;
 import io.github.palexdev.materialfx.utils.FXCollectors;
@@ -60,12 +62,12 @@ public LongFilter(String name, Function<T, Long> extractor, StringConverter<Long
 	@Override
 	protected ObservableList<BiPredicateBean<Long, Long>> defaultPredicates() {
 		return Stream.<BiPredicateBean<Long, Long>>of(
-				new BiPredicateBean<>(I18N.getOrDefault("filter.is"), Long::equals),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.isNot"), (aLong, aLong2) -> !aLong.equals(aLong2)),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.greater"), (aLong, aLong2) -> aLong > aLong2),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.greaterEqual"), (aLong, aLong2) -> aLong >= aLong2),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.lesser"), (aLong, aLong2) -> aLong < aLong2),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.lesserEqual"), (aLong, aLong2) -> aLong <= aLong2)
+				new BiPredicateBean<>(I18N.getOrDefault("filter.is"), ComparisonPredicate.of(ComparisonOperator.EQUAL, Long::equals)),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.isNot"), ComparisonPredicate.of(ComparisonOperator.NOT_EQUAL, (aLong, aLong2) -> !aLong.equals(aLong2))),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.greater"), ComparisonPredicate.of(ComparisonOperator.GREATER, (aLong, aLong2) -> aLong > aLong2)),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.greaterEqual"), ComparisonPredicate.of(ComparisonOperator.GREATER_EQUAL, (aLong, aLong2) -> aLong >= aLong2)),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.lesser"), ComparisonPredicate.of(ComparisonOperator.LESSER, (aLong, aLong2) -> aLong < aLong2)),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.lesserEqual"), ComparisonPredicate.of(ComparisonOperator.LESSER_EQUAL, (aLong, aLong2) -> aLong <= aLong2))
 		).collect(FXCollectors.toList());
 	}
 
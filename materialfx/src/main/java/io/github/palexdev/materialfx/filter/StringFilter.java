@@ -19,10 +19,12 @@
 package io.github.palexdev.materialfx.filter;
 
 import io.github.palexdev.materialfx.beans.BiPredicateBean;
+import io.github.palexdev.materialfx.collections.ColumnIndex;
+import io.github.palexdev.materialfx.collections.TrigramIndex;
 import io.github.palexdev.materialfx.filter.base.AbstractFilter;
 import io.github.palexdev.materialfx.i18n.I18N;
 import io.github.palexdev.materialfx.utils.FXCollectors;
-import io.github.palexdev.materialfx.utils.StringUtils;
+import io.github.palexdev.materialfx.utils.StringMatcher;
 import javafx.collections.ObservableList;
 import javafx.util.StringConverter;
 
@@ -37,9 +39,11 @@
  * <p> - "contains": checks if a String is contained in another String
  * <p> - "contains ignore case": checks if a String is contained in another String, case insensitive
  * <p> - "contains any": checks if any of the given words are contained in a String. Words are specified as a
- * single String split by ", ". Like this: "A, B, C, DEF GHI, E, F"
- * <p> - "contains all": checks if all the given words are contained in a String. Words are specified as a
- * single String split by ", ". Like this: "A, B, C, DEF GHI, E, F"
+ * single String, separated by whitespaces and/or commas. Like this: "A, B, C, DEF GHI" or "A B C DEF GHI",
+ * both specify five words (DEF and GHI are two words). Words are matched as whole words of the String, which is
+ * split in the same way, see {@link StringMatcher#containsAny(String)}
+ * <p> - "contains all": checks if all the given words are contained in a String. Words are specified and matched
+ * as for "contains any", see {@link StringMatcher#containsAll(String)}
  * <p> - "ends with": checks if a String ends with another String
  * <p> - "ends with ignore case": checks if a String ends with another String, case insensitive
  * <p> - "starts with": checks if a String starts with another String
@@ -74,20 +78,30 @@ public StringFilter(String name, Function<T, String> extractor, StringConverter<
 	//================================================================================
 	// Overridden Methods
 	//================================================================================
+	@Override
+	public int evaluationCost() {
+		return 2;
+	}
+
+	@Override
+	public ColumnIndex<T, String> createIndex() {
+		return new TrigramIndex<>(getExtractor());
+	}
+
 	@Override
 	protected ObservableList<BiPredicateBean<String, String>> defaultPredicates() {
 		return Stream.<BiPredicateBean<String, String>>of(
-				new BiPredicateBean<>(I18N.getOrDefault("filter.contains"), String::contains),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.containsIgnCase"), StringUtils::containsIgnoreCase),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.containsAny"), StringUtils::containsAny),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.containsAll"), StringUtils::containsAll),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.endsWith"), String::endsWith),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.endsWithIgnCase"), StringUtils::endsWithIgnoreCase),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.equals"), String::equals),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.equalsIgnCase"), String::equalsIgnoreCase),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.contains"), StringMatcher.cached(StringMatcher::contains, true)),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.containsIgnCase"), StringMatcher.cached(StringMatcher::containsIgnoreCase, true)),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.containsAny"), StringMatcher.cached(StringMatcher::containsAny)),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.containsAll"), StringMatcher.cached(StringMatcher::containsAll)),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.endsWith"), StringMatcher.cached(StringMatcher::endsWith, true)),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.endsWithIgnCase"), StringMatcher.cached(StringMatcher::endsWithIgnoreCase, true)),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.equals"), StringMatcher.cached(StringMatcher::equalTo, true)),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.equalsIgnCase"), StringMatcher.cached(StringMatcher::equalToIgnoreCase, true)),
 				new BiPredicateBean<>(I18N.getOrDefault("filter.notEqual"), (aString, aString2) -> !aString.equals(aString2)),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.startsWith"), String::startsWith),
-				new BiPredicateBean<>(I18N.getOrDefault("filter.startsWithIgnCase"), StringUtils::startsWithIgnoreCase)
+				new BiPredicateBean<>(I18N.getOrDefault("filter.startsWith"), StringMatcher.cached(StringMatcher::startsWith, true)),
+				new BiPredicateBean<>(I18N.getOrDefault("filter.startsWithIgnCase"), StringMatcher.cached(StringMatcher::startsWithIgnoreCase, true))
 		).collect(FXCollectors.toList());
 	}
 
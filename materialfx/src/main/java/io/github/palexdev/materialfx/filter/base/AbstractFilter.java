@@ -20,8 +20,10 @@
 
 import io.github.palexdev.materialfx.beans.BiPredicateBean;
 import io.github.palexdev.materialfx.beans.FilterBean;
+import io.github.palexdev.materialfx.collections.ColumnIndex;
 import io.github.palexdev.materialfx.controls.MFXFilterPane;
 import io.github.palexdev.materialfx.enums.ChainMode;
+import io.github.palexdev.materialfx.filter.FilterPlan;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.ObservableList;
@@ -197,6 +199,26 @@ public FilterBean<T, U> toFilterBean(String input, BiPredicateBean<U, U> bean, C
 		return new FilterBean<>(input, this, bean, mode);
 	}
 
+	/**
+	 * Estimates the relative cost of testing a field with this filter, used by {@link FilterPlan}
+	 * to evaluate cheap filters before the expensive ones.
+	 * <p>
+	 * Lower is cheaper, by default returns 3 since the cost of a generic filter is unknown.
+	 */
+	public int evaluationCost() {
+		return 3;
+	}
+
+	/**
+	 * Creates a {@link ColumnIndex} for the field extracted by this filter. Indexes allow the filter's
+	 * {@link ComparisonPredicate}s to be answered without testing every item, see {@link FilterPlan}.
+	 * <p>
+	 * By default returns null, meaning that the filter doesn't support indexing.
+	 */
+	public ColumnIndex<T, U> createIndex() {
+		return null;
+	}
+
 	/**
 	 * Used in methods which rely on a selected {@link BiPredicateBean}.
 	 *
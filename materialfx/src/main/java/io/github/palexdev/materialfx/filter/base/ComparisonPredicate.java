@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.filter.base;
+
+import io.github.palexdev.materialfx.collections.ColumnIndex;
+import io.github.palexdev.materialfx.enums.ComparisonOperator;
+
+import java.util.function.BiPredicate;
+
+/**
+ * A {@link BiPredicate} that also declares the {@link ComparisonOperator} it implements.
+ * <p>
+ * This information is used by {@link io.github.palexdev.materialfx.filter.FilterPlan} to answer the predicate with a
+ * {@link ColumnIndex}, when one is available for the filtered field.
+ *
+ * @param <U> the type of the compared values
+ */
+public class ComparisonPredicate<U> implements BiPredicate<U, U> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final ComparisonOperator operator;
+	private final BiPredicate<U, U> predicate;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public ComparisonPredicate(ComparisonOperator operator, BiPredicate<U, U> predicate) {
+		this.operator = operator;
+		this.predicate = predicate;
+	}
+
+	public static <U> ComparisonPredicate<U> of(ComparisonOperator operator, BiPredicate<U, U> predicate) {
+		return new ComparisonPredicate<>(operator, predicate);
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+	@Override
+	public boolean test(U u, U u2) {
+		return predicate.test(u, u2);
+	}
+
+	//================================================================================
+	// Getters
+	//================================================================================
+
+	/**
+	 * @return the comparison implemented by this predicate
+	 */
+	public ComparisonOperator getOperator() {
+		return operator;
+	}
+}
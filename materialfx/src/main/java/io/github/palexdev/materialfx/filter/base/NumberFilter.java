@@ -33,4 +33,12 @@
 	public NumberFilter(String name, Function<T, U> extractor, StringConverter<U> converter) {
 		super(name, extractor, converter);
 	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+	@Override
+	public int evaluationCost() {
+		return 1;
+	}
 }
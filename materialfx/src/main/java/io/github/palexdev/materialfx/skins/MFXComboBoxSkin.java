@@ -77,6 +77,7 @@ public MFXComboBoxSkin(MFXComboBox<T> comboBox, BoundTextField boundField) {
 	//================================================================================
 	protected void setBehavior() {
 		comboBehavior();
+		typeaheadBehavior();
 		selectionBehavior();
 		iconBehavior();
 		popupBehavior();
@@ -119,6 +120,24 @@ private void comboBehavior() {
 		});
 	}
 
+	/**
+	 * Handles typeahead: if the combo is not editable and {@link MFXComboBox#typeaheadEnabledProperty()} is true,
+	 * typed chars select the first item starting with the typed text, see {@link MFXComboBox#getTypeahead()}.
+	 */
+	private void typeaheadBehavior() {
+		MFXComboBox<T> comboBox = getComboBox();
+		comboBox.addEventFilter(KeyEvent.KEY_TYPED, event -> {
+			if (comboBox.isEditable() || !comboBox.isTypeaheadEnabled()) return;
+			if (event.isControlDown() || event.isAltDown() || event.isMetaDown()) return;
+
+			int index = comboBox.getTypeahead().type(event.getCharacter());
+			if (index < 0) return;
+			comboBox.getSelectionModel().selectIndex(index);
+			if (virtualFlow != null) virtualFlow.scrollTo(index);
+			event.consume();
+		});
+	}
+
 	/**
 	 * Handles the selection to update the combo's value.
 	 */
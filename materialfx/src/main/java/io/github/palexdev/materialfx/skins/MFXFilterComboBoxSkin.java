@@ -24,12 +24,14 @@
 import io.github.palexdev.materialfx.controls.MFXTextField;
 import io.github.palexdev.materialfx.i18n.I18N;
 import io.github.palexdev.virtualizedfx.unused.simple.SimpleVirtualFlow;
+import javafx.animation.PauseTransition;
 import javafx.beans.binding.Bindings;
 import javafx.geometry.Orientation;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.VBox;
+import javafx.util.Duration;
 
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -43,6 +45,11 @@
  * method responsible for filtering the popup's listview.
  */
 public class MFXFilterComboBoxSkin<T> extends MFXComboBoxSkin<T> {
+    //================================================================================
+    // Properties
+    //================================================================================
+    private final PauseTransition searchTimer = new PauseTransition();
+    private long pendingSince = -1;
 
     //================================================================================
     // Constructors
@@ -58,12 +65,55 @@ public MFXFilterComboBoxSkin(MFXFilterComboBox<T> comboBox, BoundTextField bound
     private void addListeners() {
         MFXFilterComboBox<T> comboBox = getComboBox();
 
-        comboBox.searchTextProperty().addListener((observable, oldValue, newValue) -> filter(newValue));
+        searchTimer.setOnFinished(event -> flushSearch());
+        comboBox.searchTextProperty().addListener((observable, oldValue, newValue) -> scheduleFilter(newValue));
         popup.showingProperty().addListener((observable, oldValue, newValue) -> {
             if (!newValue && comboBox.isResetOnPopupHidden()) comboBox.setSearchText("");
         });
     }
 
+    /**
+     * Called when the search text changes, delays the filtering according to the
+     * {@link MFXFilterComboBox#searchDelayProperty()} and {@link MFXFilterComboBox#searchMaxLatencyProperty()}.
+     * <p>
+     * Every change restarts the delay, superseding the pending filter pass, so that only the last text is filtered.
+     * If the text has been pending for longer than the max latency, or it is empty, or the delay is zero,
+     * the list is filtered immediately.
+     */
+    protected void scheduleFilter(String text) {
+        MFXFilterComboBox<T> comboBox = getComboBox();
+        Duration delay = comboBox.getSearchDelay();
+        if (text == null || text.isEmpty() || delay == null || delay.lessThanOrEqualTo(Duration.ZERO)) {
+            flushSearch();
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (pendingSince < 0) pendingSince = now;
+        Duration maxLatency = comboBox.getSearchMaxLatency();
+        if (maxLatency != null) {
+            Duration remaining = maxLatency.subtract(Duration.millis((now - pendingSince) / 1_000_000.0));
+            if (remaining.lessThanOrEqualTo(Duration.ZERO)) {
+                flushSearch();
+                return;
+            }
+            if (remaining.lessThan(delay)) delay = remaining;
+        }
+
+        searchTimer.stop();
+        searchTimer.setDuration(delay);
+        searchTimer.playFromStart();
+    }
+
+    /**
+     * Cancels the pending filter pass, if any, and filters the list with the current search text.
+     */
+    protected void flushSearch() {
+        searchTimer.stop();
+        pendingSince = -1;
+        filter(getComboBox().getSearchText());
+    }
+
     /**
      * Responsible for filtering the popup's listview.
      * <p></p>
@@ -147,4 +197,11 @@ protected Node createPopupContent() {
     public MFXFilterComboBox<T> getComboBox() {
         return (MFXFilterComboBox<T>) getSkinnable();
     }
+
+    @Override
+    public void dispose() {
+        searchTimer.stop();
+        searchTimer.setOnFinished(null);
+        super.dispose();
+    }
 }
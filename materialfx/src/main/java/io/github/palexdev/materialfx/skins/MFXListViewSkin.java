@@ -29,6 +29,7 @@
 import javafx.beans.value.ObservableValue;
 import javafx.scene.control.ScrollBar;
 import javafx.scene.control.SkinBase;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.input.MouseEvent;
 import javafx.util.Duration;
 
@@ -39,6 +40,7 @@
     //================================================================================
     // Properties
     //================================================================================
+    private final SimpleVirtualFlow<T, ?> virtualFlow;
     private final ScrollBar hBar;
     private final ScrollBar vBar;
     private Animation hideBars;
@@ -49,6 +51,7 @@
     //================================================================================
     public MFXListViewSkin(AbstractMFXListView<T, ?> listView, SimpleVirtualFlow<T, ?> virtualFlow) {
         super(listView);
+        this.virtualFlow = virtualFlow;
         hBar = virtualFlow.getHBar();
         vBar = virtualFlow.getVBar();
 
@@ -82,7 +85,8 @@ public MFXListViewSkin(AbstractMFXListView<T, ?> listView, SimpleVirtualFlow<T,
     //================================================================================
 
     /**
-     * Calls {@link #setScrollBarHandlers()}, adds a listener to the list view's depth property.
+     * Calls {@link #setScrollBarHandlers()}, adds a listener to the list view's depth property
+     * and handles typeahead, see {@link AbstractMFXListView#getTypeahead()}.
      */
     private void setListeners() {
         AbstractMFXListView<T, ?> listView = getSkinnable();
@@ -94,6 +98,16 @@ private void setListeners() {
         });
 
         listView.addEventHandler(MouseEvent.MOUSE_CLICKED, event -> listView.requestFocus());
+        listView.addEventHandler(KeyEvent.KEY_TYPED, event -> {
+            if (!listView.isTypeaheadEnabled()) return;
+            if (event.isControlDown() || event.isAltDown() || event.isMetaDown()) return;
+
+            int index = listView.getTypeahead().type(event.getCharacter());
+            if (index < 0) return;
+            if (listView.isTypeaheadSelecting()) listView.getSelectionModel().replaceSelection(index);
+            virtualFlow.scrollTo(index);
+            event.consume();
+        });
     }
 
     /**
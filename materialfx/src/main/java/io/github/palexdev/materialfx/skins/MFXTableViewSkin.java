@@ -18,6 +18,7 @@
 
 package io.github.palexdev.materialfx.skins;
 
+import io.github.palexdev.materialfx.collections.Aggregate;
 import io.github.palexdev.materialfx.collections.TransformableList;
 import io.github.palexdev.materialfx.collections.TransformableListWrapper;
 import io.github.palexdev.materialfx.controls.*;
@@ -29,7 +30,9 @@
 import io.github.palexdev.virtualizedfx.unused.simple.SimpleVirtualFlow;
 import javafx.beans.InvalidationListener;
 import javafx.beans.binding.Bindings;
+import javafx.collections.ListChangeListener;
 import javafx.geometry.Pos;
+import javafx.scene.control.Label;
 import javafx.scene.control.SkinBase;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
@@ -46,6 +49,7 @@
  * <p>
  * At the bottom of the table view there's a footer which by default has two icons to filter/clear filter. Can be changed by overriding
  * {@link #buildFooter()} or hidden(removed) by setting {@link MFXTableView#footerVisibleProperty()} to false.
+ * The default footer also shows the columns' aggregates (if any), see {@link MFXTableColumn#aggregateProperty()}.
  * <p></p>
  * The filter mechanism relies on the super flexible {@link MFXFilterPane} shown in a modal dialog.
  * <p></p>
@@ -63,6 +67,15 @@
 	protected final HBox columnsContainer;
 	protected final SimpleVirtualFlow<T, MFXTableRow<T>> rowsFlow;
 	protected final StackPane footer;
+	protected HBox aggregatesBox;
+	private final InvalidationListener aggregatesListener = invalidated -> updateAggregates();
+	private final ListChangeListener<MFXTableColumn<T>> columnsAggregatesListener = change -> {
+		while (change.next()) {
+			change.getRemoved().forEach(column -> column.aggregateProperty().removeListener(aggregatesListener));
+			change.getAddedSubList().forEach(column -> column.aggregateProperty().addListener(aggregatesListener));
+		}
+		updateAggregates();
+	};
 
 	private final MFXFilterPane<T> filterPane;
 	private final MFXStageDialog filterDialog;
@@ -149,6 +162,10 @@ private void addListeners() {
 			}
 		});
 
+		tableView.getTableColumns().forEach(column -> column.aggregateProperty().addListener(aggregatesListener));
+		tableView.getTableColumns().addListener(columnsAggregatesListener);
+		updateAggregates();
+
 		tableView.footerVisibleProperty().addListener((observable, oldValue, newValue) -> {
 			if (newValue) {
 				container.getChildren().add(footer);
@@ -189,11 +206,43 @@ protected StackPane buildFooter() {
 		HBox container = new HBox(10, filterIcon, clearFilterIcon);
 		StackPane.setAlignment(container, Pos.CENTER_LEFT);
 
-		StackPane stackPane = new StackPane(container);
+		aggregatesBox = new HBox(20);
+		aggregatesBox.getStyleClass().add("aggregates");
+		aggregatesBox.setAlignment(Pos.CENTER_RIGHT);
+		aggregatesBox.setPickOnBounds(false);
+		StackPane.setAlignment(aggregatesBox, Pos.CENTER_RIGHT);
+
+		StackPane stackPane = new StackPane(container, aggregatesBox);
 		stackPane.getStyleClass().add("default-footer");
 		return stackPane;
 	}
 
+	/**
+	 * Responsible for showing the columns' aggregates in the footer.
+	 * <p>
+	 * For each column that defines an {@link Aggregate} a label is built, its text is bound to
+	 * the column's text, the aggregate's type and value (converted by {@link MFXTableColumn#aggregateConverterProperty()}).
+	 * <p></p>
+	 * Does nothing if the footer has been customized and there's no box for the aggregates.
+	 */
+	protected void updateAggregates() {
+		if (aggregatesBox == null) return;
+
+		aggregatesBox.getChildren().clear();
+		for (MFXTableColumn<T> column : getSkinnable().getTableColumns()) {
+			Aggregate<T> aggregate = column.getAggregate();
+			if (aggregate == null) continue;
+
+			Label label = new Label();
+			label.getStyleClass().add("aggregate-label");
+			label.textProperty().bind(Bindings.createStringBinding(
+					() -> column.getText() + " " + aggregate.getType().text() + ": " + column.getAggregateConverter().apply(aggregate.getValue()),
+					aggregate.valueProperty(), column.textProperty(), column.aggregateConverterProperty()
+			));
+			aggregatesBox.getChildren().add(label);
+		}
+	}
+
 	//================================================================================
 	// Overridden Methods
 	//================================================================================
@@ -206,4 +255,12 @@ protected double computeMaxWidth(double height, double topInset, double rightIns
 	protected double computeMaxHeight(double width, double topInset, double rightInset, double bottomInset, double leftInset) {
 		return getSkinnable().prefHeight(-1);
 	}
+
+	@Override
+	public void dispose() {
+		MFXTableView<T> tableView = getSkinnable();
+		tableView.getTableColumns().removeListener(columnsAggregatesListener);
+		tableView.getTableColumns().forEach(column -> column.aggregateProperty().removeListener(aggregatesListener));
+		super.dispose();
+	}
 }
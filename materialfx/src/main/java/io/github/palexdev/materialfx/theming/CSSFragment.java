@@ -53,6 +53,7 @@ public class CSSFragment {
 	private static final Base64.Encoder enc = Base64.getEncoder();
 	private final String css;
 	private String converted;
+	private String url;
 
 	public static final String DATA_URI_PREFIX = "data:base64,";
 
@@ -95,6 +96,22 @@ public String toDataUri() {
 		return converted;
 	}
 
+	/**
+	 * Converts this CSS fragment to the string used to add it to stylesheets lists.
+	 * <p>
+	 * If the {@link CSSRegistry} is supported, the fragment is registered there and the result is a short
+	 * "mfxcss://" URL, otherwise it's the same as {@link #toDataUri()}. The registered stylesheet is released once
+	 * neither this fragment nor any stylesheets list holds the returned URL anymore.
+	 * <p>
+	 * Subsequent calls to this will be faster as the result is cached.
+	 */
+	public String toURL() {
+		if (url == null) {
+			url = CSSRegistry.isSupported() ? CSSRegistry.register(css) : toDataUri();
+		}
+		return url;
+	}
+
 	/**
 	 * If this CSS fragment has not been applied yet to the given {@link Parent}, applies it
 	 * using {@link Parent#getStylesheets()}
@@ -103,7 +120,7 @@ public String toDataUri() {
 	 */
 	public void applyOn(Parent parent) {
 		if (!isAppliedOn(parent))
-			parent.getStylesheets().add(toDataUri());
+			parent.getStylesheets().add(toURL());
 	}
 
 	/**
@@ -114,7 +131,38 @@ public void applyOn(Parent parent) {
 	 */
 	public void applyOn(Scene scene) {
 		if (!isAppliedOn(scene))
-			scene.getStylesheets().add(toDataUri());
+			scene.getStylesheets().add(toURL());
+	}
+
+	/**
+	 * Replaces the given previous fragment with this one in the stylesheets of the given {@link Parent}, keeping its position.
+	 * If the previous fragment is not applied on the parent, this is the same as {@link #applyOn(Parent)}.
+	 * <p>
+	 * Compared to removing the old fragment and adding the new one, this results in a single change of the stylesheets
+	 * list, and thus in a single CSS pass.
+	 */
+	public void replaceOn(Parent parent, CSSFragment previous) {
+		int index = parent.getStylesheets().indexOf(previous.toURL());
+		if (index < 0) {
+			applyOn(parent);
+			return;
+		}
+		parent.getStylesheets().set(index, toURL());
+	}
+
+	/**
+	 * Replaces the given previous fragment with this one in the stylesheets of the given {@link Scene}, keeping its position.
+	 * If the previous fragment is not applied on the scene, this is the same as {@link #applyOn(Scene)}.
+	 *
+	 * @see #replaceOn(Parent, CSSFragment)
+	 */
+	public void replaceOn(Scene scene, CSSFragment previous) {
+		int index = scene.getStylesheets().indexOf(previous.toURL());
+		if (index < 0) {
+			applyOn(scene);
+			return;
+		}
+		scene.getStylesheets().set(index, toURL());
 	}
 
 	/**
@@ -123,31 +171,31 @@ public void applyOn(Scene scene) {
 	 */
 	public void setGlobal() {
 		if (!isGlobal())
-			Application.setUserAgentStylesheet(toDataUri());
+			Application.setUserAgentStylesheet(toURL());
 	}
 
 	/**
 	 * Checks whether this CSS fragment has already been applied to the given {@link Parent}
-	 * by checking if its stylesheets list contains this (converted to a Data URI).
+	 * by checking if its stylesheets list contains this (converted with {@link #toURL()}).
 	 */
 	public boolean isAppliedOn(Parent parent) {
-		return parent.getStylesheets().contains(toDataUri());
+		return parent.getStylesheets().contains(toURL());
 	}
 
 	/**
 	 * Checks whether this CSS fragment has already been applied to the given {@link Scene}
-	 * by checking if its stylesheets list contains this (converted to a Data URI).
+	 * by checking if its stylesheets list contains this (converted with {@link #toURL()}).
 	 */
 	public boolean isAppliedOn(Scene scene) {
-		return scene.getStylesheets().contains(toDataUri());
+		return scene.getStylesheets().contains(toURL());
 	}
 
 	/**
 	 * Checks whether this CSS fragment has already been applied as the {@link Application}'s global user agent stylesheet,
-	 * by checking if {@link Application#getUserAgentStylesheet()} is equal to this (converted to a Data URI).
+	 * by checking if {@link Application#getUserAgentStylesheet()} is equal to this (converted with {@link #toURL()}).
 	 */
 	public boolean isGlobal() {
-		return Objects.equals(Application.getUserAgentStylesheet(), toDataUri());
+		return Objects.equals(Application.getUserAgentStylesheet(), toURL());
 	}
 
 	//================================================================================
@@ -0,0 +1,219 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.theming;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.net.spi.URLStreamHandlerProvider;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * In-memory store of stylesheets, served to JavaFX through a custom URL scheme: {@value #PROTOCOL}.
+ * <p>
+ * Stylesheets are identified by a hash of their contents, so registering the same stylesheet twice gives
+ * the same URL, for example: "mfxcss://0f3a...". Compared to Data URIs (see {@link CSSFragment#toDataUri()}) the
+ * stylesheet is not encoded in base64, and its identity is a short string rather than the whole encoded stylesheet. This makes
+ * checks such as {@link CSSFragment#isAppliedOn(javafx.scene.Parent)} much cheaper.
+ * <p></p>
+ * The scheme is made available to {@link URL} by {@link Provider}, which is registered as a {@link URLStreamHandlerProvider}
+ * service. If for some reason the service is not picked up (for example if the module/jar descriptors are stripped),
+ * {@link #isSupported()} returns false and {@link CSSFragment} falls back to Data URIs.
+ * <p></p>
+ * Entries are weak, they are tied to the URL String instance returned by {@link #register(String)}: the store keeps a
+ * stylesheet as long as that instance is reachable, for example held by a {@link CSSFragment} or by the stylesheets
+ * list of a node/scene it has been applied on. Once nothing references it anymore the stylesheet is dropped, so
+ * dynamically built fragments don't accumulate in memory. Note that only that instance counts, a copy of the
+ * String doesn't keep the stylesheet in the store.
+ */
+public class CSSRegistry {
+	//================================================================================
+	// Properties
+	//================================================================================
+	public static final String PROTOCOL = "mfxcss";
+	private static final Map<String, Entry> store = Collections.synchronizedMap(new WeakHashMap<>());
+	private static Boolean supported;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	private CSSRegistry() {}
+
+	//================================================================================
+	// Static Methods
+	//================================================================================
+
+	/**
+	 * Registers the given stylesheet in the store. If it is already registered, the same URL instance is returned.
+	 * <p>
+	 * The stylesheet stays in the store as long as the returned instance is reachable, see {@link CSSRegistry}.
+	 *
+	 * @return the URL at which the stylesheet can be retrieved
+	 */
+	public static String register(String css) {
+		String url = toUrl(hash(css));
+		synchronized (store) {
+			Entry entry = store.get(url);
+			String registered = entry != null ? entry.url.get() : null;
+			if (registered != null) return registered;
+			store.put(url, new Entry(url, css.getBytes(StandardCharsets.UTF_8)));
+			return url;
+		}
+	}
+
+	/**
+	 * Removes the stylesheet at the given URL from the store. Any node still using it won't be able to load it anymore.
+	 *
+	 * @return whether the stylesheet was in the store
+	 */
+	public static boolean unregister(String url) {
+		return store.remove(toUrl(toHash(url))) != null;
+	}
+
+	/**
+	 * @return whether the stylesheet at the given URL is in the store
+	 */
+	public static boolean isRegistered(String url) {
+		return store.containsKey(toUrl(toHash(url)));
+	}
+
+	/**
+	 * Checks whether the {@value #PROTOCOL} scheme is supported by {@link URL}, see {@link Provider}.
+	 * The result is computed only once.
+	 */
+	public static boolean isSupported() {
+		if (supported == null) {
+			try {
+				new URL(PROTOCOL + "://test");
+				supported = true;
+			} catch (MalformedURLException ex) {
+				supported = false;
+			}
+		}
+		return supported;
+	}
+
+	/**
+	 * Computes the hash identifying the given stylesheet: the first 128 bits of its SHA-256, as an hex string.
+	 */
+	public static String hash(String css) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(css.getBytes(StandardCharsets.UTF_8));
+			StringBuilder sb = new StringBuilder(32);
+			for (int i = 0; i < 16; i++) {
+				sb.append(Character.forDigit((digest[i] >> 4) & 0xF, 16)).append(Character.forDigit(digest[i] & 0xF, 16));
+			}
+			return sb.toString();
+		} catch (NoSuchAlgorithmException ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+
+	private static String toUrl(String hash) {
+		return PROTOCOL + "://" + hash;
+	}
+
+	private static String toHash(String url) {
+		String prefix = PROTOCOL + "://";
+		return url.startsWith(prefix) ? url.substring(prefix.length()) : url;
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * A stylesheet in the store. The URL is weakly referenced, since it is the key of the store.
+	 */
+	private static class Entry {
+		private final WeakReference<String> url;
+		private final byte[] data;
+
+		Entry(String url, byte[] data) {
+			this.url = new WeakReference<>(url);
+			this.data = data;
+		}
+	}
+
+	/**
+	 * {@link URLStreamHandlerProvider} for the {@value #PROTOCOL} scheme, serves the stylesheets in the store.
+	 */
+	public static class Provider extends URLStreamHandlerProvider {
+		@Override
+		public URLStreamHandler createURLStreamHandler(String protocol) {
+			return PROTOCOL.equals(protocol) ? new Handler() : null;
+		}
+	}
+
+	private static class Handler extends URLStreamHandler {
+		@Override
+		protected URLConnection openConnection(URL u) {
+			return new Connection(u);
+		}
+	}
+
+	private static class Connection extends URLConnection {
+		private byte[] data;
+
+		Connection(URL url) {
+			super(url);
+		}
+
+		@Override
+		public void connect() throws IOException {
+			if (connected) return;
+			Entry entry = store.get(toUrl(url.getHost()));
+			data = entry != null ? entry.data : null;
+			if (data == null) throw new FileNotFoundException("Stylesheet not registered: " + url);
+			connected = true;
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			connect();
+			return new ByteArrayInputStream(data);
+		}
+
+		@Override
+		public String getContentType() {
+			return "text/css";
+		}
+
+		@Override
+		public long getContentLengthLong() {
+			try {
+				connect();
+				return data.length;
+			} catch (IOException ex) {
+				return -1;
+			}
+		}
+	}
+}
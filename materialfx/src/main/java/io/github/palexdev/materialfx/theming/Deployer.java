@@ -22,20 +22,24 @@
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
 import static java.nio.file.FileVisitResult.CONTINUE;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
 /**
@@ -44,8 +48,17 @@
  * The base path for all deployments is at the OS' temp directory {@code System.getProperty("java.io.tmpdir")} in a
  * subdirectory named "themes-assets".
  * <p></p>
- * The deployment will always occur replacing any existing asset, this way we ensure that all assets are present,
- * unmodified/uncorrupted, while also avoiding costly checks on the filesystem.
+ * Deployments are incremental. Along with the assets, a manifest file is written, containing the hash of the zip
+ * and the size and CRC of every extracted file. When a theme is deployed again:
+ * <p> - if the zip's hash matches the manifest's one and all the files are still on the disk with the expected size,
+ * nothing is extracted
+ * <p> - otherwise, only the files which are missing or changed (according to the manifest) are extracted, and the
+ * files listed in the manifest which are not in the zip anymore are deleted
+ * <p>
+ * Big archives are extracted in parallel.
+ * <p>
+ * The zip, the extracted files and the manifest are first written to temporary files, then atomically moved into place,
+ * so that concurrent deployments (even from different processes) never see, nor produce, partially written files.
  * <p></p>
  * Deployments are stored in a nested map of type: [String, Map[String, Path]].
  * <p>
@@ -104,6 +117,9 @@ public static Deployer instance() {
 	private final Map<String, Map<String, Path>> cache = new HashMap<>();
 	private final Path tmpDir = Path.of(System.getProperty("java.io.tmpdir"), "themes-assets");
 
+	private static final String MANIFEST = ".manifest";
+	private static final int PARALLEL_THRESHOLD = 16;
+
 	//================================================================================
 	// Constructors
 	//================================================================================
@@ -119,7 +135,13 @@ private Deployer() {}
 	 * <p>
 	 * The paths in the zip are preserved.
 	 * <p></p>
-	 * At the end the zip file is deleted.
+	 * The zip is read in memory and hashed first. If it matches the manifest of a previous deployment, and the
+	 * files are still there, the extraction is skipped entirely. Otherwise, the zip is copied to a temporary file, the
+	 * changed/missing files are extracted (in parallel for big archives), the files of the previous deployment which
+	 * are not in the zip anymore are deleted, the manifest is updated and the zip is deleted.
+	 * <p>
+	 * Note that only the files listed in the previous manifest can be deleted this way: directories are not tracked,
+	 * so they are left on the disk even if empty, and so are files extracted by versions which did not write a manifest.
 	 */
 	public void deploy(Theme theme) throws Exception {
 		if (!Files.isDirectory(tmpDir)) Files.createDirectories(tmpDir);
@@ -130,22 +152,46 @@ public void deploy(Theme theme) throws Exception {
 			Path destDir = tmpDir.resolve(theme.deployName());
 			if (!Files.isDirectory(destDir)) Files.createDirectories(destDir);
 
-			// Copy zip to file system
-			zipPath = destDir.resolve("assets.zip");
-			OutputStream out = Files.newOutputStream(zipPath);
-			in.transferTo(out);
+			byte[] data = in.readAllBytes();
+			String hash = hash(data);
+			Manifest manifest = Manifest.read(destDir.resolve(MANIFEST));
+			if (hash.equals(manifest.hash) && manifest.isIntact(destDir)) {
+				Map<String, Path> themeCache = cache.computeIfAbsent(theme.deployName(), t -> new HashMap<>());
+				for (String name : manifest.entries.keySet()) {
+					themeCache.put(name, destDir.resolve(name));
+				}
+				return;
+			}
+
+			// Copy zip to file system, the file is private to this deployment
+			zipPath = Files.createTempFile(destDir, "assets-", ".zip");
+			Files.write(zipPath, data);
 
 			// Unzip
 			try (ZipFile zf = new ZipFile(zipPath.toFile())) {
 				List<? extends ZipEntry> entries = zf.stream().collect(Collectors.toList());
+				Manifest updated = new Manifest(hash);
 				for (ZipEntry entry : entries) {
-					unzip(theme, zf, entry, destDir);
+					if (entry.isDirectory()) {
+						Files.createDirectories(destDir.resolve(entry.getName()));
+					} else {
+						updated.entries.put(entry.getName(), new long[]{entry.getSize(), entry.getCrc()});
+					}
 				}
+
+				Stream<? extends ZipEntry> files = (entries.size() >= PARALLEL_THRESHOLD ? entries.parallelStream() : entries.stream())
+					.filter(entry -> !entry.isDirectory());
+				Map<String, Path> extracted = files
+					.collect(Collectors.toConcurrentMap(ZipEntry::getName, entry -> unzip(zf, entry, destDir, manifest)));
+				Map<String, Path> themeCache = cache.computeIfAbsent(theme.deployName(), t -> new HashMap<>());
+				prune(destDir, manifest, updated, themeCache);
+				themeCache.putAll(extracted);
+				updated.write(destDir.resolve(MANIFEST));
 			}
-		} catch (IOException ex) {
+		} catch (IOException | UncheckedIOException ex) {
 			throw new RuntimeException(ex);
 		} finally {
-			if (zipPath != null) Files.delete(zipPath);
+			if (zipPath != null) Files.deleteIfExists(zipPath);
 		}
 	}
 
@@ -191,19 +237,78 @@ public Map<String, Path> getDeployed(Theme theme) {
 	}
 
 	/**
-	 * Responsible for copying resources from the zip file to the filesystem as well as building the cache.
+	 * Responsible for copying resources from the zip file to the filesystem.
+	 * <p>
+	 * The file is not copied if the given previous {@link Manifest} states that it has the same size and CRC
+	 * of the zip entry, and the file on the disk still has such size.
+	 * <p>
+	 * The entry is extracted to a temporary file first, which is then moved to the target path, see {@link #replace(Path, Path)}.
+	 * <p>
+	 * This may be called concurrently for different entries.
+	 *
+	 * @return the path of the extracted file
 	 */
-	private void unzip(Theme theme, ZipFile zf, ZipEntry entry, Path destDir) throws IOException {
+	private Path unzip(ZipFile zf, ZipEntry entry, Path destDir, Manifest previous) {
 		String name = entry.getName();
 		Path target = destDir.resolve(name);
-		if (entry.isDirectory()) {
-			Files.createDirectories(target);
-		} else {
+		try {
+			long[] info = previous.entries.get(name);
+			if (info != null && info[0] == entry.getSize() && info[1] == entry.getCrc() &&
+				Files.isRegularFile(target) && Files.size(target) == entry.getSize()) {
+				return target;
+			}
+
+			Path parent = target.getParent();
+			if (!Files.isDirectory(parent)) Files.createDirectories(parent);
+			Path tmp = Files.createTempFile(parent, "deploy", ".tmp");
 			try (InputStream in = zf.getInputStream(entry)) {
-				Files.copy(in, target, REPLACE_EXISTING);
-				Map<String, Path> themeCache = cache.computeIfAbsent(theme.deployName(), t -> new HashMap<>());
-				themeCache.put(name, target);
+				Files.copy(in, tmp, REPLACE_EXISTING);
+				replace(tmp, target);
+			} finally {
+				Files.deleteIfExists(tmp);
 			}
+			return target;
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	/**
+	 * Deletes the files listed in the previous {@link Manifest} which are not in the updated one anymore, and
+	 * removes them from the given cache.
+	 */
+	private void prune(Path destDir, Manifest previous, Manifest updated, Map<String, Path> themeCache) throws IOException {
+		for (String name : previous.entries.keySet()) {
+			if (updated.entries.containsKey(name)) continue;
+			Files.deleteIfExists(destDir.resolve(name));
+			themeCache.remove(name);
+		}
+	}
+
+	/**
+	 * Moves the given temporary file to the given target, replacing it. The move is atomic if the filesystem
+	 * supports it, so that readers always see either the old file or the new one.
+	 */
+	private static void replace(Path tmp, Path target) throws IOException {
+		try {
+			Files.move(tmp, target, REPLACE_EXISTING, ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException ex) {
+			Files.move(tmp, target, REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * @return the SHA-256 hash of the given data as an hex string
+	 */
+	private String hash(byte[] data) {
+		try {
+			StringBuilder sb = new StringBuilder();
+			for (byte b : MessageDigest.getInstance("SHA-256").digest(data)) {
+				sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			}
+			return sb.toString();
+		} catch (NoSuchAlgorithmException ex) {
+			throw new RuntimeException(ex);
 		}
 	}
 
@@ -226,4 +331,70 @@ public FileVisitResult postVisitDirectory(final Path dir, final IOException e) t
 			}
 		});
 	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * Describes a deployment: the hash of the deployed zip and, for each extracted file, its size and CRC.
+	 * <p>
+	 * It's stored on the disk as a simple text file, the first line is the hash, followed by a line for each file
+	 * in the format: "name TAB size TAB crc".
+	 */
+	private static class Manifest {
+		private final String hash;
+		private final Map<String, long[]> entries = new LinkedHashMap<>();
+
+		Manifest(String hash) {
+			this.hash = hash;
+		}
+
+		/**
+		 * Reads the manifest at the given path. If it doesn't exist or is invalid, returns an empty manifest.
+		 */
+		static Manifest read(Path path) {
+			if (!Files.isRegularFile(path)) return new Manifest("");
+			try {
+				List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+				if (lines.isEmpty()) return new Manifest("");
+				Manifest manifest = new Manifest(lines.get(0));
+				for (int i = 1; i < lines.size(); i++) {
+					String[] split = lines.get(i).split("\t");
+					if (split.length != 3) continue;
+					manifest.entries.put(split[0], new long[]{Long.parseLong(split[1]), Long.parseLong(split[2])});
+				}
+				return manifest;
+			} catch (IOException | NumberFormatException ex) {
+				return new Manifest("");
+			}
+		}
+
+		/**
+		 * @return whether all the files described by the manifest exist in the given directory with the expected size
+		 */
+		boolean isIntact(Path destDir) throws IOException {
+			for (Map.Entry<String, long[]> entry : entries.entrySet()) {
+				Path path = destDir.resolve(entry.getKey());
+				if (!Files.isRegularFile(path) || Files.size(path) != entry.getValue()[0]) return false;
+			}
+			return true;
+		}
+
+		void write(Path path) throws IOException {
+			StringBuilder sb = new StringBuilder(hash).append("\n");
+			for (Map.Entry<String, long[]> entry : entries.entrySet()) {
+				sb.append(entry.getKey()).append("\t")
+					.append(entry.getValue()[0]).append("\t")
+					.append(entry.getValue()[1]).append("\n");
+			}
+			Path tmp = Files.createTempFile(path.getParent(), "manifest", ".tmp");
+			try {
+				Files.writeString(tmp, sb.toString(), StandardCharsets.UTF_8);
+				replace(tmp, path);
+			} finally {
+				Files.deleteIfExists(tmp);
+			}
+		}
+	}
 }
@@ -0,0 +1,275 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.theming;
+
+import io.github.palexdev.materialfx.controls.base.Themable;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Describes which style classes and type selectors are used by an application, allowing {@link UserAgentBuilder} to
+ * strip the rules that cannot match any node from the merged stylesheet, see {@link UserAgentBuilder#setUsage(StyleUsage)}.
+ * <p>
+ * Less rules mean faster parsing, and most importantly, less selectors to check for every node in the scene graph.
+ * <p></p>
+ * The usage can be declared, by adding style classes with {@link #add(String...)}, or recorded at runtime from live
+ * nodes with {@link #record(Node)} and {@link #record(Themable)}. Recorded usages can be stored with {@link #save(Path)}
+ * and loaded at the next launch with {@link #load(Path)}, so that the pruned stylesheet can be built before any node
+ * is created.
+ * <p></p>
+ * A selector is considered matchable by {@link #canMatch(String)} depending on the {@link #isStrict()} flag:
+ * <p> - When false (default), only the first compound of the selector is checked, the one that usually scopes the rule
+ * to a control. For example, the selector ".mfx-button .text" is kept as long as "mfx-button" is used. This is suited for
+ * declared usages, since the style classes of the nodes created by the skins are not known in advance
+ * <p> - When true, every compound of the selector is checked. This is suited for usages recorded from fully skinned scene
+ * graphs, and prunes much more
+ * <p>
+ * In both cases, type selectors are checked only if at least one type has been recorded, while IDs and pseudo classes are
+ * ignored (pseudo classes depend on the state, which may change at any time). The "root" style class is always considered used.
+ * <p></p>
+ * <b>Beware:</b> rules for style classes added to nodes after the usage has been declared/recorded will be missing from the
+ * stylesheet, so make sure to also include any style class set dynamically by your code.
+ */
+public class StyleUsage {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final Set<String> styleClasses = new HashSet<>();
+	private final Set<String> types = new HashSet<>();
+	private boolean strict = false;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public StyleUsage() {
+		styleClasses.add("root");
+	}
+
+	public StyleUsage(String... styleClasses) {
+		this();
+		add(styleClasses);
+	}
+
+	//================================================================================
+	// Static Methods
+	//================================================================================
+
+	/**
+	 * Loads a usage previously stored by {@link #save(Path)}.
+	 */
+	public static StyleUsage load(Path file) throws IOException {
+		StyleUsage usage = new StyleUsage();
+		for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+			line = line.trim();
+			if (line.isEmpty()) continue;
+			if (line.charAt(0) == '.') {
+				usage.styleClasses.add(line.substring(1));
+			} else {
+				usage.types.add(line);
+			}
+		}
+		return usage;
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Adds the given style classes to the usage.
+	 */
+	public StyleUsage add(String... styleClasses) {
+		Collections.addAll(this.styleClasses, styleClasses);
+		return this;
+	}
+
+	/**
+	 * Adds the given type selectors to the usage, see {@link Node#getTypeSelector()}.
+	 */
+	public StyleUsage addTypes(String... types) {
+		Collections.addAll(this.types, types);
+		return this;
+	}
+
+	/**
+	 * Records the style classes and type selectors of the given node and all its descendants, including the
+	 * nodes created by skins.
+	 * <p>
+	 * CSS is applied on the node before recording, so that the skins of controls in a scene are created.
+	 * This must be called on the JavaFX thread.
+	 */
+	public StyleUsage record(Node node) {
+		node.applyCss();
+		Deque<Node> stack = new ArrayDeque<>();
+		stack.push(node);
+		while (!stack.isEmpty()) {
+			Node n = stack.pop();
+			styleClasses.addAll(n.getStyleClass());
+			types.add(n.getTypeSelector());
+			if (n instanceof Parent) {
+				for (Node child : ((Parent) n).getChildrenUnmodifiable()) {
+					stack.push(child);
+				}
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Records the node returned by {@link Themable#toParent()}, see {@link #record(Node)}.
+	 */
+	public StyleUsage record(Themable themable) {
+		return record(themable.toParent());
+	}
+
+	/**
+	 * Adds all the style classes and types of the given usage to this one.
+	 */
+	public StyleUsage merge(StyleUsage other) {
+		styleClasses.addAll(other.styleClasses);
+		types.addAll(other.types);
+		return this;
+	}
+
+	/**
+	 * Stores this usage in the given file, one entry per line: style classes are prefixed by a dot, types are not.
+	 */
+	public void save(Path file) throws IOException {
+		Files.write(file, entries(), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Checks whether the given selector may match any node using the recorded style classes and types.
+	 * The selector must not be a selectors list, commas are not handled.
+	 */
+	public boolean canMatch(String selector) {
+		int n = selector.length();
+		int i = 0;
+		while (i < n) {
+			while (i < n && isCombinator(selector.charAt(i))) i++;
+			if (i >= n) break;
+
+			/* Compound selector */
+			if (isNameChar(selector.charAt(i)) && !types.isEmpty()) {
+				int end = nameEnd(selector, i);
+				if (!types.contains(selector.substring(i, end))) return false;
+				i = end;
+			}
+			while (i < n && !isCombinator(selector.charAt(i))) {
+				char c = selector.charAt(i);
+				if (c == '.') {
+					int end = nameEnd(selector, i + 1);
+					if (!styleClasses.contains(selector.substring(i + 1, end))) return false;
+					i = end;
+				} else if (c == '(' || c == '[') {
+					int end = selector.indexOf(c == '(' ? ')' : ']', i);
+					i = end < 0 ? n : end + 1;
+				} else if (c == ':' || c == '#') {
+					i = nameEnd(selector, i + 1);
+				} else {
+					i++;
+				}
+			}
+			if (!strict) break;
+		}
+		return true;
+	}
+
+	/**
+	 * @return a string which identifies this usage, used by {@link UserAgentBuilder} to compute the cache key
+	 */
+	String key() {
+		return strict + "|" + String.join("|", entries());
+	}
+
+	private List<String> entries() {
+		List<String> entries = new ArrayList<>(styleClasses.size() + types.size());
+		for (String styleClass : styleClasses) {
+			entries.add("." + styleClass);
+		}
+		entries.addAll(types);
+		Collections.sort(entries);
+		return entries;
+	}
+
+	private int nameEnd(String selector, int start) {
+		int i = start;
+		while (i < selector.length()) {
+			char c = selector.charAt(i);
+			if (c == '\\') {
+				i += 2;
+			} else if (isNameChar(c)) {
+				i++;
+			} else {
+				break;
+			}
+		}
+		return Math.min(i, selector.length());
+	}
+
+	private boolean isNameChar(char c) {
+		return Character.isLetterOrDigit(c) || c == '-' || c == '_';
+	}
+
+	private boolean isCombinator(char c) {
+		return Character.isWhitespace(c) || c == '>' || c == '+' || c == '~';
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+
+	/**
+	 * @return an unmodifiable view of the used style classes
+	 */
+	public Set<String> getStyleClasses() {
+		return Collections.unmodifiableSet(styleClasses);
+	}
+
+	/**
+	 * @return an unmodifiable view of the used type selectors
+	 */
+	public Set<String> getTypes() {
+		return Collections.unmodifiableSet(types);
+	}
+
+	/**
+	 * @return whether all the compounds of a selector are checked, or just the first one
+	 * @see #canMatch(String)
+	 */
+	public boolean isStrict() {
+		return strict;
+	}
+
+	/**
+	 * Sets whether all the compounds of a selector are checked, or just the first one.
+	 *
+	 * @see #canMatch(String)
+	 */
+	public StyleUsage setStrict(boolean strict) {
+		this.strict = strict;
+		return this;
+	}
+}
@@ -26,13 +26,19 @@
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.JarURLConnection;
 import java.net.URL;
+import java.net.URLConnection;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
+import java.nio.file.*;
+import java.security.MessageDigest;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.stream.Collectors;
 
 /**
  * The best way to style a JavaFX application is to use {@link Application#setUserAgentStylesheet(String)} because the
@@ -56,7 +62,7 @@
  * <p>
  * The mechanism is rather simple, you can specify a set of themes with {@link #themes(Theme...)}, these will be merged into
  * a single stylesheet by the {@link #build()} method. The result is a {@link CSSFragment} object that, once converted to
- * a Data URI through {@link CSSFragment#toDataUri()}, can be set as the {@link Application}'s user agent, can be added
+ * a URL through {@link CSSFragment#toURL()}, can be set as the {@link Application}'s user agent, can be added
  * on a {@link Scene} or on a {@link Parent}. The explicit conversion can be avoided by using one of the convenience
  * method offered by {@link CSSFragment}.
  * <p></p>
@@ -65,7 +71,7 @@
  * Now, let's talk about the <b>caveats</b>.
  * <p>
  * Before the final stylesheet can be feed to {@link CSSFragment}, it needs to be processed by
- * {@link Processor#preProcess(Theme, String, boolean)} and then by {@link Processor#postProcess(StringBuilder)}.
+ * {@link Processor#preProcess(Theme, String, boolean, StringBuilder)} and then by {@link Processor#postProcess(Set, StringBuilder)}.
  * <p>
  * The {@link Processor} is a naive attempt at reading CSS files, for this reason it expects first and foremost well formatted,
  * uncompressed and beautified CSS files. Even in such conditions, there may be unconsidered/unimplemented cases that could
@@ -81,6 +87,13 @@
  * on which I installed Windows, so take into account that, I noticed the same average. Mileage may vary!
  * <p>
  * Such operations can be enabled/disabled with: {@link #setResolveAssets(boolean)}, {@link #setDeploy(boolean)}.
+ * <p></p>
+ * To avoid paying this cost at every launch, the built stylesheet can be cached on the disk, see {@link #setCacheDir(Path)}.
+ * Processed themes are also kept in memory, so that building again, for example to switch theme at runtime, only
+ * processes the themes that changed, see {@link #process(Theme)} and {@link #buildLayer(Theme...)}.
+ * <p></p>
+ * Last but not least, the merged stylesheet can be pruned of all the rules which cannot match the controls used by
+ * the application, see {@link #setUsage(StyleUsage)}.
  */
 public class UserAgentBuilder {
 	//================================================================================
@@ -90,6 +103,12 @@ public class UserAgentBuilder {
 	private boolean resolveAssets = false;
 	private boolean deploy = false;
 	private boolean debug = false;
+	private Path cacheDir = null;
+	private StyleUsage usage = null;
+	private static final Map<Theme, Fragment> fragments = new ConcurrentHashMap<>();
+
+	public static final Path DEFAULT_CACHE_DIR = Path.of(System.getProperty("java.io.tmpdir"), "mfx-ua-cache");
+	private static final long MAP_THRESHOLD = 1024 * 1024;
 
 	//================================================================================
 	// Constructors
@@ -126,26 +145,298 @@ public UserAgentBuilder themes(Collection<? extends Theme> themes) {
 	}
 
 	/**
-	 * Iterates over all the themes added through {@link #themes(Theme...)}. If {@link #isDeploy()} has been set to true
-	 * the theme is deployed by {@link Theme#deploy()}. Then the data is loaded with {@link #load(Theme)} and pre-processed,
-	 * by {@link Processor#preProcess(Theme, String, boolean)}. The processed data is added to a {@link StringBuilder}.
+	 * Merges all the themes added through {@link #themes(Theme...)} into a single stylesheet.
 	 * <p>
-	 * After all the themes have been processed, the data in the {@link StringBuilder} is post-processed by
-	 * {@link Processor#postProcess(StringBuilder)} and finally a new {@link CSSFragment} object is created with the
-	 * processed data of the merged stylesheet.
+	 * Each theme is processed by {@link #process(Theme)}, which reuses the results of previous builds for themes that did not
+	 * change. The processed fragments are then written to a single {@link StringBuilder}, sized to fit all of them, and
+	 * finally the data is post-processed by {@link Processor#postProcess(Set, StringBuilder)}, resulting in a new
+	 * {@link CSSFragment} object with the merged stylesheet.
+	 * <p></p>
+	 * If the cache is enabled, see {@link #setCacheDir(Path)}, and a stylesheet has already been built for the same
+	 * themes and options, it is read from the cache and all the above is skipped (deployment included).
+	 * Otherwise, the built stylesheet is stored in the cache.
 	 */
 	public CSSFragment build() {
-		StringBuilder sb = new StringBuilder();
-		Processor processor = new Processor();
+		String key = cacheDir != null ? cacheKey() : null;
+		if (key != null) {
+			String cached = readCache(key);
+			if (cached != null) {
+				if (isDebug()) saveOnDisk(cached);
+				return new CSSFragment(cached);
+			}
+		}
+
+		Set<Path> resolved = new LinkedHashSet<>();
+		String merged = merge(themes, resolved);
+		if (key != null) writeCache(key, merged, resolved);
+		if (isDebug()) saveOnDisk(merged);
+		return new CSSFragment(merged);
+	}
+
+	/**
+	 * Builds a stylesheet only from the given themes, processed with this builder's options, but not merged with the
+	 * themes added through {@link #themes(Theme...)}. The disk cache is not used.
+	 * <p></p>
+	 * This is meant for fast runtime theme switching, by layering a small stylesheet that only defines colors
+	 * (looked-up colors, for example: "-mfx-blue: #2196f3;") on top of a stable structural stylesheet, for example:
+	 * <pre>
+	 * {@code
+	 * UserAgentBuilder builder = UserAgentBuilder.builder()
+	 *     .themes(JavaFXThemes.MODENA, MaterialFXStylesheets.DEFAULT);
+	 * builder.build().setGlobal();
+	 *
+	 * CSSFragment light = builder.buildLayer(lightColors);
+	 * CSSFragment dark = builder.buildLayer(darkColors);
+	 * light.applyOn(scene);
+	 * ...
+	 * // Toggle
+	 * dark.replaceOn(scene, light);
+	 * }
+	 * </pre>
+	 * The user agent stylesheet is never swapped, so toggling only parses the small layer, and JavaFX just re-resolves
+	 * the looked-up colors. Since the processed themes are cached, see {@link #process(Theme)}, layers can also be
+	 * rebuilt cheaply.
+	 *
+	 * @see CSSFragment#replaceOn(Scene, CSSFragment)
+	 */
+	public CSSFragment buildLayer(Theme... themes) {
+		String merged = merge(Arrays.asList(themes), new LinkedHashSet<>());
+		if (isDebug()) saveOnDisk(merged);
+		return new CSSFragment(merged);
+	}
+
+	/**
+	 * Merges the processed fragments of the given themes, the resolved assets are added to the given Set.
+	 *
+	 * @return the post-processed merged stylesheet
+	 */
+	protected String merge(Collection<? extends Theme> themes, Set<Path> resolved) {
+		List<Fragment> fragments = new ArrayList<>(themes.size());
+		int capacity = 0;
 		for (Theme theme : themes) {
-			if (isDeploy()) theme.deploy();
-			String data = load(theme);
-			String preProcessed = processor.preProcess(theme, data, resolveAssets);
-			sb.append(preProcessed).append("\n\n");
-		}
-		String postProcess = processor.postProcess(sb);
-		if (isDebug()) saveOnDisk(postProcess);
-		return new CSSFragment(postProcess);
+			Fragment fragment = process(theme);
+			fragments.add(fragment);
+			capacity += fragment.css.length() + 1;
+		}
+
+		StringBuilder sb = new StringBuilder(capacity);
+		Set<String> imports = new LinkedHashSet<>();
+		for (Fragment fragment : fragments) {
+			sb.append(fragment.css).append("\n");
+			imports.addAll(fragment.imports);
+			resolved.addAll(fragment.resolved);
+		}
+		return Processor.postProcess(imports, sb);
+	}
+
+	/**
+	 * Processes a single theme. If {@link #isDeploy()} has been set to true the theme is deployed by {@link Theme#deploy()}.
+	 * Then the data is loaded with {@link #load(Theme)} and pre-processed by
+	 * {@link Processor#preProcess(Theme, String, boolean, StringBuilder)}. If a {@link StyleUsage} has been set, the rules
+	 * which cannot match it are then removed by {@link Processor#prune(String, StyleUsage, StringBuilder)}.
+	 * <p></p>
+	 * The result is kept in memory, shared by all builders, and reused as long as the theme's stylesheet and the options
+	 * that affect processing are the same. This way, building again after changing one theme only processes that theme.
+	 * Changes to the stylesheet are detected through its URL's metadata, see {@link #signature(Theme)}; themes
+	 * for which such metadata is not available are always processed again.
+	 *
+	 * @see #clearFragments()
+	 */
+	protected Fragment process(Theme theme) {
+		String options = resolveAssets + "|" + deploy + "|" + (usage != null ? usage.key() : "");
+		String signature = signature(theme);
+		Fragment cached = fragments.get(theme);
+		if (cached != null && signature != null && signature.equals(cached.signature) && options.equals(cached.options) &&
+			cached.resolved.stream().allMatch(Files::exists)) {
+			return cached;
+		}
+
+		if (isDeploy()) theme.deploy();
+		String data = load(theme);
+		Processor processor = new Processor();
+		StringBuilder sb = new StringBuilder(data.length());
+		processor.preProcess(theme, data, resolveAssets, sb);
+		String css = sb.toString();
+		if (usage != null) {
+			sb = new StringBuilder(css.length());
+			processor.prune(css, usage, sb);
+			css = sb.toString();
+		}
+
+		Fragment fragment = new Fragment(css, processor.getImports(), processor.getResolved(), signature, options);
+		if (signature != null) fragments.put(theme, fragment);
+		return fragment;
+	}
+
+	/**
+	 * Computes a string which changes when the stylesheet of the given theme changes, made of: the theme's class and
+	 * name, the URL of the stylesheet and the last modified time and length of such resource. This way, changes
+	 * (for example when the jar they come from is updated) can be detected without reading the stylesheet.
+	 * <p>
+	 * For file URLs the metadata is read from the file system, for jar URLs from the jar's entry. Any other
+	 * connection is opened only to read its headers, and its stream is closed right after.
+	 *
+	 * @return the signature or null if the metadata is not available
+	 */
+	protected String signature(Theme theme) {
+		try {
+			URL url = theme.get();
+			long lastModified;
+			long length;
+			if ("file".equals(url.getProtocol())) {
+				Path path = Path.of(url.toURI());
+				lastModified = Files.getLastModifiedTime(path).toMillis();
+				length = Files.size(path);
+			} else {
+				URLConnection connection = url.openConnection();
+				if (connection instanceof JarURLConnection) {
+					JarEntry entry = ((JarURLConnection) connection).getJarEntry();
+					if (entry == null) return null;
+					lastModified = entry.getTime();
+					length = entry.getSize();
+				} else {
+					try {
+						lastModified = connection.getLastModified();
+						length = connection.getContentLengthLong();
+					} finally {
+						closeQuietly(connection);
+					}
+				}
+			}
+			if (lastModified <= 0 || length < 0) return null;
+			return theme.getClass().getName() + "|" + theme.deployName() + "|" + url.toExternalForm() + "|" + lastModified + "|" + length;
+		} catch (Exception ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Closes the stream of the given connection, which some protocols open just to read the headers.
+	 */
+	private static void closeQuietly(URLConnection connection) {
+		try {
+			connection.getInputStream().close();
+		} catch (IOException ignored) {
+		}
+	}
+
+	/**
+	 * Removes all the processed themes kept in memory, see {@link #process(Theme)}.
+	 */
+	public static void clearFragments() {
+		fragments.clear();
+	}
+
+	/**
+	 * Computes the key identifying the stylesheet built by {@link #build()} in the cache.
+	 * <p>
+	 * The key is a SHA-256 hash of the builder's options (including the {@link StyleUsage}), and for each theme its
+	 * {@link #signature(Theme)}. This way, the cache is invalidated when any of the themes' stylesheet changes,
+	 * without the need to read them. If the signature is not available, the stylesheet's contents are hashed instead.
+	 *
+	 * @return the cache key or null if it could not be computed
+	 */
+	protected String cacheKey() {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(("v1|" + resolveAssets + "|" + deploy).getBytes(StandardCharsets.UTF_8));
+			if (usage != null) digest.update(("|" + usage.key()).getBytes(StandardCharsets.UTF_8));
+			for (Theme theme : themes) {
+				String signature = signature(theme);
+				if (signature != null) {
+					digest.update(("|" + signature).getBytes(StandardCharsets.UTF_8));
+				} else {
+					digest.update(("|" + theme.getClass().getName() + "|" + theme.deployName() + "|").getBytes(StandardCharsets.UTF_8));
+					digest.update(load(theme).getBytes(StandardCharsets.UTF_8));
+				}
+			}
+
+			StringBuilder sb = new StringBuilder();
+			for (byte b : digest.digest()) {
+				sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			}
+			return sb.toString();
+		} catch (Exception ex) {
+			ex.printStackTrace();
+			return null;
+		}
+	}
+
+	/**
+	 * Reads the stylesheet identified by the given key from the cache.
+	 * <p>
+	 * Along with the stylesheet, the cache stores the assets' paths it refers to; if any of them doesn't exist anymore
+	 * (for example because the temp directory was cleaned) the entry is considered invalid.
+	 * Big stylesheets are read by mapping the file in memory.
+	 *
+	 * @return the cached stylesheet or null if not present or invalid
+	 */
+	protected String readCache(String key) {
+		Path css = cacheDir.resolve(key + ".css");
+		Path assets = cacheDir.resolve(key + ".assets");
+		if (!Files.isRegularFile(css) || !Files.isRegularFile(assets)) return null;
+		try {
+			for (String asset : Files.readAllLines(assets, StandardCharsets.UTF_8)) {
+				if (!asset.isBlank() && !Files.exists(Path.of(asset))) return null;
+			}
+
+			if (Files.size(css) < MAP_THRESHOLD) return Files.readString(css, StandardCharsets.UTF_8);
+			try (FileChannel channel = FileChannel.open(css, StandardOpenOption.READ)) {
+				MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+				return StandardCharsets.UTF_8.decode(buffer).toString();
+			}
+		} catch (Exception ex) {
+			ex.printStackTrace();
+			return null;
+		}
+	}
+
+	/**
+	 * Stores the given stylesheet and the assets it refers to in the cache. Files are first written to a temp file
+	 * and then moved, so that other processes never see partially written entries.
+	 */
+	protected void writeCache(String key, String ua, Set<Path> assets) {
+		try {
+			Files.createDirectories(cacheDir);
+			String assetsData = assets.stream()
+				.map(Path::toString)
+				.collect(Collectors.joining("\n"));
+			write(cacheDir.resolve(key + ".assets"), assetsData);
+			write(cacheDir.resolve(key + ".css"), ua);
+		} catch (IOException ex) {
+			ex.printStackTrace();
+		}
+	}
+
+	private void write(Path target, String data) throws IOException {
+		Path tmp = Files.createTempFile(cacheDir, "uab", ".tmp");
+		try {
+			Files.writeString(tmp, data, StandardCharsets.UTF_8);
+			try {
+				Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException ex) {
+				Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(tmp);
+		}
+	}
+
+	/**
+	 * Deletes all the entries in the cache directory, if set.
+	 *
+	 * @return true if the operation was successful, false otherwise
+	 */
+	public boolean clearCache() {
+		if (cacheDir == null || !Files.isDirectory(cacheDir)) return true;
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(cacheDir, "*.{css,assets}")) {
+			for (Path path : stream) {
+				Files.deleteIfExists(path);
+			}
+			return true;
+		} catch (IOException ex) {
+			return false;
+		}
 	}
 
 	/**
@@ -218,6 +509,53 @@ public UserAgentBuilder setDeploy(boolean deploy) {
 		return this;
 	}
 
+	/**
+	 * @return the directory in which built stylesheets are cached, null if the cache is disabled
+	 */
+	public Path getCacheDir() {
+		return cacheDir;
+	}
+
+	/**
+	 * Sets the directory in which built stylesheets are cached, null to disable the cache (default).
+	 * <p>
+	 * Keep in mind that on a cache hit, the themes are not deployed, see {@link #setDeploy(boolean)}. The cache
+	 * still ensures that all the deployed assets used by the stylesheet exist on the disk.
+	 *
+	 * @see #build()
+	 */
+	public UserAgentBuilder setCacheDir(Path cacheDir) {
+		this.cacheDir = cacheDir;
+		return this;
+	}
+
+	/**
+	 * Convenience method to enable the cache in the {@link #DEFAULT_CACHE_DIR}, or disable it.
+	 *
+	 * @see #setCacheDir(Path)
+	 */
+	public UserAgentBuilder setCache(boolean cache) {
+		return setCacheDir(cache ? DEFAULT_CACHE_DIR : null);
+	}
+
+	/**
+	 * @return the {@link StyleUsage} used to prune the merged stylesheet, null if pruning is disabled
+	 */
+	public StyleUsage getUsage() {
+		return usage;
+	}
+
+	/**
+	 * Sets the {@link StyleUsage} used to prune the merged stylesheet, null to disable pruning (default).
+	 * <p>
+	 * Only the rules whose selectors may match the usage are emitted, see {@link StyleUsage#canMatch(String)}.
+	 * At-rules (such as @font-face) are always kept.
+	 */
+	public UserAgentBuilder setUsage(StyleUsage usage) {
+		this.usage = usage;
+		return this;
+	}
+
 	/**
 	 * @return whether the build process will generate output on disk for debug purposes
 	 * @see #setDebug(boolean)
@@ -239,39 +577,59 @@ public UserAgentBuilder setDebug(boolean debug) {
 	// Internal Classes
 	//================================================================================
 
+	/**
+	 * The result of processing a single {@link Theme}, see {@link #process(Theme)}.
+	 */
+	protected static class Fragment {
+		private final String css;
+		private final Set<String> imports;
+		private final Set<Path> resolved;
+		private final String signature;
+		private final String options;
+
+		Fragment(String css, Set<String> imports, Set<Path> resolved, String signature, String options) {
+			this.css = css;
+			this.imports = Collections.unmodifiableSet(imports);
+			this.resolved = Collections.unmodifiableSet(resolved);
+			this.signature = signature;
+			this.options = options;
+		}
+
+		/**
+		 * @return the processed stylesheet
+		 */
+		public String getCss() {
+			return css;
+		}
+	}
+
 	/**
 	 * Responsible for pre-processing the themes fed to {@link UserAgentBuilder}, as well as post-processing the
 	 * merged stylesheet produced by {@link UserAgentBuilder#build()} before it's returned as a {@link CSSFragment}.
 	 * <p></p>
-	 * This is a basic and naive approach at reading a CSS file. The processor expects well-formatted, uncompressed
-	 * and beautified stylesheets. Even in such conditions, the process may fail because on unconsidered/unimplemented
-	 * cases.
+	 * The processor is a single-pass, character level scanner. It is not a full CSS parser, but it's aware of
+	 * comments and strings, so it does not depend on the stylesheets' formatting.
 	 * <p></p>
 	 * As already said the {@code Processor} splits its job in two phases: pre-process and post-process.
 	 * <p>
-	 * During the {@code pre-process} phase, it reads each line of the stylesheet and performs the following modifications:
+	 * During the {@code pre-process} phase, it scans the stylesheet and performs the following modifications:
 	 * <p> - Removes any comment, single and multiple lines
 	 * <p> - Attempts at converting 'relative' @import statements to disk paths, and stores them in a Set
 	 * <p> - Attempts at converting 'relative' URL resources to disk paths
-	 * <p> - Every other kind of line is added without any modification
+	 * <p> - Removes blank lines and trailing whitespace, everything else is copied without any modification
 	 * <p></p>
-	 * During the {@code post-process} phase, @import statements processed and stored before, are added at the top of the
+	 * If a {@link StyleUsage} is set, the pre-processed data is then pruned by {@link #prune(String, StyleUsage, StringBuilder)}.
+	 * <p></p>
+	 * During the {@code post-process} phase, @import statements processed and stored before (for all the merged themes), are added at the top of the
 	 * merged stylesheet.
 	 */
 	private static class Processor {
-		enum Type {
-			START_COMMENT,
-			END_COMMENT,
-			IMPORT,
-			URL,
-			OTHER
-		}
-
 		private final Set<String> imports = new LinkedHashSet<>();
+		private final Set<Path> resolved = new LinkedHashSet<>();
 
 		/**
 		 * Given a {@link Theme} and its loaded stylesheet in the form of a single String, performs some modifications on
-		 * the data.
+		 * the data, appending the result to the given {@link StringBuilder}.
 		 * <p></p>
 		 * <p> - Comments are removed.
 		 * <p> - Imports are resolved and stored is a Set. The resolve is performed by {@link #resolveImport(Theme, String)}.
@@ -279,124 +637,387 @@ enum Type {
 		 * import directive is converted as follows (without quotes): "@import "file:///PATH_ON_THE_DISK";".
 		 * It's super important to add the 'file:///' protocol so that the CSS parser can correctly find the resource
 		 * <p> - URLs are resolved by {@link #resolveResource(Theme, String)}. If the resource was found in the deployed
-		 * of the theme (see {@link Deployer}), then the URL directive is converted as follows (without quotes):
-		 * "url("PATH_ON_THE_DISK");". If the URL points to a network resource, then there's no need to convert it.
-		 *
-		 * @return the pre-processed theme's data
+		 * of the theme (see {@link Deployer}), then the URL function is converted as follows (without quotes):
+		 * "url("file:///PATH_ON_THE_DISK")". If the URL points to a network resource, then there's no need to convert it.
+		 * Declarations using a resource that could not be resolved are removed.
 		 */
-		public String preProcess(Theme theme, String data, boolean resolveAssets) {
-			String[] lines = data.split("\n");
-			StringBuilder sb = new StringBuilder();
-			boolean insideComment = false;
-			for (String line : lines) {
-				if (line.isBlank()) continue;
-				Type type = typeOf(line);
-
-				/* Ignore comments */
-				if (type == Type.START_COMMENT) {
-					if (line.trim().endsWith("*/")) continue; /* One line comment */
-					insideComment = true;
+		public void preProcess(Theme theme, String data, boolean resolveAssets, StringBuilder out) {
+			int base = out.length();
+			int lineStart = base;
+			int declStart = base;
+			int n = data.length();
+			int i = 0;
+			while (i < n) {
+				char c = data.charAt(i);
+
+				/* Comments */
+				if (c == '/' && i + 1 < n && data.charAt(i + 1) == '*') {
+					int end = data.indexOf("*/", i + 2);
+					i = end < 0 ? n : end + 2;
 					continue;
 				}
-				if (type == Type.END_COMMENT) {
-					insideComment = false;
+
+				/* Strings are copied as they are */
+				if (c == '"' || c == '\'') {
+					int end = skipString(data, i);
+					out.append(data, i, end);
+					i = end;
 					continue;
 				}
-				if (insideComment) continue;
 
 				/* Resolved imports should be stored and added back by the post-processing */
-				if (type == Type.IMPORT && resolveAssets) {
-					Path path = resolveImport(theme, line);
+				if (resolveAssets && c == '@' && data.startsWith("@import", i)) {
+					int end = statementEnd(data, i);
+					String rule = data.substring(i, end).trim();
+					Path path = resolveImport(theme, rule);
 					if (path == null || !Files.exists(path)) {
-						System.err.println("Could not resolve import: " + line);
-						continue;
+						System.err.println("Could not resolve import: " + rule);
+					} else {
+						imports.add("@import \"" + path.toUri() + "\";");
+						resolved.add(path);
 					}
-					line = "@import \"file:///" + path.toString().replace("\\", "/") + "\";";
-					imports.add(line);
+					i = end;
 					continue;
 				}
 
 				/* Resolve URLs */
-				if (type == Type.URL && resolveAssets) {
-					if (!isNetworkResource(line)) {
-						String[] split = line.split(": ");
-						Path path = resolveResource(theme, split[1]);
-						if (path == null || !Files.exists(path)) continue;
-						line = line.replaceAll("^(\\s+).+", "$1") + split[0] + ": url(" + path + ");";
+				if (resolveAssets && (c == 'u' || c == 'U') && data.regionMatches(true, i, "url(", 0, 4) &&
+					(i == 0 || !isNameChar(data.charAt(i - 1)))) {
+					int close = urlEnd(data, i + 4);
+					if (close >= 0) {
+						String url = unquote(data.substring(i + 4, close));
+						if (isNetworkResource(url) || url.startsWith("data:")) {
+							out.append(data, i, close + 1);
+							i = close + 1;
+							continue;
+						}
+
+						Path path = resolveResource(theme, url);
+						if (path != null && Files.exists(path)) {
+							resolved.add(path);
+							out.append("url(\"").append(path.toUri()).append("\")");
+							i = close + 1;
+							continue;
+						}
+
+						/* Unresolved, drop the whole declaration */
+						out.setLength(declStart);
+						lineStart = declStart;
+						while (lineStart > base && out.charAt(lineStart - 1) != '\n') lineStart--;
+						i = declarationEnd(data, close + 1);
+						continue;
 					}
 				}
 
-				if (sb.toString().endsWith("}\n")) sb.append("\n");
-				sb.append(line).append("\n");
+				if (c == '\n') {
+					lineStart = endLine(out, lineStart);
+					i++;
+					continue;
+				}
+				if (c != '\r') out.append(c);
+				if (c == '{' || c == ';' || c == '}') declStart = out.length();
+				i++;
 			}
-			return sb.toString();
+			endLine(out, lineStart);
 		}
 
 		/**
-		 * Given the pre-processed data as a {@link StringBuilder} adds all the imports stored by
-		 * {@link #preProcess(Theme, String, boolean)} at the top.
+		 * Given the pre-processed data, appends to the given {@link StringBuilder} only the rules which may match the given
+		 * {@link StyleUsage}. Selectors lists are filtered too, so a rule is emitted only with its matching selectors.
+		 * At-rules are copied as they are.
+		 */
+		public void prune(String data, StyleUsage usage, StringBuilder out) {
+			int n = data.length();
+			int i = 0;
+			while (i < n) {
+				int start = i;
+				while (start < n && Character.isWhitespace(data.charAt(start))) start++;
+				if (start >= n) break;
+
+				if (data.charAt(start) == '@') {
+					int end = atRuleEnd(data, start);
+					out.append(data, start, end).append("\n\n");
+					i = end;
+					continue;
+				}
+				int open = blockStart(data, start);
+				if (open >= n) break;
+
+				int end = blockEnd(data, open);
+				List<String> selectors = splitSelectors(data, start, open);
+				int kept = 0;
+				for (String selector : selectors) {
+					if (!usage.canMatch(selector)) continue;
+					if (kept++ > 0) out.append(",\n");
+					out.append(selector);
+				}
+				if (kept > 0) out.append(" ").append(data, open, end).append("\n\n");
+				i = end;
+			}
+		}
+
+		/**
+		 * Given the pre-processed data as a {@link StringBuilder} adds all the given imports, collected by
+		 * {@link #preProcess(Theme, String, boolean, StringBuilder)}, at the top.
 		 *
 		 * @return the post-processed data as a String
 		 */
-		public String postProcess(StringBuilder data) {
-			int offset = 0;
+		public static String postProcess(Set<String> imports, StringBuilder data) {
+			if (imports.isEmpty()) return data.toString();
+
+			int length = data.length();
+			for (String imp : imports) {
+				length += imp.length() + 1;
+			}
+			StringBuilder sb = new StringBuilder(length);
 			for (String imp : imports) {
-				data.insert(offset, imp + "\n");
-				offset += imp.length() + 1;
+				sb.append(imp).append('\n');
 			}
-			return data.toString();
+			return sb.append(data).toString();
 		}
 
 		/**
-		 * Responsible for resolving the given CSS @import line to a deployed resource on the disk.
+		 * @return the resolved @import statements, see {@link #preProcess(Theme, String, boolean, StringBuilder)}
 		 */
-		private Path resolveImport(Theme theme, String line) {
-			String[] split = line.replace("\"", "")
-				.replace("'", "")
-				.replace(";", "")
-				.replace("../", "")
-				.split(" ");
-			String path = split[1];
-			Map<String, Path> deployed = Deployer.instance().getDeployed(theme);
-			return deployed.get(path);
+		public Set<String> getImports() {
+			return imports;
+		}
+
+		/**
+		 * @return the paths of all the assets resolved by the processor
+		 */
+		public Set<Path> getResolved() {
+			return resolved;
+		}
+
+		/**
+		 * Ends the current output line. Trailing whitespace is removed, blank lines are removed entirely,
+		 * and lines closing a block are followed by an empty line.
+		 *
+		 * @return the start of the next line
+		 */
+		private int endLine(StringBuilder out, int lineStart) {
+			int end = out.length();
+			while (end > lineStart && Character.isWhitespace(out.charAt(end - 1))) end--;
+			out.setLength(end);
+			if (end == lineStart) return lineStart;
+
+			out.append('\n');
+			if (out.charAt(end - 1) == '}') out.append('\n');
+			return out.length();
+		}
+
+		/**
+		 * @return the index after the end of the string starting at the given index
+		 */
+		private int skipString(String data, int start) {
+			char quote = data.charAt(start);
+			int n = data.length();
+			for (int i = start + 1; i < n; i++) {
+				char c = data.charAt(i);
+				if (c == '\\') {
+					i++;
+				} else if (c == quote) {
+					return i + 1;
+				} else if (c == '\n') {
+					return i;
+				}
+			}
+			return n;
 		}
 
 		/**
-		 * Responsible for resolving the given CSS URL line to a deployed resource on the disk.
-		 * <p>
-		 * The resource's name is resolved by {@link #getResourceName(String)}.
+		 * @return the index after the ';' ending the statement starting at the given index, or the end of the line if there's none
+		 */
+		private int statementEnd(String data, int start) {
+			int n = data.length();
+			int i = start;
+			while (i < n) {
+				char c = data.charAt(i);
+				if (c == '"' || c == '\'') {
+					i = skipString(data, i);
+					continue;
+				}
+				if (c == ';') return i + 1;
+				if (c == '\n') return i;
+				i++;
+			}
+			return n;
+		}
+
+		/**
+		 * @return the index after the ';' ending the current declaration, or the index of the '}' closing the block
+		 */
+		private int declarationEnd(String data, int start) {
+			int n = data.length();
+			int i = start;
+			while (i < n) {
+				char c = data.charAt(i);
+				if (c == '"' || c == '\'') {
+					i = skipString(data, i);
+					continue;
+				}
+				if (c == ';') return i + 1;
+				if (c == '}') return i;
+				i++;
+			}
+			return n;
+		}
+
+		/**
+		 * @return the index of the '{' opening the block of the rule starting at the given index, or the data length if there's none
+		 */
+		private int blockStart(String data, int start) {
+			int n = data.length();
+			int i = start;
+			while (i < n) {
+				char c = data.charAt(i);
+				if (c == '"' || c == '\'') {
+					i = skipString(data, i);
+					continue;
+				}
+				if (c == '{') return i;
+				i++;
+			}
+			return n;
+		}
+
+		/**
+		 * @return the index after the end of the at-rule starting at the given index, which is either a ';' or the end of its block
+		 */
+		private int atRuleEnd(String data, int start) {
+			int n = data.length();
+			int i = start;
+			while (i < n) {
+				char c = data.charAt(i);
+				if (c == '"' || c == '\'') {
+					i = skipString(data, i);
+					continue;
+				}
+				if (c == ';') return i + 1;
+				if (c == '{') return blockEnd(data, i);
+				i++;
+			}
+			return n;
+		}
+
+		/**
+		 * @return the index after the '}' closing the block opened at the given index, nested blocks are taken into account
+		 */
+		private int blockEnd(String data, int open) {
+			int n = data.length();
+			int depth = 0;
+			int i = open;
+			while (i < n) {
+				char c = data.charAt(i);
+				if (c == '"' || c == '\'') {
+					i = skipString(data, i);
+					continue;
+				}
+				if (c == '{') depth++;
+				if (c == '}' && --depth == 0) return i + 1;
+				i++;
+			}
+			return n;
+		}
+
+		/**
+		 * Splits the selectors list in the given range by the top-level commas.
+		 *
+		 * @return the trimmed selectors
+		 */
+		private List<String> splitSelectors(String data, int start, int end) {
+			List<String> selectors = new ArrayList<>();
+			int depth = 0;
+			int from = start;
+			int i = start;
+			while (i < end) {
+				char c = data.charAt(i);
+				if (c == '"' || c == '\'') {
+					i = skipString(data, i);
+					continue;
+				}
+				if (c == '(' || c == '[') depth++;
+				if (c == ')' || c == ']') depth--;
+				if (c == ',' && depth == 0) {
+					selectors.add(data.substring(from, i).trim());
+					from = i + 1;
+				}
+				i++;
+			}
+			selectors.add(data.substring(from, end).trim());
+			return selectors;
+		}
+
+		/**
+		 * @return the index of the ')' closing the URL function whose argument starts at the given index, or -1 if there's none
+		 */
+		private int urlEnd(String data, int start) {
+			int n = data.length();
+			int i = start;
+			while (i < n && Character.isWhitespace(data.charAt(i))) i++;
+			if (i < n && (data.charAt(i) == '"' || data.charAt(i) == '\'')) i = skipString(data, i);
+			return data.indexOf(')', i);
+		}
+
+		/**
+		 * Responsible for resolving the given CSS @import rule to a deployed resource on the disk.
+		 */
+		private Path resolveImport(Theme theme, String rule) {
+			String target = rule.substring("@import".length()).replace(";", "").trim();
+			if (target.regionMatches(true, 0, "url(", 0, 4)) {
+				int close = target.indexOf(')');
+				target = target.substring(4, close < 0 ? target.length() : close);
+			} else if (!target.isEmpty() && (target.charAt(0) == '"' || target.charAt(0) == '\'')) {
+				target = target.substring(0, skipString(target, 0));
+			} else {
+				int space = target.indexOf(' ');
+				if (space > 0) target = target.substring(0, space);
+			}
+			return deployed(theme, unquote(target));
+		}
+
+		/**
+		 * Responsible for resolving the given CSS URL to a deployed resource on the disk.
 		 */
 		private Path resolveResource(Theme theme, String url) {
-			String name = getResourceName(url);
+			return deployed(theme, url);
+		}
+
+		/**
+		 * @return the deployed resource with the given name, see {@link Deployer#getDeployed(Theme)}. "../" segments are ignored
+		 */
+		private Path deployed(Theme theme, String name) {
 			Map<String, Path> deployed = Deployer.instance().getDeployed(theme);
-			return deployed.get(name);
+			return deployed != null ? deployed.get(name.replace("../", "")) : null;
 		}
 
 		/**
-		 * Polishes the given URL string to get the resource's name.
+		 * Removes the whitespace and quotes around the given string.
 		 */
-		private String getResourceName(String url) {
-			return url.replace("url(", "").replace(");", "");
+		private String unquote(String s) {
+			s = s.trim();
+			if (s.length() >= 2) {
+				char first = s.charAt(0);
+				char last = s.charAt(s.length() - 1);
+				if ((first == '"' || first == '\'') && last == first) return s.substring(1, s.length() - 1);
+			}
+			return s;
 		}
 
 		/**
-		 * Checks whether the given URL line is a network resource.
+		 * Checks whether the given URL is a network resource.
 		 * A naive approach that checks whether the string contains "http://" or "https://" or "www.".
 		 */
-		private boolean isNetworkResource(String line) {
-			return line.contains("http://") || line.contains("https://") || line.contains("www.");
+		private boolean isNetworkResource(String url) {
+			return url.contains("http://") || url.contains("https://") || url.contains("www.");
 		}
 
 		/**
-		 * Given the current CSS line being processed, determines its type.
+		 * @return whether the given char can be part of a CSS identifier, used to not mistake something like 'myurl(' for an URL
 		 */
-		private Type typeOf(String line) {
-			String trim = line.trim();
-			if (trim.startsWith("/*")) return Type.START_COMMENT;
-			if (trim.endsWith("*/")) return Type.END_COMMENT;
-			if (trim.startsWith("@import")) return Type.IMPORT;
-			if (trim.contains("url(")) return Type.URL;
-			return Type.OTHER;
+		private boolean isNameChar(char c) {
+			return Character.isLetterOrDigit(c) || c == '-' || c == '_';
 		}
 	}
 }
@@ -25,8 +25,7 @@
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.*;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -38,11 +37,48 @@
  * Utils class to help with concurrency and callables.
  */
 public class ExecutionUtils {
+	private static final ThreadPoolExecutor backgroundExecutor;
+
+	static {
+		int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+		backgroundExecutor = new ThreadPoolExecutor(
+				threads,
+				threads,
+				5,
+				TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(),
+				runnable -> {
+					Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+					thread.setName("MFXBackgroundThread");
+					thread.setDaemon(true);
+					return thread;
+				}
+		);
+		backgroundExecutor.allowCoreThreadTimeOut(true);
+	}
 
 	private static class ThrowableWrapper {
 		Throwable t;
 	}
 
+	/**
+	 * Submits the given task to a shared pool of daemon threads, used by MaterialFX
+	 * to perform expensive computations off the JavaFX Application Thread.
+	 * <p>
+	 * Threads are created on demand and disposed after some seconds of inactivity.
+	 */
+	public static Future<?> runInBackground(Runnable task) {
+		return backgroundExecutor.submit(task);
+	}
+
+	/**
+	 * Submits the given value-returning task to the shared pool of daemon threads,
+	 * see {@link #runInBackground(Runnable)}.
+	 */
+	public static <V> Future<V> callInBackground(Callable<V> task) {
+		return backgroundExecutor.submit(task);
+	}
+
 	/**
 	 * Invokes a Runnable on the JavaFX Application Thread and waits for it to finish.
 	 *
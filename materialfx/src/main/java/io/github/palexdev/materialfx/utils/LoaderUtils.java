@@ -34,9 +34,11 @@ public class LoaderUtils {
 	private static final ThreadPoolExecutor executor;
 
 	static {
+		/* The queue is unbounded, so the pool never grows beyond the core size */
+		int parallelism = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
 		executor = new ThreadPoolExecutor(
-				2,
-				4,
+				parallelism,
+				parallelism,
 				5,
 				TimeUnit.SECONDS,
 				new LinkedBlockingDeque<>(),
@@ -79,6 +81,13 @@ public static Future<Parent> submit(Callable<Parent> task) {
 		return executor.submit(task);
 	}
 
+	/**
+	 * Executes the given task on the same executor used by {@link #submit(Callable)}.
+	 */
+	public static void execute(Runnable task) {
+		executor.execute(task);
+	}
+
 	/**
 	 * Creates a new FXMLLoader with location {@link MFXLoaderBean#getFxmlFile()} and
 	 * controller {@link MFXLoaderBean#getControllerFactory()} (if not null) and loads the fxml file.
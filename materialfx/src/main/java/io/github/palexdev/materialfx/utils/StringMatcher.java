@@ -0,0 +1,413 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.utils;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A {@code StringMatcher} is a {@link Predicate} for Strings compiled from a query.
+ * <p>
+ * The point of compiling the query is to do the expensive work (case folding, building lookup tables, splitting
+ * words) only once, so that matching many candidates does not allocate anything and is as fast as possible.
+ * <p></p>
+ * Matchers are created with the static factory methods, for example:
+ * <p> - {@link #containsIgnoreCase(String)} uses the Boyer-Moore-Horspool algorithm on case-folded chars
+ * <p> - {@link #containsAny(String)} and {@link #containsAll(String)} split the query into words and store them
+ * in a hash table; candidates are then scanned word by word, computing the hashes in place without creating substrings
+ * <p></p>
+ * {@link #cached(Function)} can be used to adapt a compiler function to a {@link BiPredicate}, that's the form
+ * required by filters, see {@link io.github.palexdev.materialfx.filter.StringFilter}.
+ * <p></p>
+ * Case-insensitivity is defined as by {@link String#equalsIgnoreCase(String)}.
+ * A {@code null} candidate never matches.
+ */
+public abstract class StringMatcher implements Predicate<String> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	protected final String query;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	protected StringMatcher(String query) {
+		this.query = query;
+	}
+
+	//================================================================================
+	// Static Methods
+	//================================================================================
+
+	/**
+	 * @return a matcher that checks if the candidate contains the query
+	 */
+	public static StringMatcher contains(String query) {
+		return new StringMatcher(query) {
+			@Override
+			public boolean test(String s) {
+				return s != null && s.contains(query);
+			}
+		};
+	}
+
+	/**
+	 * @return a matcher that checks if the candidate contains the query, ignoring case
+	 */
+	public static StringMatcher containsIgnoreCase(String query) {
+		return new ContainsIgnoreCase(query);
+	}
+
+	/**
+	 * @return a matcher that checks if the candidate starts with the query
+	 */
+	public static StringMatcher startsWith(String query) {
+		return new StringMatcher(query) {
+			@Override
+			public boolean test(String s) {
+				return s != null && s.startsWith(query);
+			}
+		};
+	}
+
+	/**
+	 * @return a matcher that checks if the candidate starts with the query, ignoring case
+	 */
+	public static StringMatcher startsWithIgnoreCase(String query) {
+		return new StringMatcher(query) {
+			@Override
+			public boolean test(String s) {
+				return s != null && s.regionMatches(true, 0, query, 0, query.length());
+			}
+		};
+	}
+
+	/**
+	 * @return a matcher that checks if the candidate ends with the query
+	 */
+	public static StringMatcher endsWith(String query) {
+		return new StringMatcher(query) {
+			@Override
+			public boolean test(String s) {
+				return s != null && s.endsWith(query);
+			}
+		};
+	}
+
+	/**
+	 * @return a matcher that checks if the candidate ends with the query, ignoring case
+	 */
+	public static StringMatcher endsWithIgnoreCase(String query) {
+		return new StringMatcher(query) {
+			@Override
+			public boolean test(String s) {
+				return s != null && s.regionMatches(true, s.length() - query.length(), query, 0, query.length());
+			}
+		};
+	}
+
+	/**
+	 * @return a matcher that checks if the candidate is equal to the query
+	 */
+	public static StringMatcher equalTo(String query) {
+		return new StringMatcher(query) {
+			@Override
+			public boolean test(String s) {
+				return query.equals(s);
+			}
+		};
+	}
+
+	/**
+	 * @return a matcher that checks if the candidate is equal to the query, ignoring case
+	 */
+	public static StringMatcher equalToIgnoreCase(String query) {
+		return new StringMatcher(query) {
+			@Override
+			public boolean test(String s) {
+				return query.equalsIgnoreCase(s);
+			}
+		};
+	}
+
+	/**
+	 * @return a matcher that checks if the candidate contains at least one of the query's words.
+	 * Words are separated by whitespaces and/or commas, both in the query and in the candidates, and are matched as whole words
+	 */
+	public static StringMatcher containsAny(String query) {
+		return new ContainsWords(query, false);
+	}
+
+	/**
+	 * @return a matcher that checks if the candidate contains all the query's words.
+	 * Words are separated by whitespaces and/or commas, both in the query and in the candidates, and are matched as whole words
+	 */
+	public static StringMatcher containsAll(String query) {
+		return new ContainsWords(query, true);
+	}
+
+	/**
+	 * Adapts the given compiler function to a {@link BiPredicate} which accepts the candidate as the first
+	 * argument and the query as the second one.
+	 * <p>
+	 * The last compiled matcher is cached and reused as long as the query doesn't change, so that
+	 * the query is compiled only once when testing many candidates against it.
+	 */
+	public static Compiler cached(Function<String, StringMatcher> compiler) {
+		return new Compiler(compiler, false);
+	}
+
+	/**
+	 * Same as {@link #cached(Function)}, but also specifies whether the compiled matchers match only candidates
+	 * which contain the query ignoring case, see {@link Compiler#isSubstring()}.
+	 */
+	public static Compiler cached(Function<String, StringMatcher> compiler, boolean substring) {
+		return new Compiler(compiler, substring);
+	}
+
+	/**
+	 * Folds the given char so that two chars equal ignoring case have the same folded value,
+	 * with a fast path for ASCII.
+	 */
+	public static char fold(char c) {
+		if (c < 128) {
+			return (c >= 'A' && c <= 'Z') ? (char) (c + 32) : c;
+		}
+		return Character.toLowerCase(Character.toUpperCase(c));
+	}
+
+	//================================================================================
+	// Getters
+	//================================================================================
+
+	/**
+	 * @return the query this matcher was compiled from
+	 */
+	public String getQuery() {
+		return query;
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + query + "]";
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * A {@link BiPredicate} that compiles the query (second argument) to a {@link StringMatcher}
+	 * and tests the candidate (first argument) against it.
+	 * <p>
+	 * The last compiled matcher is cached, see {@link #cached(Function)}. Callers that know the query in advance
+	 * can also use {@link #compile(String)} directly.
+	 */
+	public static class Compiler implements BiPredicate<String, String> {
+		private final Function<String, StringMatcher> compiler;
+		private final boolean substring;
+		private volatile StringMatcher last;
+
+		public Compiler(Function<String, StringMatcher> compiler, boolean substring) {
+			this.compiler = compiler;
+			this.substring = substring;
+		}
+
+		/**
+		 * @return whether the compiled matchers match only candidates which contain the query, ignoring case.
+		 * This is true for contains, starts with, ends with and equals matchers (both case-sensitive and not), and
+		 * allows substring indexes to restrict the candidates, see {@link io.github.palexdev.materialfx.collections.TrigramIndex}
+		 */
+		public boolean isSubstring() {
+			return substring;
+		}
+
+		/**
+		 * Compiles the given query to a {@link StringMatcher}.
+		 */
+		public StringMatcher compile(String query) {
+			return compiler.apply(query);
+		}
+
+		@Override
+		public boolean test(String s, String query) {
+			StringMatcher matcher = last;
+			if (matcher == null || (matcher.query != query && !matcher.query.equals(query))) {
+				matcher = compile(query);
+				last = matcher;
+			}
+			return matcher.test(s);
+		}
+	}
+
+	/**
+	 * Case-insensitive contains implemented with the Boyer-Moore-Horspool algorithm.
+	 * <p>
+	 * The bad character table is indexed by the low byte of the folded char, so chars sharing the same
+	 * bucket keep the smallest shift, which is always safe.
+	 */
+	private static class ContainsIgnoreCase extends StringMatcher {
+		private final char[] pattern;
+		private final int[] shifts = new int[256];
+
+		ContainsIgnoreCase(String query) {
+			super(query);
+			int m = query.length();
+			pattern = new char[m];
+			for (int i = 0; i < m; i++) {
+				pattern[i] = fold(query.charAt(i));
+			}
+			Arrays.fill(shifts, Math.max(m, 1));
+			for (int i = 0; i < m - 1; i++) {
+				shifts[pattern[i] & 0xFF] = m - 1 - i;
+			}
+		}
+
+		@Override
+		public boolean test(String s) {
+			if (s == null) return false;
+			int m = pattern.length;
+			int n = s.length();
+			if (m == 0) return true;
+
+			int last = m - 1;
+			int i = 0;
+			while (i <= n - m) {
+				char c = fold(s.charAt(i + last));
+				if (c == pattern[last]) {
+					int j = last - 1;
+					while (j >= 0 && fold(s.charAt(i + j)) == pattern[j]) j--;
+					if (j < 0) return true;
+				}
+				i += shifts[c & 0xFF];
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Word matching for {@link #containsAny(String)} and {@link #containsAll(String)}.
+	 * <p>
+	 * The query's distinct words are stored in an open addressing hash table along with their hash codes
+	 * (as computed by {@link String#hashCode()}). Candidates are scanned once, computing each word's hash
+	 * while scanning, and only words with the same hash and length are compared char by char.
+	 * Whitespaces and commas are both word separators, see {@link #isSeparator(char)}.
+	 */
+	private static class ContainsWords extends StringMatcher {
+		private final boolean all;
+		private final String[] words;
+		private final int[] hashes;
+		private final int[] ids;
+		private final int count;
+		private final int mask;
+
+		ContainsWords(String query, boolean all) {
+			super(query);
+			this.all = all;
+
+			Set<String> distinct = new LinkedHashSet<>();
+			for (String word : query.split("[\\s,]+")) {
+				if (!word.isEmpty()) distinct.add(word);
+			}
+			count = distinct.size();
+
+			int capacity = Integer.highestOneBit(Math.max(count, 1) * 4 - 1) << 1;
+			mask = capacity - 1;
+			words = new String[capacity];
+			hashes = new int[capacity];
+			ids = new int[capacity];
+
+			int id = 0;
+			for (String word : distinct) {
+				int index = spread(word.hashCode()) & mask;
+				while (words[index] != null) index = (index + 1) & mask;
+				words[index] = word;
+				hashes[index] = word.hashCode();
+				ids[index] = id++;
+			}
+		}
+
+		@Override
+		public boolean test(String s) {
+			if (s == null) return false;
+			if (count == 0) return all;
+
+			int n = s.length();
+			long found = 0;
+			boolean[] foundArray = (all && count > 64) ? new boolean[count] : null;
+			int remaining = count;
+
+			int i = 0;
+			while (i < n) {
+				while (i < n && isSeparator(s.charAt(i))) i++;
+				if (i >= n) break;
+
+				int start = i;
+				int hash = 0;
+				while (i < n && !isSeparator(s.charAt(i))) {
+					hash = 31 * hash + s.charAt(i);
+					i++;
+				}
+
+				int id = lookup(s, start, i, hash);
+				if (id < 0) continue;
+				if (!all) return true;
+
+				if (foundArray != null) {
+					if (foundArray[id]) continue;
+					foundArray[id] = true;
+				} else {
+					long bit = 1L << id;
+					if ((found & bit) != 0) continue;
+					found |= bit;
+				}
+				if (--remaining == 0) return true;
+			}
+			return false;
+		}
+
+		private int lookup(String s, int start, int end, int hash) {
+			int len = end - start;
+			int index = spread(hash) & mask;
+			String word;
+			while ((word = words[index]) != null) {
+				if (hashes[index] == hash && word.length() == len && s.regionMatches(start, word, 0, len)) {
+					return ids[index];
+				}
+				index = (index + 1) & mask;
+			}
+			return -1;
+		}
+
+		private static boolean isSeparator(char c) {
+			return c == ',' || Character.isWhitespace(c);
+		}
+
+		private static int spread(int hash) {
+			return hash ^ (hash >>> 16);
+		}
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.utils;
+
+import io.github.palexdev.materialfx.collections.PrefixIndex;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
+import javafx.util.StringConverter;
+
+/**
+ * Helper to implement keyboard typeahead in controls showing a list of items, such as
+ * {@link io.github.palexdev.materialfx.controls.MFXComboBox} and {@link io.github.palexdev.materialfx.controls.MFXListView}.
+ * <p>
+ * The typed chars are accumulated while the user types fast enough (see {@link #setResetDelay(long)}),
+ * and the resulting text is used to find the first item whose string (as given by the converter, or
+ * by toString() if there's none) starts with it, ignoring case.
+ * <p></p>
+ * Searches are answered by a {@link PrefixIndex} in O(log n). The index is built lazily, on the first search, and then
+ * kept up to date with the items list changes. It is discarded when the items list or the converter change.
+ *
+ * @param <T> the type of items
+ */
+public class Typeahead<T> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final ObservableValue<ObservableList<T>> items;
+	private final ObservableValue<StringConverter<T>> converter;
+	private PrefixIndex<T> index;
+	private ObservableList<T> indexed;
+	private final ListChangeListener<T> itemsChanged = this::itemsChanged;
+	private final WeakListChangeListener<T> weakItemsChanged = new WeakListChangeListener<>(itemsChanged);
+
+	private final StringBuilder typed = new StringBuilder();
+	private long lastTyped = 0;
+	private long resetDelay = 1000;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public Typeahead(ObservableValue<ObservableList<T>> items, ObservableValue<StringConverter<T>> converter) {
+		this.items = items;
+		this.converter = converter;
+		items.addListener(invalidated -> invalidate());
+		converter.addListener(invalidated -> invalidate());
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Appends the given text (usually the character of a KEY_TYPED event) to the typed text and searches for it.
+	 * <p>
+	 * If more than the reset delay has passed since the last call, the typed text is reset first.
+	 * Control characters are ignored.
+	 *
+	 * @return the index of the first item starting with the typed text, or -1 if there's none or the character was ignored
+	 */
+	public int type(String character) {
+		if (character == null || character.isEmpty() || Character.isISOControl(character.charAt(0))) return -1;
+
+		long now = System.currentTimeMillis();
+		if (now - lastTyped > resetDelay) typed.setLength(0);
+		lastTyped = now;
+		typed.append(character);
+		return find(typed.toString());
+	}
+
+	/**
+	 * @return the index of the first item starting with the given prefix (ignoring case), or -1 if there's none
+	 */
+	public int find(String prefix) {
+		ObservableList<T> list = items.getValue();
+		if (list == null || list.isEmpty()) return -1;
+		if (index == null) {
+			index = new PrefixIndex<>(this::toString);
+			index.build(list);
+			indexed = list;
+			list.addListener(weakItemsChanged);
+		}
+		return index.first(prefix);
+	}
+
+	/**
+	 * Resets the typed text.
+	 */
+	public void reset() {
+		typed.setLength(0);
+		lastTyped = 0;
+	}
+
+	/**
+	 * Discards the index, it will be built again by the next search.
+	 */
+	public void invalidate() {
+		if (indexed != null) indexed.removeListener(weakItemsChanged);
+		indexed = null;
+		index = null;
+		reset();
+	}
+
+	private void itemsChanged(ListChangeListener.Change<? extends T> c) {
+		if (index != null) index.sourceChanged(c);
+	}
+
+	private String toString(T item) {
+		StringConverter<T> converter = this.converter.getValue();
+		return converter != null ? converter.toString(item) : String.valueOf(item);
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+
+	/**
+	 * @return the text typed so far
+	 */
+	public String getTyped() {
+		return typed.toString();
+	}
+
+	public long getResetDelay() {
+		return resetDelay;
+	}
+
+	/**
+	 * Sets the time in milliseconds after which the typed text is reset, 1000 by default.
+	 */
+	public void setResetDelay(long resetDelay) {
+		this.resetDelay = resetDelay;
+	}
+}
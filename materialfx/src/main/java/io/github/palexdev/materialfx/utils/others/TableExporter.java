@@ -0,0 +1,187 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.utils.others;
+
+import io.github.palexdev.materialfx.controls.MFXTableColumn;
+import io.github.palexdev.materialfx.controls.MFXTableView;
+import io.github.palexdev.materialfx.controls.cell.MFXTableRowCell;
+import io.github.palexdev.materialfx.enums.ExportFormat;
+import javafx.concurrent.Task;
+import javafx.util.StringConverter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A {@link Task} that writes the rows of a {@link MFXTableView} to a {@link Writer} in one of the
+ * formats specified by {@link ExportFormat}.
+ * <p>
+ * The exporter is built on the JavaFX thread from a snapshot of the items currently in the view (filtered and sorted)
+ * and of the table's columns. For each column a single row cell is built with the column's factory, just to retrieve the
+ * cell's extractor and converter, which are then used to convert every item's field to a String, the same way the table does.
+ * <p>
+ * When executed, rows are streamed one by one to the writer, nothing is accumulated in memory. The progress is updated
+ * every {@link #PROGRESS_STEP} rows and the export stops as soon as the task is cancelled.
+ * The task's value is the number of exported rows.
+ * <p></p>
+ * <b>N.B:</b> the writer is flushed at the end of the export but never closed. Also note that since the extraction
+ * happens on a background thread, cells' extractors must not modify the items or the UI.
+ *
+ * @see MFXTableView#export(Writer, ExportFormat)
+ */
+public class TableExporter<T> extends Task<Integer> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	public static final int PROGRESS_STEP = 1000;
+
+	private final List<T> items;
+	private final List<String> headers = new ArrayList<>();
+	private final List<Function<T, String>> fields = new ArrayList<>();
+	private final Writer writer;
+	private final ExportFormat format;
+	private boolean includeHeader = true;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public TableExporter(MFXTableView<T> tableView, Writer writer, ExportFormat format) {
+		this.items = new ArrayList<>(tableView.getTransformableList());
+		this.writer = (writer instanceof BufferedWriter) ? writer : new BufferedWriter(writer);
+		this.format = format;
+
+		T prototype = items.isEmpty() ? null : items.get(0);
+		for (MFXTableColumn<T> column : tableView.getTableColumns()) {
+			headers.add(column.getText());
+			fields.add(prototype != null ? toStringFunction(column.getRowCellFactory().apply(prototype)) : t -> "");
+		}
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Builds a {@link Function} that converts an item to the text the given cell would show.
+	 */
+	private static <T, E> Function<T, String> toStringFunction(MFXTableRowCell<T, E> cell) {
+		Function<T, E> extractor = cell.getExtractor();
+		StringConverter<E> converter = cell.getConverter();
+		if (extractor == null) return t -> "";
+		return t -> converter.toString(extractor.apply(t));
+	}
+
+	/**
+	 * Writes the given values as a single line.
+	 */
+	protected void writeLine(List<String> values) throws IOException {
+		for (int i = 0; i < values.size(); i++) {
+			if (i > 0) writer.write(format.separator());
+			writeField(values.get(i));
+		}
+		writer.write(System.lineSeparator());
+	}
+
+	/**
+	 * Writes the given field, quoting it if it contains the separator, quotes or line breaks.
+	 * Quotes are escaped by doubling them.
+	 */
+	protected void writeField(String field) throws IOException {
+		if (field == null || field.isEmpty()) return;
+
+		boolean quote = false;
+		for (int i = 0; i < field.length(); i++) {
+			char c = field.charAt(i);
+			if (c == format.separator() || c == '"' || c == '\n' || c == '\r') {
+				quote = true;
+				break;
+			}
+		}
+		if (!quote) {
+			writer.write(field);
+			return;
+		}
+
+		writer.write('"');
+		for (int i = 0; i < field.length(); i++) {
+			char c = field.charAt(i);
+			if (c == '"') writer.write('"');
+			writer.write(c);
+		}
+		writer.write('"');
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+	@Override
+	protected Integer call() throws Exception {
+		int total = items.size();
+		List<String> values = new ArrayList<>(fields.size());
+		if (includeHeader) writeLine(headers);
+
+		int exported = 0;
+		for (T item : items) {
+			if (isCancelled()) break;
+
+			values.clear();
+			for (Function<T, String> field : fields) {
+				values.add(field.apply(item));
+			}
+			writeLine(values);
+
+			exported++;
+			if (exported % PROGRESS_STEP == 0) updateProgress(exported, total);
+		}
+		writer.flush();
+		updateProgress(exported, total);
+		return exported;
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+
+	/**
+	 * @return whether the first line contains the columns' names
+	 */
+	public boolean isIncludeHeader() {
+		return includeHeader;
+	}
+
+	/**
+	 * Sets whether the first line should contain the columns' names, true by default.
+	 * <p>
+	 * Has no effect once the task started.
+	 */
+	public void setIncludeHeader(boolean includeHeader) {
+		this.includeHeader = includeHeader;
+	}
+
+	/**
+	 * @return the format used by this exporter
+	 */
+	public ExportFormat getFormat() {
+		return format;
+	}
+}
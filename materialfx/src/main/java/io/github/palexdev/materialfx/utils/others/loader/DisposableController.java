@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.utils.others.loader;
+
+/**
+ * Controllers of views loaded by {@link MFXLoader} can implement this to release their resources (listeners, bindings,
+ * timers...) when their view is evicted, see {@link MFXLoader#setMaxLoadedViews(int)}.
+ * <p>
+ * Views whose controller implements this are dropped entirely on eviction, and loaded again (with a new controller)
+ * the next time they are needed.
+ */
+@FunctionalInterface
+public interface DisposableController {
+
+	/**
+	 * Called on the JavaFX thread when the view is evicted by the loader.
+	 */
+	void dispose();
+}
@@ -0,0 +1,792 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.utils.others.loader;
+
+import javafx.beans.DefaultProperty;
+import javafx.beans.NamedArg;
+import javafx.scene.Parent;
+import org.w3c.dom.*;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Generates the Java source of a {@link ViewFactory} equivalent to an FXML file, so that views can be built with plain
+ * constructor and setter calls instead of being parsed by the {@link javafx.fxml.FXMLLoader} at runtime.
+ * <p>
+ * The generator is meant to be used at build/development time, it needs the classes used by the FXML file
+ * (and the controller) to be available to the given {@link ClassLoader}, because it uses reflection to determine how properties
+ * are set and how values should be converted. It can be run from the command line too, see {@link #main(String[])}.
+ * <p></p>
+ * Supported features:
+ * <p> - Imports, both single classes and packages
+ * <p> - Objects built with the no-arg constructor or with {@link NamedArg} constructors, fx:value, fx:constant and fx:factory
+ * <p> - Properties set through attributes or property elements, list properties (like "children" or "styleClass") and
+ * default properties (see {@link DefaultProperty})
+ * <p> - Static properties, like {@code GridPane.columnIndex="1"}
+ * <p> - fx:define blocks
+ * <p> - Locations, like {@code stylesheets="@../css/Style.css"}, see below
+ * <p> - The controller: fx:id injection, event handlers (like {@code onAction="#handle"}) and initialization, see {@link ViewFactory.Helper}
+ * <p>
+ * Everything else (fx:include, fx:root, fx:reference, fx:copy, scripts, expression bindings and resources) is not supported,
+ * an {@link UnsupportedOperationException} is thrown, in such cases just keep using the FXML.
+ * <p></p>
+ * Values are converted at generation time, as the {@link javafx.fxml.FXMLLoader} would do at runtime: primitives and Strings
+ * become literals, enum values become constants, and other types are converted by their static "valueOf(String)" method.
+ * <p>
+ * Locations are resolved against the FXML file at generation time too, and must be in the class path. The generated code
+ * loads them from the class path by their resource name, so it doesn't depend on where the files were at generation time.
+ * The FXML file's location, given to the controller's initialization, is resolved the same way, or is null if the
+ * file is not in the class path.
+ * <p>
+ * Objects of generic classes are declared with wildcards, for example {@code MFXComboBox<?> comboBox = new MFXComboBox<>();},
+ * except for collections, which are declared with {@code Object} type arguments so that elements can be added to them.
+ */
+public class FXMLViewGenerator {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private static final String HELPER = "ViewFactory.Helper";
+	private final ClassLoader classLoader;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public FXMLViewGenerator() {
+		this(Thread.currentThread().getContextClassLoader());
+	}
+
+	public FXMLViewGenerator(ClassLoader classLoader) {
+		this.classLoader = classLoader;
+	}
+
+	//================================================================================
+	// Static Methods
+	//================================================================================
+
+	/**
+	 * Command line entry point, the arguments are: the FXML file, the package and the name of the class to generate,
+	 * and optionally the output (sources root) directory. If the output directory is not specified, the source is printed
+	 * to the standard output.
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length < 3) {
+			System.err.println("Usage: FXMLViewGenerator <fxml file> <package> <class name> [output dir]");
+			System.exit(1);
+		}
+		FXMLViewGenerator generator = new FXMLViewGenerator();
+		URL fxml = Path.of(args[0]).toUri().toURL();
+		if (args.length > 3) {
+			Path file = generator.generate(fxml, args[1], args[2], Path.of(args[3]));
+			System.out.println("Generated: " + file);
+		} else {
+			System.out.println(generator.generate(fxml, args[1], args[2]));
+		}
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Generates the source of the {@link ViewFactory} for the given FXML file.
+	 *
+	 * @throws UnsupportedOperationException if the FXML uses unsupported features
+	 * @throws IllegalArgumentException      if a class, property or value cannot be resolved
+	 */
+	public String generate(URL fxml, String packageName, String className) throws IOException {
+		Document document;
+		try (InputStream is = fxml.openStream()) {
+			DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+			factory.setExpandEntityReferences(false);
+			DocumentBuilder builder = factory.newDocumentBuilder();
+			document = builder.parse(is);
+		} catch (IOException ex) {
+			throw ex;
+		} catch (Exception ex) {
+			throw new IOException("Could not parse: " + fxml, ex);
+		}
+
+		Generation generation = new Generation(fxml, className);
+		String fileName = fxml.getPath().substring(fxml.getPath().lastIndexOf('/') + 1);
+		return generation.run(document, packageName, fileName);
+	}
+
+	/**
+	 * Generates the source of the {@link ViewFactory} for the given FXML file and writes it in the given sources root directory.
+	 *
+	 * @return the generated file
+	 */
+	public Path generate(URL fxml, String packageName, String className, Path outputDir) throws IOException {
+		String source = generate(fxml, packageName, className);
+		Path dir = packageName.isEmpty() ? outputDir : outputDir.resolve(packageName.replace('.', '/'));
+		Files.createDirectories(dir);
+		Path file = dir.resolve(className + ".java");
+		Files.writeString(file, source, StandardCharsets.UTF_8);
+		return file;
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * Holds the state of a single generation.
+	 */
+	private class Generation {
+		private final URL location;
+		private final String className;
+		private final Map<String, String> imports = new HashMap<>();
+		private final List<String> packages = new ArrayList<>();
+		private final Map<String, Class<?>> types = new HashMap<>();
+		private final StringBuilder body = new StringBuilder();
+		private boolean hasController = false;
+		private int counter = 0;
+
+		Generation(URL location, String className) {
+			this.location = location;
+			this.className = className;
+		}
+
+		String run(Document document, String packageName, String fileName) {
+			packages.add("java.lang");
+			NodeList nodes = document.getChildNodes();
+			for (int i = 0; i < nodes.getLength(); i++) {
+				Node node = nodes.item(i);
+				if (node instanceof ProcessingInstruction && "import".equals(((ProcessingInstruction) node).getTarget())) {
+					String name = ((ProcessingInstruction) node).getData().trim();
+					if (name.endsWith(".*")) {
+						packages.add(name.substring(0, name.length() - 2));
+					} else {
+						imports.put(name.substring(name.lastIndexOf('.') + 1), name);
+					}
+				}
+			}
+
+			Element root = document.getDocumentElement();
+			String controllerClass = root.getAttribute("fx:controller");
+			String controllerType = "Object";
+			if (!controllerClass.isEmpty()) {
+				controllerType = typeName(load(controllerClass));
+				hasController = true;
+			}
+
+			String rootVar = object(root);
+			if (!Parent.class.isAssignableFrom(types.get(rootVar))) {
+				throw new IllegalArgumentException("The root element must be a Parent, found: " + types.get(rootVar).getName());
+			}
+
+			StringBuilder sb = new StringBuilder();
+			if (!packageName.isEmpty()) sb.append("package ").append(packageName).append(";\n\n");
+			sb.append("import io.github.palexdev.materialfx.utils.others.loader.ViewFactory;\n")
+				.append("import javafx.util.Callback;\n\n")
+				.append("/**\n * Generated by FXMLViewGenerator from ").append(fileName).append(", do not edit.\n */\n")
+				.append("public class ").append(className).append(" implements ViewFactory {\n\n")
+				.append("\t@Override\n")
+				.append("\tpublic View create(Callback<Class<?>, Object> controllerFactory) throws Exception {\n");
+			if (hasController) {
+				sb.append("\t\t").append(controllerType).append(" controller = ").append(HELPER)
+					.append(".controller(").append(controllerType).append(".class, controllerFactory);\n");
+			} else {
+				sb.append("\t\tObject controller = null;\n");
+			}
+			sb.append(body);
+			if (hasController) {
+				String name = resourceName(location);
+				String url = name != null ? resource(name) : "null";
+				sb.append("\t\t").append(HELPER).append(".initialize(controller, ").append(url).append(");\n");
+			}
+			sb.append("\t\treturn new View(").append(rootVar).append(", controller);\n")
+				.append("\t}\n")
+				.append("}\n");
+			return sb.toString();
+		}
+
+		/**
+		 * Generates the code that builds the object described by the given element.
+		 *
+		 * @return the name of the variable holding the object
+		 */
+		private String object(Element element) {
+			String tag = element.getTagName();
+			if (tag.startsWith("fx:")) throw unsupported(tag);
+
+			Map<String, String> attributes = attributes(element);
+			String fxId = attributes.remove("fx:id");
+			attributes.remove("fx:controller");
+			Class<?> type = resolve(tag);
+			String var = newName(fxId, type);
+
+			String value = attributes.remove("fx:value");
+			String constant = attributes.remove("fx:constant");
+			String factory = attributes.remove("fx:factory");
+			if (value != null) {
+				declare(var, type, type == String.class ? quote(value) : typeName(type) + ".valueOf(" + quote(value) + ")");
+			} else if (constant != null) {
+				declare(var, type, typeName(type) + "." + constant);
+			} else if (factory != null) {
+				Method method = findMethod(type, factory, 0, true);
+				if (method == null) throw new IllegalArgumentException("Factory method " + factory + " not found in: " + type.getName());
+				type = method.getReturnType();
+				declare(var, type, typeName(method.getDeclaringClass()) + "." + factory + "()");
+			} else {
+				declare(var, type, construct(type, attributes));
+			}
+
+			for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+				String name = attribute.getKey();
+				String attrValue = attribute.getValue();
+				if (name.startsWith("fx:")) throw unsupported(name);
+				if (name.contains(".")) {
+					staticProperty(var, name, attrValue);
+				} else if (name.startsWith("on") && attrValue.startsWith("#")) {
+					handler(var, type, name, attrValue.substring(1));
+				} else {
+					property(var, type, name, attrValue);
+				}
+			}
+			if (fxId != null) {
+				if (!attributes.containsKey("id") && findSetter(type, "id", String.class) != null) {
+					line(var + ".setId(" + quote(fxId) + ");");
+				}
+				if (hasController) line(HELPER + ".inject(controller, " + quote(fxId) + ", " + var + ");");
+			}
+
+			NodeList children = element.getChildNodes();
+			for (int i = 0; i < children.getLength(); i++) {
+				Node child = children.item(i);
+				if (child instanceof Element) {
+					Element childElement = (Element) child;
+					String childTag = childElement.getTagName();
+					if (childTag.equals("fx:define")) {
+						for (Element defined : elements(childElement)) object(defined);
+					} else if (isPropertyElement(childTag)) {
+						propertyElement(var, type, childElement);
+					} else {
+						String childVar = object(childElement);
+						if (Collection.class.isAssignableFrom(type)) {
+							line(var + ".add(" + childVar + ");");
+						} else {
+							assign(var, type, defaultProperty(type), childVar);
+						}
+					}
+				} else if (child instanceof Text && !child.getTextContent().isBlank()) {
+					property(var, type, defaultProperty(type), child.getTextContent().trim());
+				}
+			}
+			return var;
+		}
+
+		/**
+		 * Generates the code for a property element, like {@code <children>} or {@code <GridPane.margin>}.
+		 */
+		private void propertyElement(String var, Class<?> type, Element element) {
+			String name = element.getTagName();
+			if (!attributes(element).isEmpty()) throw unsupported("attributes on property element " + name);
+			List<Element> children = elements(element);
+			if (children.isEmpty()) {
+				String text = element.getTextContent().trim();
+				if (name.contains(".")) {
+					staticProperty(var, name, text);
+				} else {
+					property(var, type, name, text);
+				}
+				return;
+			}
+
+			for (Element child : children) {
+				String childVar = object(child);
+				if (name.contains(".")) {
+					int dot = name.lastIndexOf('.');
+					Class<?> owner = resolve(name.substring(0, dot));
+					String setter = "set" + capitalize(name.substring(dot + 1));
+					if (findMethod(owner, setter, 2, true) == null) {
+						throw new IllegalArgumentException("Static property " + name + " not found");
+					}
+					line(typeName(owner) + "." + setter + "(" + var + ", " + childVar + ");");
+				} else {
+					assign(var, type, name, childVar);
+				}
+			}
+		}
+
+		/**
+		 * Generates the code that sets or adds the object in the given variable to the given property.
+		 */
+		private void assign(String var, Class<?> type, String name, String valueVar) {
+			Class<?> valueType = types.get(valueVar);
+			Method getter = findGetter(type, name);
+			Method setter = findSetter(type, name, valueType);
+			boolean isList = getter != null && Collection.class.isAssignableFrom(getter.getReturnType());
+			if (isList && (setter == null || !Collection.class.isAssignableFrom(valueType))) {
+				line(var + "." + getter.getName() + "().add(" + valueVar + ");");
+			} else if (setter != null) {
+				line(var + "." + setter.getName() + "(" + valueVar + ");");
+			} else {
+				throw new IllegalArgumentException("Property " + name + " not found in: " + type.getName());
+			}
+		}
+
+		/**
+		 * Generates the code that sets the given property to the given value, converted to the property's type.
+		 * List properties are populated with the comma separated values.
+		 */
+		private void property(String var, Class<?> type, String name, String value) {
+			String setter = "set" + capitalize(name);
+			for (Method method : type.getMethods()) {
+				if (!method.getName().equals(setter) || method.getParameterCount() != 1 || Modifier.isStatic(method.getModifiers())) continue;
+				String literal = value(method.getParameterTypes()[0], value);
+				if (literal != null) {
+					line(var + "." + setter + "(" + literal + ");");
+					return;
+				}
+			}
+
+			Method getter = findGetter(type, name);
+			if (getter != null && Collection.class.isAssignableFrom(getter.getReturnType())) {
+				for (String item : value.split(",")) {
+					line(var + "." + getter.getName() + "().add(" + value(String.class, item.trim()) + ");");
+				}
+				return;
+			}
+			throw new IllegalArgumentException("Cannot set property " + name + " of " + type.getName() + " to: " + value);
+		}
+
+		/**
+		 * Generates the code for static properties, like {@code GridPane.columnIndex="1"}.
+		 */
+		private void staticProperty(String var, String name, String value) {
+			int dot = name.lastIndexOf('.');
+			Class<?> owner = resolve(name.substring(0, dot));
+			String setter = "set" + capitalize(name.substring(dot + 1));
+			for (Method method : owner.getMethods()) {
+				if (!method.getName().equals(setter) || method.getParameterCount() != 2 || !Modifier.isStatic(method.getModifiers())) continue;
+				String literal = value(method.getParameterTypes()[1], value);
+				if (literal != null) {
+					line(typeName(owner) + "." + setter + "(" + var + ", " + literal + ");");
+					return;
+				}
+			}
+			throw new IllegalArgumentException("Cannot set static property " + name + " to: " + value);
+		}
+
+		/**
+		 * Generates the code for event handler attributes, like {@code onAction="#handle"}.
+		 */
+		private void handler(String var, Class<?> type, String name, String method) {
+			if (!hasController) throw new IllegalArgumentException("Event handler " + name + " requires a controller");
+			String setter = "set" + capitalize(name);
+			if (findMethod(type, setter, 1, false) == null) {
+				throw new IllegalArgumentException("Event handler property " + name + " not found in: " + type.getName());
+			}
+			line(var + "." + setter + "(" + HELPER + ".handler(controller, " + quote(method) + "));");
+		}
+
+		/**
+		 * @return the expression which builds an object of the given type, by using the no-arg constructor if present,
+		 * otherwise the {@link NamedArg} constructor which best matches the attributes. Attributes used as arguments
+		 * are removed from the given map
+		 */
+		private String construct(Class<?> type, Map<String, String> attributes) {
+			Constructor<?> best = null;
+			int bestMatches = -1;
+			for (Constructor<?> constructor : type.getConstructors()) {
+				if (constructor.getParameterCount() == 0) return "new " + typeName(type) + diamond(type) + "()";
+				NamedArg[] args = namedArgs(constructor);
+				if (args == null) continue;
+				int matches = 0;
+				for (NamedArg arg : args) {
+					if (attributes.containsKey(arg.value())) matches++;
+				}
+				if (matches > bestMatches) {
+					best = constructor;
+					bestMatches = matches;
+				}
+			}
+			if (best == null) throw new IllegalArgumentException("No suitable constructor found for: " + type.getName());
+
+			NamedArg[] args = namedArgs(best);
+			Class<?>[] params = best.getParameterTypes();
+			List<String> values = new ArrayList<>();
+			for (int i = 0; i < args.length; i++) {
+				String value = attributes.remove(args[i].value());
+				if (value == null) value = args[i].defaultValue();
+				String literal = value.isEmpty() && params[i].isPrimitive() ? defaultLiteral(params[i]) : value(params[i], value);
+				if (literal == null) {
+					throw new IllegalArgumentException("Cannot convert argument " + args[i].value() + " of " + type.getName() + ": " + value);
+				}
+				values.add(literal);
+			}
+			return "new " + typeName(type) + diamond(type) + "(" + String.join(", ", values) + ")";
+		}
+
+		/**
+		 * Converts the given value to a Java expression of the given type.
+		 *
+		 * @return the expression, or null if the value cannot be converted
+		 */
+		private String literal(Class<?> type, String value) {
+			String v = value.trim();
+			try {
+				if (type == String.class || type == Object.class || type == CharSequence.class) return quote(value);
+				if (type == boolean.class || type == Boolean.class) return String.valueOf(Boolean.parseBoolean(v));
+				if (type == int.class || type == Integer.class) return String.valueOf(Integer.parseInt(v));
+				if (type == long.class || type == Long.class) return Long.parseLong(v) + "L";
+				if (type == short.class || type == Short.class) return "(short) " + Short.parseShort(v);
+				if (type == byte.class || type == Byte.class) return "(byte) " + Byte.parseByte(v);
+				if (type == char.class || type == Character.class) {
+					return v.length() == 1 ? "'" + (v.charAt(0) == '\'' || v.charAt(0) == '\\' ? "\\" : "") + v + "'" : null;
+				}
+				if (type == double.class || type == Double.class) {
+					double d = Double.parseDouble(v);
+					if (Double.isInfinite(d)) return d > 0 ? "Double.POSITIVE_INFINITY" : "Double.NEGATIVE_INFINITY";
+					if (Double.isNaN(d)) return "Double.NaN";
+					return Double.toString(d);
+				}
+				if (type == float.class || type == Float.class) {
+					float f = Float.parseFloat(v);
+					if (Float.isInfinite(f)) return f > 0 ? "Float.POSITIVE_INFINITY" : "Float.NEGATIVE_INFINITY";
+					if (Float.isNaN(f)) return "Float.NaN";
+					return f + "f";
+				}
+			} catch (NumberFormatException ex) {
+				return null;
+			}
+
+			if (type.isEnum()) {
+				for (String candidate : List.of(v, camelToUpper(v), v.toUpperCase(Locale.ROOT))) {
+					for (Object constant : type.getEnumConstants()) {
+						if (((Enum<?>) constant).name().equals(candidate)) return typeName(type) + "." + candidate;
+					}
+				}
+				return null;
+			}
+
+			try {
+				Method valueOf = type.getMethod("valueOf", String.class);
+				if (Modifier.isStatic(valueOf.getModifiers()) && type.isAssignableFrom(valueOf.getReturnType())) {
+					return typeName(type) + ".valueOf(" + quote(value) + ")";
+				}
+			} catch (NoSuchMethodException ignored) {
+			}
+			return null;
+		}
+
+		private String defaultLiteral(Class<?> type) {
+			if (type == boolean.class) return "false";
+			if (type == char.class) return "'\\0'";
+			return literal(type, "0");
+		}
+
+		/**
+		 * Converts the given attribute value to a Java expression of the given type, see {@link #literal(Class, String)}.
+		 * Locations (@) are resolved by {@link #location(String)}, expressions ($) and resources (%) are not supported.
+		 * Escaped values are unescaped.
+		 *
+		 * @return the expression, or null if the value cannot be converted
+		 */
+		private String value(Class<?> type, String value) {
+			if (value.startsWith("\\")) return literal(type, value.substring(1));
+			if (value.startsWith("$") || value.startsWith("%")) throw unsupported("value " + value);
+			if (value.startsWith("@")) {
+				return (type == String.class || type == Object.class || type == CharSequence.class) ? location(value.substring(1)) : null;
+			}
+			return literal(type, value);
+		}
+
+		/**
+		 * Resolves the given location against the FXML file, as the {@link javafx.fxml.FXMLLoader} does: paths starting
+		 * with a slash are relative to the class path, the others to the FXML file.
+		 *
+		 * @return the expression which gives the location's URL as a String
+		 * @throws IllegalArgumentException if the location is not in the class path
+		 */
+		private String location(String path) {
+			URL url;
+			try {
+				url = path.startsWith("/") ? classLoader.getResource(path.substring(1)) : new URL(location, path);
+			} catch (MalformedURLException ex) {
+				throw new IllegalArgumentException("Invalid location: " + path, ex);
+			}
+			String name = url != null ? resourceName(url) : null;
+			if (name == null) throw new IllegalArgumentException("Location not found in the class path: " + path);
+			return resource(name) + ".toExternalForm()";
+		}
+
+		/**
+		 * Finds the name by which the given URL can be loaded from the class path, by trying the suffixes of its path,
+		 * from the longest one.
+		 *
+		 * @return the resource name, or null if the URL is not in the class path
+		 */
+		private String resourceName(URL url) {
+			String path = url.getPath();
+			int jar = path.lastIndexOf("!/");
+			if (jar >= 0) path = path.substring(jar + 2);
+			path = URLDecoder.decode(path.replace("+", "%2B"), StandardCharsets.UTF_8);
+			int start = 0;
+			while (start >= 0) {
+				String name = path.substring(start);
+				if (!name.isEmpty() && classLoader.getResource(name) != null) return name;
+				int slash = path.indexOf('/', start);
+				start = slash < 0 ? -1 : slash + 1;
+			}
+			return null;
+		}
+
+		/**
+		 * @return the expression which loads the resource with the given name from the class path
+		 */
+		private String resource(String name) {
+			return className + ".class.getResource(" + quote("/" + name) + ")";
+		}
+
+		private String defaultProperty(Class<?> type) {
+			for (Class<?> t = type; t != null; t = t.getSuperclass()) {
+				DefaultProperty annotation = t.getAnnotation(DefaultProperty.class);
+				if (annotation != null) return annotation.value();
+			}
+			throw new IllegalArgumentException("No default property found for: " + type.getName());
+		}
+
+		private NamedArg[] namedArgs(Constructor<?> constructor) {
+			Annotation[][] annotations = constructor.getParameterAnnotations();
+			NamedArg[] args = new NamedArg[annotations.length];
+			for (int i = 0; i < annotations.length; i++) {
+				for (Annotation annotation : annotations[i]) {
+					if (annotation instanceof NamedArg) args[i] = (NamedArg) annotation;
+				}
+				if (args[i] == null) return null;
+			}
+			return args;
+		}
+
+		private Method findGetter(Class<?> type, String name) {
+			Method getter = findMethod(type, "get" + capitalize(name), 0, false);
+			return getter != null ? getter : findMethod(type, "is" + capitalize(name), 0, false);
+		}
+
+		private Method findSetter(Class<?> type, String name, Class<?> valueType) {
+			String setter = "set" + capitalize(name);
+			for (Method method : type.getMethods()) {
+				if (method.getName().equals(setter) && method.getParameterCount() == 1 && !Modifier.isStatic(method.getModifiers()) &&
+					(valueType == null || wrap(method.getParameterTypes()[0]).isAssignableFrom(valueType))) {
+					return method;
+				}
+			}
+			return null;
+		}
+
+		private Method findMethod(Class<?> type, String name, int parameters, boolean isStatic) {
+			for (Method method : type.getMethods()) {
+				if (method.getName().equals(name) && method.getParameterCount() == parameters && Modifier.isStatic(method.getModifiers()) == isStatic) {
+					return method;
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * Resolves the class with the given name, which can be fully qualified or imported.
+		 */
+		private Class<?> resolve(String name) {
+			if (name.contains(".")) return load(name);
+			String imported = imports.get(name);
+			if (imported != null) return load(imported);
+			for (String pkg : packages) {
+				try {
+					return Class.forName(pkg + "." + name, false, classLoader);
+				} catch (ClassNotFoundException ignored) {
+				}
+			}
+			throw new IllegalArgumentException("Cannot resolve class: " + name);
+		}
+
+		/**
+		 * Loads the class with the given fully qualified name, also handling nested classes written with dots.
+		 */
+		private Class<?> load(String name) {
+			String candidate = name;
+			while (true) {
+				try {
+					return Class.forName(candidate, false, classLoader);
+				} catch (ClassNotFoundException ex) {
+					int dot = candidate.lastIndexOf('.');
+					if (dot < 0) break;
+					candidate = candidate.substring(0, dot) + "$" + candidate.substring(dot + 1);
+				}
+			}
+			String imported = imports.get(name.substring(0, Math.max(name.indexOf('.'), 0)));
+			if (imported != null) return load(imported + name.substring(name.indexOf('.')));
+			throw new IllegalArgumentException("Cannot resolve class: " + name);
+		}
+
+		private void declare(String var, Class<?> type, String expression) {
+			types.put(var, type);
+			line(typeName(type) + typeArguments(type) + " " + var + " = " + expression + ";");
+		}
+
+		private String newName(String fxId, Class<?> type) {
+			if (fxId != null && isIdentifier(fxId) && !fxId.equals("controller") && !types.containsKey(fxId)) return fxId;
+			String simpleName = type.getSimpleName();
+			return Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1) + counter++;
+		}
+
+		private void line(String code) {
+			body.append("\t\t").append(code).append("\n");
+		}
+
+		private Map<String, String> attributes(Element element) {
+			Map<String, String> attributes = new LinkedHashMap<>();
+			NamedNodeMap map = element.getAttributes();
+			for (int i = 0; i < map.getLength(); i++) {
+				Node attribute = map.item(i);
+				String name = attribute.getNodeName();
+				if (name.equals("xmlns") || name.startsWith("xmlns:")) continue;
+				attributes.put(name, attribute.getNodeValue());
+			}
+			return attributes;
+		}
+
+		private List<Element> elements(Element element) {
+			List<Element> elements = new ArrayList<>();
+			NodeList children = element.getChildNodes();
+			for (int i = 0; i < children.getLength(); i++) {
+				if (children.item(i) instanceof Element) elements.add((Element) children.item(i));
+			}
+			return elements;
+		}
+
+		/**
+		 * @return whether the given tag is a property element, in other words its last segment starts with a lower case letter
+		 */
+		private boolean isPropertyElement(String tag) {
+			if (tag.startsWith("fx:")) return false;
+			String last = tag.substring(tag.lastIndexOf('.') + 1);
+			return !last.isEmpty() && Character.isLowerCase(last.charAt(0));
+		}
+
+		private UnsupportedOperationException unsupported(String feature) {
+			return new UnsupportedOperationException("Unsupported FXML feature: " + feature);
+		}
+	}
+
+	private static String typeName(Class<?> type) {
+		String name = type.getCanonicalName();
+		return name.startsWith("java.lang.") && name.indexOf('.', 10) < 0 ? type.getSimpleName() : name;
+	}
+
+	/**
+	 * @return the type arguments used to declare variables of the given class, empty if the class is not generic,
+	 * see {@link FXMLViewGenerator}
+	 */
+	private static String typeArguments(Class<?> type) {
+		int count = type.getTypeParameters().length;
+		if (count == 0) return "";
+		String argument = Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type) ? "Object" : "?";
+		return "<" + String.join(", ", Collections.nCopies(count, argument)) + ">";
+	}
+
+	/**
+	 * @return the diamond operator if the given class is generic, an empty string otherwise
+	 */
+	private static String diamond(Class<?> type) {
+		return type.getTypeParameters().length > 0 ? "<>" : "";
+	}
+
+	private static Class<?> wrap(Class<?> type) {
+		if (!type.isPrimitive()) return type;
+		if (type == boolean.class) return Boolean.class;
+		if (type == int.class) return Integer.class;
+		if (type == long.class) return Long.class;
+		if (type == double.class) return Double.class;
+		if (type == float.class) return Float.class;
+		if (type == short.class) return Short.class;
+		if (type == byte.class) return Byte.class;
+		if (type == char.class) return Character.class;
+		return Void.class;
+	}
+
+	private static String quote(String value) {
+		StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+		for (char c : value.toCharArray()) {
+			switch (c) {
+				case '"':
+					sb.append("\\\"");
+					break;
+				case '\\':
+					sb.append("\\\\");
+					break;
+				case '\n':
+					sb.append("\\n");
+					break;
+				case '\r':
+					sb.append("\\r");
+					break;
+				case '\t':
+					sb.append("\\t");
+					break;
+				default:
+					if (c < 0x20 || c > 0x7E) {
+						sb.append(String.format("\\u%04x", (int) c));
+					} else {
+						sb.append(c);
+					}
+			}
+		}
+		return sb.append('"').toString();
+	}
+
+	private static String capitalize(String s) {
+		return s.isEmpty() ? s : Character.toUpperCase(s.charAt(0)) + s.substring(1);
+	}
+
+	/**
+	 * Converts camel case names to upper case with underscores, for example: "centerLeft" to "CENTER_LEFT".
+	 */
+	private static String camelToUpper(String s) {
+		StringBuilder sb = new StringBuilder();
+		for (char c : s.toCharArray()) {
+			if (Character.isUpperCase(c) && sb.length() > 0) sb.append('_');
+			sb.append(Character.toUpperCase(c));
+		}
+		return sb.toString();
+	}
+
+	private static boolean isIdentifier(String s) {
+		if (s.isEmpty() || !Character.isJavaIdentifierStart(s.charAt(0))) return false;
+		for (int i = 1; i < s.length(); i++) {
+			if (!Character.isJavaIdentifierPart(s.charAt(i))) return false;
+		}
+		return true;
+	}
+}
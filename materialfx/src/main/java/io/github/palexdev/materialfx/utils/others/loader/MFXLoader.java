@@ -21,23 +21,22 @@
 import io.github.palexdev.materialfx.beans.properties.functional.SupplierProperty;
 import io.github.palexdev.materialfx.enums.LoaderCacheLevel;
 import io.github.palexdev.materialfx.utils.LoaderUtils;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.CacheHint;
+import javafx.scene.Group;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
-import javafx.scene.layout.StackPane;
 import javafx.util.Callback;
 
 import java.net.URL;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -52,6 +51,8 @@
  * which should be the identifier of the view, you can also use {@link LoaderUtils#generateKey(URL)} to automatically generate a key.
  * <p></p>
  * Once every view has been added you can start the loader with either {@link #start()} or {@link #startWith(ExecutorService)}.
+ * Views are loaded in parallel, unless they depend on each other, see {@link MFXLoaderBean#dependsOn(String...)}. The
+ * progress can be tracked with {@link #progressProperty()}.
  * <p>
  * After all views have been loaded the {@link #onLoaded(List)} method is called, see also {@link #setOnLoadedAction(Consumer)}.
  * <p></p>
@@ -63,6 +64,9 @@
  * manage this behavior by setting the "cache level", see {@link #setCacheLevel(LoaderCacheLevel)} and {@link LoaderCacheLevel}
  * <p>
  * <b>NOTE: the cache level must be set before invoking the {@link #start()} method.</b>
+ * <p></p>
+ * Views can also be loaded on demand, see {@link #setLazy(boolean)}, and the number of views kept in memory can be limited,
+ * see {@link #setMaxLoadedViews(int)}.
  * <p>
  * By default it is set to: {@link LoaderCacheLevel#SCENE_CACHE}
  *
@@ -85,6 +89,18 @@ public void set(Supplier<FXMLLoader> newValue) {
 		}
 	};
 	private final AtomicInteger loadedCount = new AtomicInteger(0);
+	private final ReadOnlyDoubleWrapper progress = new ReadOnlyDoubleWrapper();
+	private final Map<String, CompletableFuture<LoadResult>> pending = new ConcurrentHashMap<>();
+	private final Map<String, MFXLoaderBean> recentlyUsed = new LinkedHashMap<>(16, 0.75f, true);
+	private final Set<String> loading = new LinkedHashSet<>();
+	private boolean lazy = false;
+	private int preloadCount = 1;
+	private int maxLoadedViews = 0;
+	private double prewarmWidth = -1;
+	private double prewarmHeight = -1;
+	private final List<String> prewarmStylesheets = new ArrayList<>();
+	private final AtomicLong backgroundPrewarmTime = new AtomicLong(0);
+	private final AtomicLong fxPrewarmTime = new AtomicLong(0);
 	private Consumer<List<MFXLoaderBean>> onLoadedAction;
 	private LoaderCacheLevel cacheLevel = LoaderCacheLevel.SCENE_CACHE;
 
@@ -104,67 +120,251 @@ public MFXLoader(Consumer<List<MFXLoaderBean>> onLoadedAction) {
 	//================================================================================
 
 	/**
-	 * Starts the loading process by collecting all the views from the map
-	 * that are still not loaded. Then for each {@link MFXLoaderBean} builds
-	 * the {@link Callable} used to load the FXML root, see {@link #buildTask(MFXLoaderBean)},
-	 * and sends it to the {@link LoaderUtils}'s executor, to load the view uses
-	 * {@link Future#get()}.
-	 * Once the fxml has been loaded invokes {@link #cacheParent(Parent)} then finally
-	 * increments the number that keeps track of how many views have been loaded.
-	 * <p>
-	 * At the end of the loop calls {@link #onLoaded(List)}, the list
-	 * is given by {@link Map#values()} (wrapped in an ArrayList).
+	 * Starts the loading process on the {@link LoaderUtils}'s executor, see {@link #startWith(Executor)}.
 	 */
-	public void start() {
-		List<MFXLoaderBean> toLoad = viewMap.values().stream()
-				.filter(bean -> !bean.isLoaded())
-				.collect(Collectors.toList());
-		for (MFXLoaderBean bean : toLoad) {
-			try {
-				Callable<Parent> task = buildTask(bean);
-				Parent loaded = LoaderUtils.submit(task).get();
-				cacheParent(loaded);
-				bean.setLoaded(true);
-				loadedCount.addAndGet(1);
-			} catch (InterruptedException | ExecutionException ex) {
-				ex.printStackTrace();
-			} finally {
-				loadedCount.addAndGet(1);
-			}
-		}
-		onLoaded(new ArrayList<>(viewMap.values()));
+	public CompletableFuture<List<MFXLoaderBean>> start() {
+		return startWith(LoaderUtils::execute);
 	}
 
 	/**
 	 * Same as {@link #start()} but the load tasks are submitted to the given
 	 * {@link ExecutorService}.
 	 */
-	public void startWith(ExecutorService executorService) {
-		List<MFXLoaderBean> toLoad = viewMap.values().stream()
-				.filter(bean -> !bean.isLoaded())
-				.collect(Collectors.toList());
+	public CompletableFuture<List<MFXLoaderBean>> startWith(ExecutorService executorService) {
+		return startWith((Executor) executorService);
+	}
+
+	/**
+	 * Starts the loading process by collecting all the views from the map that are still not loaded.
+	 * Then for each {@link MFXLoaderBean} builds the {@link Callable} used to load the FXML root, see {@link #buildTask(MFXLoaderBean)},
+	 * and submits it to the given {@link Executor}.
+	 * <p>
+	 * All the views are submitted at once, so they are loaded in parallel (as much as the executor allows). A view
+	 * which depends on other views, see {@link MFXLoaderBean#dependsOn(String...)}, is submitted only once its dependencies
+	 * have been loaded.
+	 * <p>
+	 * Once a view has been loaded, its root and controller are set in the bean and {@link #cacheParent(MFXLoaderBean, Parent)}
+	 * is invoked, on the JavaFX thread, then the number of loaded
+	 * views and the {@link #progressProperty()} are updated. When all the views have been loaded, {@link #onLoaded(List)}
+	 * is called on the JavaFX thread, the list is given by {@link Map#values()} (wrapped in an ArrayList).
+	 * <p></p>
+	 * This method does not block, the returned {@link CompletableFuture} completes after {@link #onLoaded(List)}.
+	 * If any view failed to load, {@link #onLoaded(List)} is still called (failed views are not loaded, see {@link MFXLoaderBean#isLoaded()}),
+	 * but the future completes exceptionally, with an exception whose message lists the failed views and which carries their errors
+	 * as suppressed exceptions.
+	 * Beware, since part of the process runs on the JavaFX thread, waiting for the future on such thread would
+	 * result in a deadlock.
+	 *
+	 * @throws IllegalStateException if the views' dependencies are circular
+	 */
+	public CompletableFuture<List<MFXLoaderBean>> startWith(Executor executor) {
+		List<MFXLoaderBean> toLoad = viewsToLoad();
+
+		/* Nothing is submitted until all the views have been scheduled, in case of circular dependencies */
+		CompletableFuture<Void> gate = new CompletableFuture<>();
+		Map<String, CompletableFuture<LoadResult>> tasks = new HashMap<>();
 		for (MFXLoaderBean bean : toLoad) {
-			try {
-				Callable<Parent> task = buildTask(bean);
-				Parent loaded = executorService.submit(task).get();
-				cacheParent(loaded);
-				bean.setLoaded(true);
-				loadedCount.addAndGet(1);
-			} catch (InterruptedException | ExecutionException ex) {
-				ex.printStackTrace();
-			} finally {
-				loadedCount.addAndGet(1);
+			schedule(bean, executor, gate, tasks, new HashSet<>());
+		}
+		pending.putAll(tasks);
+
+		int total = toLoad.size();
+		loadedCount.set(0);
+		progress.set(total == 0 ? 1.0 : 0.0);
+		List<CompletableFuture<Void>> done = new ArrayList<>(total);
+		Map<String, Throwable> failures = new LinkedHashMap<>();
+		for (MFXLoaderBean bean : toLoad) {
+			CompletableFuture<Void> viewDone = new CompletableFuture<>();
+			tasks.get(bean.getViewName()).whenComplete((result, ex) -> Platform.runLater(() -> {
+				try {
+					pending.remove(bean.getViewName());
+					if (ex != null) {
+						Throwable cause = (ex instanceof CompletionException && ex.getCause() != null) ? ex.getCause() : ex;
+						failures.put(bean.getViewName(), cause);
+						cause.printStackTrace();
+					} else if (!bean.isLoaded()) {
+						commit(bean, result);
+						cacheParent(bean, result.root);
+						bean.setLoaded(true);
+						touch(bean);
+					} else if (bean.peekRoot() != result.root) {
+						/* Already loaded again on demand, see loadNow() */
+						discard(result);
+					}
+				} finally {
+					progress.set(loadedCount.incrementAndGet() / (double) total);
+					viewDone.complete(null);
+				}
+			}));
+			done.add(viewDone);
+		}
+		gate.complete(null);
+
+		return CompletableFuture.allOf(done.toArray(new CompletableFuture<?>[0]))
+				.thenApply(v -> {
+					List<MFXLoaderBean> beans = new ArrayList<>(viewMap.values());
+					onLoaded(beans);
+					if (!failures.isEmpty()) {
+						RuntimeException failure = new RuntimeException("Could not load views: " + String.join(", ", failures.keySet()));
+						failures.values().forEach(failure::addSuppressed);
+						throw failure;
+					}
+					return beans;
+				});
+	}
+
+	/**
+	 * @return the views that {@link #startWith(Executor)} should load. All the views still not loaded, or if {@link #isLazy()}
+	 * is true, the first {@link #getPreloadCount()} views still not loaded (default views first), plus their dependencies
+	 */
+	protected List<MFXLoaderBean> viewsToLoad() {
+		if (!lazy) {
+			return viewMap.values().stream()
+					.filter(bean -> !bean.isLoaded())
+					.collect(Collectors.toList());
+		}
+
+		List<MFXLoaderBean> candidates = new ArrayList<>(viewMap.values());
+		candidates.sort(Comparator.comparing(bean -> !bean.isDefaultView()));
+		Set<MFXLoaderBean> selected = new LinkedHashSet<>();
+		int count = 0;
+		for (MFXLoaderBean bean : candidates) {
+			if (count >= preloadCount) break;
+			if (bean.isLoaded()) continue;
+			withDependencies(bean, selected);
+			count++;
+		}
+		return new ArrayList<>(selected);
+	}
+
+	private void withDependencies(MFXLoaderBean bean, Set<MFXLoaderBean> selected) {
+		if (!selected.add(bean)) return;
+		for (String dependency : bean.getDependencies()) {
+			MFXLoaderBean dependencyBean = viewMap.get(dependency);
+			if (dependencyBean != null && !dependencyBean.isLoaded()) withDependencies(dependencyBean, selected);
+		}
+	}
+
+	/**
+	 * Called by {@link MFXLoaderBean#getRoot()} to retrieve the view's root.
+	 * <p>
+	 * If the view has been evicted, an attempt at restoring it is made, see {@link #setMaxLoadedViews(int)}.
+	 * Otherwise, if the loader is lazy or the view has been evicted, it is loaded now by {@link #loadNow(MFXLoaderBean)}.
+	 * Finally, the view is marked as the most recently used.
+	 */
+	Parent access(MFXLoaderBean bean) {
+		Parent root = bean.peekRoot();
+		if (root == null) {
+			if (bean.isEvicted()) root = bean.restore();
+			if (root == null && (lazy || bean.isEvicted())) root = loadNow(bean);
+		}
+		if (root != null && bean.isLoaded()) touch(bean);
+		return root;
+	}
+
+	/**
+	 * Loads the given view on the calling thread (the JavaFX thread), its dependencies are loaded first.
+	 * <p>
+	 * If the view is being loaded in background by {@link #startWith(Executor)}, its result is used only if it is
+	 * already available. Otherwise, the view is loaded again rather than waiting for the background task, which would
+	 * block the JavaFX thread, and the background result is discarded once it arrives.
+	 *
+	 * @return the loaded root or null if the view could not be loaded
+	 * @throws IllegalStateException if the view is requested again while it is being loaded, for example because of
+	 *                               circular dependencies or because its controller accesses its own root
+	 */
+	protected Parent loadNow(MFXLoaderBean bean) {
+		String viewName = bean.getViewName();
+		if (!loading.add(viewName)) {
+			List<String> chain = new ArrayList<>(loading);
+			chain = chain.subList(chain.indexOf(viewName), chain.size());
+			throw new IllegalStateException(
+					"View " + viewName + " requested while being loaded: " + String.join(" -> ", chain) + " -> " + viewName
+			);
+		}
+		try {
+			LoadResult result = null;
+			CompletableFuture<LoadResult> future = pending.get(viewName);
+			if (future != null && future.isDone() && !future.isCompletedExceptionally()) {
+				result = future.join();
+			}
+			if (result == null) {
+				for (String dependency : bean.getDependencies()) {
+					MFXLoaderBean dependencyBean = viewMap.get(dependency);
+					if (dependencyBean != null && !dependencyBean.isLoaded()) access(dependencyBean);
+				}
+				try {
+					result = buildTask(bean).call();
+				} catch (Exception ex) {
+					ex.printStackTrace();
+					return null;
+				}
 			}
+			commit(bean, result);
+			cacheParent(bean, result.root);
+			bean.setLoaded(true);
+			return result.root;
+		} finally {
+			loading.remove(viewName);
+		}
+	}
+
+	/**
+	 * Sets the given result in the given bean. Must be called on the JavaFX thread.
+	 */
+	private void commit(MFXLoaderBean bean, LoadResult result) {
+		bean.setRoot(result.root);
+		bean.setController(result.controller);
+		bean.setLoadTime(result.loadTime);
+		bean.setPrewarmTime(result.prewarmTime);
+		bean.setPrewarmed(result.prewarmed);
+	}
+
+	/**
+	 * Discards a result which is not needed anymore, disposing its controller if it implements {@link DisposableController}.
+	 */
+	private void discard(LoadResult result) {
+		if (result.controller instanceof DisposableController) {
+			((DisposableController) result.controller).dispose();
+		}
+	}
+
+	/**
+	 * Marks the given view as the most recently used. If the number of loaded views exceeds {@link #getMaxLoadedViews()},
+	 * the least recently used views are evicted, except for the ones currently showing.
+	 *
+	 * @see MFXLoaderBean#getRoot()
+	 * @see DisposableController
+	 */
+	private void touch(MFXLoaderBean bean) {
+		if (maxLoadedViews <= 0) return;
+		recentlyUsed.put(bean.getViewName(), bean);
+		int excess = recentlyUsed.size() - maxLoadedViews;
+		Iterator<MFXLoaderBean> it = recentlyUsed.values().iterator();
+		while (excess > 0 && it.hasNext()) {
+			MFXLoaderBean candidate = it.next();
+			if (candidate == bean || isShowing(candidate)) continue;
+			it.remove();
+			candidate.evict();
+			excess--;
 		}
-		onLoaded(new ArrayList<>(viewMap.values()));
+	}
+
+	/**
+	 * @return whether the given view's root is in a showing window
+	 */
+	private boolean isShowing(MFXLoaderBean bean) {
+		Parent root = bean.peekRoot();
+		return root != null && root.getScene() != null &&
+				root.getScene().getWindow() != null && root.getScene().getWindow().isShowing();
 	}
 
 	/**
 	 * Adds the given view to the views map.
 	 */
 	public MFXLoader addView(MFXLoaderBean bean) {
-		LoaderUtils.checkFxmlFile(bean.getFxmlFile());
-		viewMap.put(bean.getViewName(), bean);
+		if (bean.getViewFactory() == null) LoaderUtils.checkFxmlFile(bean.getFxmlFile());
+		viewMap.put(bean.getViewName(), bean.setLoader(this));
 		return this;
 	}
 
@@ -174,7 +374,7 @@ public MFXLoader addView(MFXLoaderBean bean) {
 	 */
 	public MFXLoader addView(String viewName, URL fxmlFile) {
 		LoaderUtils.checkFxmlFile(fxmlFile);
-		viewMap.put(viewName, new MFXLoaderBean(viewName, fxmlFile));
+		viewMap.put(viewName, new MFXLoaderBean(viewName, fxmlFile).setLoader(this));
 		return this;
 	}
 
@@ -184,7 +384,16 @@ public MFXLoader addView(String viewName, URL fxmlFile) {
 	 */
 	public MFXLoader addView(String viewName, URL fxmlFile, Callback<Class<?>, Object> controllerFactory) {
 		LoaderUtils.checkFxmlFile(fxmlFile);
-		viewMap.put(viewName, new MFXLoaderBean(viewName, fxmlFile, controllerFactory, false, null));
+		viewMap.put(viewName, new MFXLoaderBean(viewName, fxmlFile, controllerFactory, false, null).setLoader(this));
+		return this;
+	}
+
+	/**
+	 * Builds a new {@link MFXLoaderBean} with the given identifier and {@link ViewFactory},
+	 * then adds it to the views map.
+	 */
+	public MFXLoader addView(String viewName, ViewFactory viewFactory) {
+		viewMap.put(viewName, new MFXLoaderBean(viewName, viewFactory).setLoader(this));
 		return this;
 	}
 
@@ -196,7 +405,7 @@ public MFXLoaderBean getView(String viewName) {
 	}
 
 	/**
-	 * This method is called once all the views have been loaded by {@link #start()} or
+	 * This method is called on the JavaFX thread once all the views have been loaded by {@link #start()} or
 	 * {@link #startWith(ExecutorService)}.
 	 * <p>
 	 * This simple methods is just responsible for executing the action specified by the user, {@link #setOnLoadedAction(Consumer)},
@@ -211,46 +420,136 @@ protected void onLoaded(List<MFXLoaderBean> beans) {
 	/**
 	 * Responsible for building the {@link Callable} which will load the given view.
 	 * <p>
-	 * First a {@link FXMLLoader} is created by using the specified supplier, {@link #fxmlLoaderSupplierProperty()},
-	 * then the location and controller factory are set on it.
+	 * If the bean specifies a {@link ViewFactory}, the view is built by {@link ViewFactory#create(Callback)}.
+	 * Otherwise, a {@link FXMLLoader} is created by using the specified supplier, {@link #fxmlLoaderSupplierProperty()},
+	 * then the location and controller factory are set on it, and {@link FXMLLoader#load()} is invoked.
+	 * <p>
+	 * The task does not modify the bean, since it may run in background, the root and the controller are returned in
+	 * a {@link LoadResult} and set in the bean later on the JavaFX thread.
 	 * <p>
-	 * {@link FXMLLoader#load()} is invoked and then the loaded {@link Parent} is set in the bean.
+	 * If the cache level is {@link LoaderCacheLevel#BACKGROUND_CACHE} and the task is not running on the JavaFX thread,
+	 * the root is also pre-warmed by {@link #prewarm(Parent)}. If that fails, the view is pre-warmed later on the JavaFX thread.
 	 */
-	private Callable<Parent> buildTask(MFXLoaderBean bean) {
-		List<Callable<Parent>> tasks = new ArrayList<>();
+	private Callable<LoadResult> buildTask(MFXLoaderBean bean) {
 		return () -> {
-			FXMLLoader loader = getFxmlLoaderSupplier().get();
-			URL fxmlFile = bean.getFxmlFile();
+			LoadResult result = new LoadResult();
 			Callback<Class<?>, Object> controllerFactory = bean.getControllerFactory();
-			loader.setLocation(fxmlFile);
-			loader.setControllerFactory(controllerFactory);
-
-			Parent root = loader.load();
-			bean.setRoot(root);
-			return root;
+			ViewFactory viewFactory = bean.getViewFactory();
+			long start = System.nanoTime();
+			if (viewFactory != null) {
+				ViewFactory.View view = viewFactory.create(controllerFactory);
+				result.root = view.getRoot();
+				result.controller = view.getController();
+			} else {
+				FXMLLoader loader = getFxmlLoaderSupplier().get();
+				URL fxmlFile = bean.getFxmlFile();
+				loader.setLocation(fxmlFile);
+				loader.setControllerFactory(controllerFactory);
+				result.root = loader.load();
+				result.controller = loader.getController();
+			}
+			result.loadTime = System.nanoTime() - start;
+			if (cacheLevel == LoaderCacheLevel.BACKGROUND_CACHE && !Platform.isFxApplicationThread()) {
+				try {
+					result.prewarmTime = prewarm(result.root);
+					result.prewarmed = true;
+					backgroundPrewarmTime.addAndGet(result.prewarmTime);
+				} catch (Exception ex) {
+					/* Falls back to the JavaFX thread, see cacheParent() */
+					ex.printStackTrace();
+				}
+			}
+			return result;
 		};
 	}
 
+	/**
+	 * Schedules the load task of the given view on the given {@link Executor}, after the tasks of its dependencies.
+	 * Dependencies which are not in the views map or are already loaded are ignored. A failed dependency does
+	 * not prevent the view from being loaded.
+	 *
+	 * @param gate     the future which starts all the tasks once completed
+	 * @param tasks    the already scheduled tasks by view name
+	 * @param visiting the views being scheduled in the current dependency chain, used to detect cycles
+	 */
+	private CompletableFuture<LoadResult> schedule(MFXLoaderBean bean, Executor executor, CompletableFuture<Void> gate,
+												   Map<String, CompletableFuture<LoadResult>> tasks, Set<String> visiting) {
+		String viewName = bean.getViewName();
+		CompletableFuture<LoadResult> scheduled = tasks.get(viewName);
+		if (scheduled != null) return scheduled;
+		if (!visiting.add(viewName)) {
+			throw new IllegalStateException("Circular dependency detected for view: " + viewName);
+		}
+
+		List<CompletableFuture<LoadResult>> dependencies = new ArrayList<>();
+		for (String dependency : bean.getDependencies()) {
+			MFXLoaderBean dependencyBean = viewMap.get(dependency);
+			if (dependencyBean == null || dependencyBean.isLoaded()) continue;
+			dependencies.add(schedule(dependencyBean, executor, gate, tasks, visiting));
+		}
+		visiting.remove(viewName);
+
+		Callable<LoadResult> task = buildTask(bean);
+		CompletableFuture<Void> ready = dependencies.isEmpty() ?
+				gate :
+				CompletableFuture.allOf(dependencies.toArray(new CompletableFuture<?>[0])).handle((v, ex) -> null);
+		CompletableFuture<LoadResult> future = ready.thenApplyAsync(v -> {
+			try {
+				return task.call();
+			} catch (Exception ex) {
+				throw new CompletionException(ex);
+			}
+		}, executor);
+		tasks.put(viewName, future);
+		return future;
+	}
+
 	/**
 	 * This method is responsible for caching/preloading the loaded views to make them
 	 * ready for switching.
 	 * For a description of the various cache levels, see {@link LoaderCacheLevel}.
 	 * <p>
-	 * If the cache level is set to {@link LoaderCacheLevel#NONE} exits immediately.
+	 * If the cache level is set to {@link LoaderCacheLevel#NONE}, or the view has already been pre-warmed in background,
+	 * exits immediately. Otherwise, the view is pre-warmed by {@link #prewarm(Parent)} on the JavaFX thread.
 	 */
-	private void cacheParent(Parent parent) {
-		if (cacheLevel == LoaderCacheLevel.NONE) return;
+	private void cacheParent(MFXLoaderBean bean, Parent parent) {
+		if (cacheLevel == LoaderCacheLevel.NONE || bean.isPrewarmed()) return;
 
 		if (cacheLevel == LoaderCacheLevel.SCENE_JAVAFX_CACHE) {
 			parent.setCache(true);
 			parent.setCacheHint(CacheHint.SPEED);
 		}
 
-		StackPane pane = new StackPane();
-		pane.getChildren().setAll(parent);
-		Scene scene = new Scene(pane);
-		pane.applyCss();
-		pane.layout();
+		long time = prewarm(parent);
+		bean.setPrewarmTime(time);
+		fxPrewarmTime.addAndGet(time);
+	}
+
+	/**
+	 * Pre-warms the given root, which must not be attached to any scene, by setting it as the root of a temporary {@link Scene}
+	 * (with the stylesheets specified by {@link #getPrewarmStylesheets()}), then calling {@link Parent#applyCss()},
+	 * which creates the skins of the controls, and {@link Parent#layout()} at the size specified by {@link #setPrewarmSize(double, double)}.
+	 * Finally, the root is detached from the temporary scene, so that it can be attached anywhere else.
+	 * <p>
+	 * Once attached to the real scene, JavaFX will need to apply the CSS again, but skins and layout will already be computed.
+	 *
+	 * @return the time spent in nanoseconds
+	 */
+	protected long prewarm(Parent root) {
+		long start = System.nanoTime();
+		Scene scene = new Scene(new Group());
+		scene.getStylesheets().setAll(prewarmStylesheets);
+		try {
+			scene.setRoot(root);
+			root.applyCss();
+			double width = prewarmWidth > 0 ? prewarmWidth : root.prefWidth(-1);
+			double height = prewarmHeight > 0 ? prewarmHeight : root.prefHeight(width);
+			root.resize(width, height);
+			root.layout();
+		} finally {
+			scene.setRoot(new Group());
+		}
+		return System.nanoTime() - start;
 	}
 
 	//================================================================================
@@ -272,6 +571,27 @@ public MFXLoader setFxmlLoaderSupplier(Supplier<FXMLLoader> fxmlLoaderSupplier)
 		return this;
 	}
 
+	public double getProgress() {
+		return progress.get();
+	}
+
+	/**
+	 * Specifies the loading progress, as the number of views processed by the last {@link #start()} divided
+	 * by the number of views it had to load, so the values go from 0.0 to 1.0. Failed views count as processed too.
+	 * <p>
+	 * Updated on the JavaFX thread.
+	 */
+	public ReadOnlyDoubleProperty progressProperty() {
+		return progress.getReadOnlyProperty();
+	}
+
+	/**
+	 * @return the number of views processed by the last {@link #start()}
+	 */
+	public int getLoadedCount() {
+		return loadedCount.get();
+	}
+
 	public Consumer<List<MFXLoaderBean>> getOnLoadedAction() {
 		return onLoadedAction;
 	}
@@ -286,6 +606,98 @@ public MFXLoader setOnLoadedAction(Consumer<List<MFXLoaderBean>> onLoadedAction)
 		return this;
 	}
 
+	public boolean isLazy() {
+		return lazy;
+	}
+
+	/**
+	 * Sets whether views should be loaded on demand, the first time {@link MFXLoaderBean#getRoot()} is called,
+	 * rather than all at once by {@link #start()}.
+	 * <p>
+	 * When lazy, {@link #start()} only preloads in background the first {@link #getPreloadCount()} views, default views first.
+	 * Beware, views loaded on demand are loaded on the JavaFX thread, which is blocked for the time needed to load them.
+	 * If a view is still being preloaded in background when requested, it is loaded again on the JavaFX thread rather than
+	 * waiting for it.
+	 */
+	public MFXLoader setLazy(boolean lazy) {
+		this.lazy = lazy;
+		return this;
+	}
+
+	public int getPreloadCount() {
+		return preloadCount;
+	}
+
+	/**
+	 * Sets the number of views loaded by {@link #start()} when the loader is lazy, 1 by default.
+	 *
+	 * @see #setLazy(boolean)
+	 */
+	public MFXLoader setPreloadCount(int preloadCount) {
+		this.preloadCount = preloadCount;
+		return this;
+	}
+
+	public int getMaxLoadedViews() {
+		return maxLoadedViews;
+	}
+
+	/**
+	 * Sets the maximum number of views kept loaded, 0 (default) means no limit.
+	 * <p>
+	 * When a view is accessed through {@link MFXLoaderBean#getRoot()} or loaded, and the limit is exceeded, the least recently
+	 * used views are evicted (views currently showing are never evicted). Evicted views whose controller implements
+	 * {@link DisposableController} are disposed, the others are kept through soft references, so the garbage collector
+	 * reclaims them only if the memory is needed. In both cases, the next {@link MFXLoaderBean#getRoot()} restores or loads again
+	 * the view transparently.
+	 */
+	public MFXLoader setMaxLoadedViews(int maxLoadedViews) {
+		this.maxLoadedViews = maxLoadedViews;
+		return this;
+	}
+
+	public double getPrewarmWidth() {
+		return prewarmWidth;
+	}
+
+	public double getPrewarmHeight() {
+		return prewarmHeight;
+	}
+
+	/**
+	 * Sets the size at which views are laid out by {@link #prewarm(Parent)}, ideally the size at which they will be shown.
+	 * Values less than or equal to 0 (default) mean that the root's preferred size is used.
+	 */
+	public MFXLoader setPrewarmSize(double width, double height) {
+		this.prewarmWidth = width;
+		this.prewarmHeight = height;
+		return this;
+	}
+
+	/**
+	 * @return the modifiable list of stylesheets used by {@link #prewarm(Parent)}, ideally the same stylesheets of the scene
+	 * in which views will be shown. By default, it's empty, so only the user agent stylesheet is used
+	 */
+	public List<String> getPrewarmStylesheets() {
+		return prewarmStylesheets;
+	}
+
+	/**
+	 * @return the total time spent pre-warming views in background with {@link LoaderCacheLevel#BACKGROUND_CACHE}, in other
+	 * words, the time saved on the JavaFX thread
+	 */
+	public Duration getBackgroundPrewarmTime() {
+		return Duration.ofNanos(backgroundPrewarmTime.get());
+	}
+
+	/**
+	 * @return the total time spent pre-warming views on the JavaFX thread, either because of the cache level or because
+	 * the background pre-warm failed
+	 */
+	public Duration getFxPrewarmTime() {
+		return Duration.ofNanos(fxPrewarmTime.get());
+	}
+
 	public LoaderCacheLevel getCacheLevel() {
 		return cacheLevel;
 	}
@@ -297,4 +709,19 @@ public MFXLoader setCacheLevel(LoaderCacheLevel cacheLevel) {
 		this.cacheLevel = cacheLevel;
 		return this;
 	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * The result of a load task, see {@link #buildTask(MFXLoaderBean)}.
+	 */
+	private static class LoadResult {
+		private Parent root;
+		private Object controller;
+		private long loadTime;
+		private long prewarmTime;
+		private boolean prewarmed;
+	}
 }
@@ -22,24 +22,30 @@
 import javafx.scene.Parent;
 import javafx.util.Callback;
 
+import java.lang.ref.SoftReference;
 import java.net.URL;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.function.Supplier;
 
 /**
  * Support bean for {@link MFXLoader} to define the properties of a view such as:
  * <p> - An identifier for the view
- * <p> - The FXML file of the view
+ * <p> - The FXML file of the view, or a {@link ViewFactory} which builds it by code
  * <p> - The root node of the FXML (managed by the loader, set once the view is loaded)
  * <p> - The controller factory in case the controller uses parameterized constructors (optional)
  * <p> - A flag to indicate whether this view should be considered the default one (useful for nav-bars/dashboards)
  * <p> - A flag to indicate whether the view has been loaded (managed by the loader, set to true once the view is loaded)
+ * <p> - The names of the views that must be loaded before this one (optional), see {@link #dependsOn(String...)}
  * <p> - A {@link Supplier} function to convert the bean to a {@code Node}. This is useful for example in case you want
  * to implement a view switcher, you could produce a {@code Button} or any node you want that will handle the view switching,
  * for a concrete example you could see the MaterialFX's DemoController (in the demo module).
  * <p></p>
  * The bean also offers a {@link Builder} with fluent api, it's suggested to use that instead of constructors.
  * <p>
- * You can also access the builder with the provided static method {@link #of(String, URL)}.
+ * You can also access the builder with the provided static methods {@link #of(String, URL)} and {@link #of(String, ViewFactory)}.
  */
 public class MFXLoaderBean {
 	//================================================================================
@@ -47,11 +53,20 @@ public class MFXLoaderBean {
 	//================================================================================
 	private final String viewName;
 	private final URL fxmlFile;
-	private Parent root;
+	private ViewFactory viewFactory;
+	private volatile Parent root;
+	private SoftReference<Parent> evictedRoot;
+	private boolean evicted = false;
+	private volatile boolean prewarmed = false;
+	private volatile long loadTime = 0;
+	private volatile long prewarmTime = 0;
+	private volatile Object controller;
+	private MFXLoader loader;
 	private Callback<Class<?>, Object> controllerFactory;
 	private boolean defaultView = false;
 	private boolean loaded = false;
 	private Supplier<Node> beanToNodeMapper;
+	private final Set<String> dependencies = new LinkedHashSet<>();
 
 	//================================================================================
 	// Constructors
@@ -61,6 +76,12 @@ public MFXLoaderBean(String viewName, URL fxmlFile) {
 		this.fxmlFile = fxmlFile;
 	}
 
+	public MFXLoaderBean(String viewName, ViewFactory viewFactory) {
+		this.viewName = viewName;
+		this.fxmlFile = null;
+		this.viewFactory = viewFactory;
+	}
+
 	public MFXLoaderBean(String viewName, URL fxmlFile, Callback<Class<?>, Object> controllerFactory, boolean defaultView, Supplier<Node> beanToNodeMapper) {
 		this.viewName = viewName;
 		this.fxmlFile = fxmlFile;
@@ -76,6 +97,10 @@ public static Builder of(String viewName, URL fxmlFile) {
 		return new Builder(viewName, fxmlFile);
 	}
 
+	public static Builder of(String viewName, ViewFactory viewFactory) {
+		return new Builder(viewName, viewFactory);
+	}
+
 	//================================================================================
 	// Getters/Setters
 	//================================================================================
@@ -95,9 +120,39 @@ public URL getFxmlFile() {
 	}
 
 	/**
+	 * @return the factory used to build the view instead of loading the FXML file, null if not set
+	 */
+	public ViewFactory getViewFactory() {
+		return viewFactory;
+	}
+
+	/**
+	 * Sets the factory used to build the view instead of loading the FXML file.
+	 * When both are specified, the factory has the precedence.
+	 *
+	 * @see ViewFactory
+	 */
+	public MFXLoaderBean setViewFactory(ViewFactory viewFactory) {
+		this.viewFactory = viewFactory;
+		return this;
+	}
+
+	/**
+	 * If the bean has been added to a {@link MFXLoader}, the loader is asked for the root, which allows it to load
+	 * the view on demand and to keep track of the least recently used views, see {@link MFXLoader#setLazy(boolean)}
+	 * and {@link MFXLoader#setMaxLoadedViews(int)}. In such case, this must be called on the JavaFX thread, and if the view
+	 * has to be loaded on demand, the call blocks the JavaFX thread until it is loaded.
+	 *
 	 * @return the FXML file's root node
 	 */
 	public Parent getRoot() {
+		return loader != null ? loader.access(this) : root;
+	}
+
+	/**
+	 * @return the root node as it is, without asking the loader
+	 */
+	Parent peekRoot() {
 		return root;
 	}
 
@@ -111,6 +166,76 @@ MFXLoaderBean setRoot(Parent root) {
 		return this;
 	}
 
+	/**
+	 * @return the view's controller, set once the view is loaded
+	 */
+	public Object getController() {
+		return controller;
+	}
+
+	/**
+	 * Sets the view's controller.
+	 * <p>
+	 * Package private, handled by the loader.
+	 */
+	MFXLoaderBean setController(Object controller) {
+		this.controller = controller;
+		return this;
+	}
+
+	/**
+	 * Sets the loader that manages this view.
+	 * <p>
+	 * Package private, handled by the loader.
+	 */
+	MFXLoaderBean setLoader(MFXLoader loader) {
+		this.loader = loader;
+		return this;
+	}
+
+	/**
+	 * Drops the root node. If the controller implements {@link DisposableController} it is disposed, otherwise
+	 * the root is kept through a {@link SoftReference}, so that it can be restored by {@link #restore()}
+	 * as long as the memory allows it.
+	 * <p>
+	 * Package private, handled by the loader.
+	 */
+	void evict() {
+		if (controller instanceof DisposableController) {
+			((DisposableController) controller).dispose();
+			evictedRoot = null;
+		} else {
+			evictedRoot = new SoftReference<>(root);
+		}
+		root = null;
+		loaded = false;
+		evicted = true;
+	}
+
+	/**
+	 * Attempts at restoring the root node dropped by {@link #evict()}.
+	 * <p>
+	 * Package private, handled by the loader.
+	 *
+	 * @return the restored root or null if it was not available anymore
+	 */
+	Parent restore() {
+		Parent restored = evictedRoot != null ? evictedRoot.get() : null;
+		evictedRoot = null;
+		if (restored != null) {
+			root = restored;
+			setLoaded(true);
+		}
+		return restored;
+	}
+
+	/**
+	 * @return whether the view has been evicted by the loader, see {@link #evict()}
+	 */
+	boolean isEvicted() {
+		return evicted;
+	}
+
 	/**
 	 * @return the callback used to produce the view's controller
 	 */
@@ -155,6 +280,7 @@ public boolean isLoaded() {
 	 */
 	MFXLoaderBean setLoaded(boolean loaded) {
 		this.loaded = loaded;
+		if (loaded) evicted = false;
 		return this;
 	}
 
@@ -173,6 +299,76 @@ public MFXLoaderBean setBeanToNodeMapper(Supplier<Node> beanToNodeMapper) {
 		return this;
 	}
 
+	/**
+	 * @return the time spent by the loader to load the FXML file, the last time the view was loaded
+	 */
+	public Duration getLoadTime() {
+		return Duration.ofNanos(loadTime);
+	}
+
+	/**
+	 * Sets the time spent to load the FXML file, in nanoseconds.
+	 * <p>
+	 * Package private, handled by the loader.
+	 */
+	MFXLoaderBean setLoadTime(long loadTime) {
+		this.loadTime = loadTime;
+		return this;
+	}
+
+	/**
+	 * @return the time spent by the loader to pre-warm the view, the last time it was loaded
+	 * @see MFXLoader#prewarm(Parent)
+	 */
+	public Duration getPrewarmTime() {
+		return Duration.ofNanos(prewarmTime);
+	}
+
+	/**
+	 * Sets the time spent to pre-warm the view, in nanoseconds.
+	 * <p>
+	 * Package private, handled by the loader.
+	 */
+	MFXLoaderBean setPrewarmTime(long prewarmTime) {
+		this.prewarmTime = prewarmTime;
+		return this;
+	}
+
+	/**
+	 * @return whether the view has been pre-warmed in background by the loader
+	 */
+	public boolean isPrewarmed() {
+		return prewarmed;
+	}
+
+	/**
+	 * Sets whether the view has been pre-warmed in background by the loader.
+	 * <p>
+	 * Package private, handled by the loader.
+	 */
+	MFXLoaderBean setPrewarmed(boolean prewarmed) {
+		this.prewarmed = prewarmed;
+		return this;
+	}
+
+	/**
+	 * @return the names of the views that must be loaded before this one
+	 */
+	public Set<String> getDependencies() {
+		return Collections.unmodifiableSet(dependencies);
+	}
+
+	/**
+	 * Specifies the names of the views that must be loaded before this one, for example because this view's
+	 * controller needs a resource initialized by another view's controller.
+	 * <p>
+	 * By default, views have no dependencies, and they are all loaded in parallel by {@link MFXLoader}.
+	 */
+	public MFXLoaderBean dependsOn(String... viewNames) {
+		Collections.addAll(dependencies, viewNames);
+		return this;
+	}
+
 	//================================================================================
 	// Builder
 	//================================================================================
@@ -183,6 +379,15 @@ public Builder(String viewName, URL fxmlFile) {
 			this.bean = new MFXLoaderBean(viewName, fxmlFile);
 		}
 
+		public Builder(String viewName, ViewFactory viewFactory) {
+			this.bean = new MFXLoaderBean(viewName, viewFactory);
+		}
+
+		public Builder setViewFactory(ViewFactory viewFactory) {
+			bean.setViewFactory(viewFactory);
+			return this;
+		}
+
 		public Builder setControllerFactory(Callback<Class<?>, Object> controllerFactory) {
 			bean.setControllerFactory(controllerFactory);
 			return this;
@@ -198,6 +403,11 @@ public Builder setBeanToNodeMapper(Supplier<Node> beanToNodeMapper) {
 			return this;
 		}
 
+		public Builder dependsOn(String... viewNames) {
+			bean.dependsOn(viewNames);
+			return this;
+		}
+
 		public MFXLoaderBean get() {
 			return bean;
 		}
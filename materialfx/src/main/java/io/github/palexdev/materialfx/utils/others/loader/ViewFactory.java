@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.utils.others.loader;
+
+import javafx.event.Event;
+import javafx.event.EventHandler;
+import javafx.fxml.Initializable;
+import javafx.scene.Parent;
+import javafx.util.Callback;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.util.function.Supplier;
+
+/**
+ * Builds a view with code, as a faster alternative to loading an FXML file with an {@link javafx.fxml.FXMLLoader},
+ * which requires XML parsing, reflection-based property setting and expressions evaluation.
+ * <p>
+ * A {@link MFXLoaderBean} can specify a factory instead of an FXML file, see {@link MFXLoaderBean#of(String, ViewFactory)},
+ * and {@link MFXLoader} will use it transparently.
+ * <p></p>
+ * Factories can be written by hand, or generated from existing FXML files by {@link FXMLViewGenerator}. The {@link Helper}
+ * class offers the operations needed by generated factories to deal with controllers, which are the same performed by
+ * the {@link javafx.fxml.FXMLLoader}: fields injection, event handlers and initialization.
+ */
+@FunctionalInterface
+public interface ViewFactory {
+
+	/**
+	 * Builds a new instance of the view.
+	 *
+	 * @param controllerFactory the callback used to produce the view's controller, may be null
+	 *                          (see {@link MFXLoaderBean#getControllerFactory()})
+	 */
+	View create(Callback<Class<?>, Object> controllerFactory) throws Exception;
+
+	/**
+	 * Convenience method to build a factory for views without a controller.
+	 */
+	static ViewFactory of(Supplier<Parent> supplier) {
+		return controllerFactory -> new View(supplier.get(), null);
+	}
+
+	/**
+	 * The result of {@link #create(Callback)}: the view's root node and its controller (may be null).
+	 */
+	class View {
+		private final Parent root;
+		private final Object controller;
+
+		public View(Parent root, Object controller) {
+			this.root = root;
+			this.controller = controller;
+		}
+
+		public Parent getRoot() {
+			return root;
+		}
+
+		public Object getController() {
+			return controller;
+		}
+	}
+
+	class Helper {
+
+		private Helper() {
+		}
+
+		/**
+		 * Creates the controller of the given type by using the given controller factory if not null,
+		 * otherwise by invoking its no-arg constructor.
+		 */
+		@SuppressWarnings("unchecked")
+		public static <T> T controller(Class<T> type, Callback<Class<?>, Object> controllerFactory) throws Exception {
+			if (controllerFactory != null) return (T) controllerFactory.call(type);
+			Constructor<T> constructor = type.getDeclaredConstructor();
+			constructor.setAccessible(true);
+			return constructor.newInstance();
+		}
+
+		/**
+		 * Sets the field with the given name on the controller, the same way {@link javafx.fxml.FXMLLoader} injects
+		 * nodes with an "fx:id". The field is searched in the controller's class hierarchy, and it's ignored if not found.
+		 */
+		public static void inject(Object controller, String fieldName, Object value) {
+			if (controller == null) return;
+			for (Class<?> type = controller.getClass(); type != null; type = type.getSuperclass()) {
+				try {
+					Field field = type.getDeclaredField(fieldName);
+					field.setAccessible(true);
+					field.set(controller, value);
+					return;
+				} catch (NoSuchFieldException ignored) {
+				} catch (IllegalAccessException ex) {
+					throw new RuntimeException(ex);
+				}
+			}
+		}
+
+		/**
+		 * Builds an {@link EventHandler} which invokes the controller's method with the given name,
+		 * the same way {@link javafx.fxml.FXMLLoader} handles attributes like {@code onAction="#handle"}.
+		 * The method may accept the event as its only parameter or no parameters at all.
+		 *
+		 * @throws IllegalArgumentException if the method is not found
+		 */
+		public static <T extends Event> EventHandler<T> handler(Object controller, String methodName) {
+			Method method = findMethod(controller.getClass(), methodName, true);
+			if (method == null) {
+				throw new IllegalArgumentException("Handler method " + methodName + " not found in: " + controller.getClass().getName());
+			}
+			method.setAccessible(true);
+			boolean withEvent = method.getParameterCount() == 1;
+			return event -> {
+				try {
+					if (withEvent) {
+						method.invoke(controller, event);
+					} else {
+						method.invoke(controller);
+					}
+				} catch (Exception ex) {
+					throw new RuntimeException(ex);
+				}
+			};
+		}
+
+		/**
+		 * Initializes the controller, the same way {@link javafx.fxml.FXMLLoader} does: if it implements {@link Initializable}
+		 * then {@link Initializable#initialize(URL, java.util.ResourceBundle)} is invoked, otherwise the no-arg
+		 * "initialize" method, if present.
+		 */
+		public static void initialize(Object controller, URL location) throws Exception {
+			if (controller == null) return;
+			if (controller instanceof Initializable) {
+				((Initializable) controller).initialize(location, null);
+				return;
+			}
+			Method method = findMethod(controller.getClass(), "initialize", false);
+			if (method != null) {
+				method.setAccessible(true);
+				method.invoke(controller);
+			}
+		}
+
+		private static Method findMethod(Class<?> type, String name, boolean allowEvent) {
+			for (Class<?> t = type; t != null; t = t.getSuperclass()) {
+				for (Method method : t.getDeclaredMethods()) {
+					if (!method.getName().equals(name)) continue;
+					if (method.getParameterCount() == 0) return method;
+					if (allowEvent && method.getParameterCount() == 1 && Event.class.isAssignableFrom(method.getParameterTypes()[0])) {
+						return method;
+					}
+				}
+			}
+			return null;
+		}
+	}
+}
@@ -89,4 +89,7 @@
 
 	// Validation Package
 	exports io.github.palexdev.materialfx.validation;
+
+	// Services
+	provides java.net.spi.URLStreamHandlerProvider with io.github.palexdev.materialfx.theming.CSSRegistry.Provider;
 }
\ No newline at end of file
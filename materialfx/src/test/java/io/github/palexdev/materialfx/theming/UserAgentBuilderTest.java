@@ -0,0 +1,252 @@
+/*
+ * Copyright (C) 2023 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX)
+ *
+ * MaterialFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.theming;
+
+import io.github.palexdev.materialfx.theming.base.Theme;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserAgentBuilderTest {
+	@TempDir
+	Path dir;
+	private final List<Theme> themes = new ArrayList<>();
+
+	@AfterEach
+	public void clean() {
+		themes.forEach(Deployer.instance()::clean);
+		UserAgentBuilder.clearFragments();
+	}
+
+	@Test
+	public void commentsAndStrings() throws IOException {
+		Theme theme = theme(
+			"/* header; url(missing.png) { } */\n" +
+			".a {\n" +
+			"\t-fx-text: \"/* not a comment; url(missing.png)\";   \n" +
+			"\t-fx-font-family: 'x;y}';\n" +
+			"}\n" +
+			"\n" +
+			"/* \"not a string */\n" +
+			".b { -fx-opacity: 0.5; } /* trailing */\n"
+		);
+		String expected =
+			".a {\n" +
+			"\t-fx-text: \"/* not a comment; url(missing.png)\";\n" +
+			"\t-fx-font-family: 'x;y}';\n" +
+			"}\n" +
+			"\n" +
+			".b { -fx-opacity: 0.5; }\n" +
+			"\n";
+		assertEquals(expected, process(UserAgentBuilder.builder().setResolveAssets(true), theme));
+	}
+
+	@Test
+	public void importsAreHoisted() throws IOException {
+		Theme first = theme(
+			".a { -fx-opacity: 1; }\n" +
+			"@import \"imports/extra.css\";\n" +
+			"@import url(\"missing.css\");\n" +
+			".b { -fx-opacity: 0; }\n" +
+			"@import url(imports/extra.css);\n",
+			"imports/extra.css", ".extra {}"
+		);
+		Theme second = theme(
+			"@import '../imports/extra.css';\n" +
+			".c { -fx-opacity: 1; }\n",
+			"imports/extra.css", ".extra {}"
+		);
+		String css = UserAgentBuilder.builder()
+			.themes(first, second)
+			.setDeploy(true)
+			.setResolveAssets(true)
+			.build()
+			.toString();
+		String expected =
+			"@import \"" + deployed(first, "imports/extra.css") + "\";\n" +
+			"@import \"" + deployed(second, "imports/extra.css") + "\";\n" +
+			".a { -fx-opacity: 1; }\n" +
+			"\n" +
+			".b { -fx-opacity: 0; }\n" +
+			"\n" +
+			"\n" +
+			".c { -fx-opacity: 1; }\n" +
+			"\n" +
+			"\n";
+		assertEquals(expected, css);
+	}
+
+	@Test
+	public void unresolvedUrlsAreDropped() throws IOException {
+		Theme theme = theme(
+			".a {\n" +
+			"\t-fx-background-image: url(\"images/missing.png\");\n" +
+			"\t-fx-opacity: 0.5;\n" +
+			"}\n" +
+			".b { -fx-background-image: url(images/ok.png); -fx-shape: url( 'nope.svg' ); -fx-opacity: 1; }\n" +
+			".c { -fx-image: url(\"https://example.com/x.png\"); -fx-shape: myurl(x) }\n" +
+			".d { -fx-image: url(missing.png) }\n",
+			"images/ok.png", "png"
+		);
+		String css = process(UserAgentBuilder.builder().setDeploy(true).setResolveAssets(true), theme);
+		String expected =
+			".a {\n" +
+			"\t-fx-opacity: 0.5;\n" +
+			"}\n" +
+			"\n" +
+			".b { -fx-background-image: url(\"" + deployed(theme, "images/ok.png") + "\"); -fx-opacity: 1; }\n" +
+			"\n" +
+			".c { -fx-image: url(\"https://example.com/x.png\"); -fx-shape: myurl(x) }\n" +
+			"\n" +
+			".d {}\n" +
+			"\n";
+		assertEquals(expected, css);
+	}
+
+	@Test
+	public void pruneSelectors() throws IOException {
+		Theme theme = theme(
+			".mfx-button .text, .other .text, .root { -fx-fill: red; }\n" +
+			".other { -fx-fill: blue; }\n" +
+			".mfx-button > .missing:hover, #id.mfx-button { }\n" +
+			"Label.mfx-button, Button .mfx-button { -fx-opacity: 0; }\n" +
+			".mfx-button:selected .text, .mfx-button[a=\"b, c\"] { -fx-fill: green; }\n" +
+			"@font-face { src: url(x.ttf); }\n" +
+			"@media screen { .other { } }\n"
+		);
+
+		// Only the first compound is checked
+		StyleUsage usage = new StyleUsage("mfx-button", "text");
+		String expected =
+			".mfx-button .text,\n" +
+			".root { -fx-fill: red; }\n" +
+			"\n" +
+			".mfx-button > .missing:hover,\n" +
+			"#id.mfx-button { }\n" +
+			"\n" +
+			"Label.mfx-button,\n" +
+			"Button .mfx-button { -fx-opacity: 0; }\n" +
+			"\n" +
+			".mfx-button:selected .text,\n" +
+			".mfx-button[a=\"b, c\"] { -fx-fill: green; }\n" +
+			"\n" +
+			"@font-face { src: url(x.ttf); }\n" +
+			"\n" +
+			"@media screen { .other { } }\n" +
+			"\n";
+		assertEquals(expected, process(UserAgentBuilder.builder().setUsage(usage), theme));
+
+		// Every compound is checked, types only once at least one has been added
+		usage.setStrict(true);
+		expected = expected.replace(".mfx-button > .missing:hover,\n", "");
+		assertEquals(expected, process(UserAgentBuilder.builder().setUsage(usage), theme));
+
+		usage.addTypes("Label");
+		expected = expected.replace("Label.mfx-button,\nButton .mfx-button", "Label.mfx-button");
+		assertEquals(expected, process(UserAgentBuilder.builder().setUsage(usage), theme));
+
+		usage.setStrict(false);
+		assertFalse(usage.canMatch("Button .mfx-button"));
+		assertTrue(usage.canMatch(".mfx-button .missing"));
+		assertFalse(usage.canMatch(".other .text"));
+	}
+
+	//================================================================================
+	// Helpers
+	//================================================================================
+
+	private String process(UserAgentBuilder builder, Theme theme) {
+		return builder.process(theme).getCss();
+	}
+
+	/**
+	 * @return the URI of the given theme's deployed asset
+	 */
+	private String deployed(Theme theme, String name) {
+		return Deployer.instance().getDeployed(theme).get(name).toUri().toString();
+	}
+
+	/**
+	 * Creates a theme for the given stylesheet, whose assets are the given files (name, content pairs).
+	 */
+	private Theme theme(String css, String... assets) throws IOException {
+		Path file = Files.createTempFile(dir, "theme", ".css");
+		Files.writeString(file, css, StandardCharsets.UTF_8);
+		byte[] zip = zip(assets);
+		String name = "uab-test-" + UUID.randomUUID();
+		Theme theme = new Theme() {
+			@Override
+			public String name() {
+				return name;
+			}
+
+			@Override
+			public String path() {
+				return file.toString();
+			}
+
+			@Override
+			public URL get() {
+				try {
+					return file.toUri().toURL();
+				} catch (MalformedURLException ex) {
+					throw new UncheckedIOException(ex);
+				}
+			}
+
+			@Override
+			public InputStream assets() {
+				return zip != null ? new ByteArrayInputStream(zip) : null;
+			}
+		};
+		themes.add(theme);
+		return theme;
+	}
+
+	private byte[] zip(String... assets) throws IOException {
+		if (assets.length == 0) return null;
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (ZipOutputStream zos = new ZipOutputStream(baos)) {
+			for (int i = 0; i < assets.length; i += 2) {
+				zos.putNextEntry(new ZipEntry(assets[i]));
+				zos.write(assets[i + 1].getBytes(StandardCharsets.UTF_8));
+				zos.closeEntry();
+			}
+		}
+		return baos.toByteArray();
+	}
+}
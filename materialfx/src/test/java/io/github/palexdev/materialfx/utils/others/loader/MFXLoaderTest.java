@@ -0,0 +1,254 @@
+/*
+ * Copyright (C) 2023 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX)
+ *
+ * MaterialFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.utils.others.loader;
+
+import io.github.palexdev.materialfx.enums.LoaderCacheLevel;
+import io.github.palexdev.materialfx.utils.others.loader.ViewFactory.View;
+import javafx.application.Platform;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MFXLoaderTest {
+
+	@BeforeAll
+	public static void startFx() throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(1);
+		try {
+			Platform.startup(latch::countDown);
+		} catch (IllegalStateException ex) {
+			latch.countDown();
+		}
+		Platform.setImplicitExit(false);
+		assertTrue(latch.await(10, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void cyclesAreDetectedBeforeSubmitting() throws Exception {
+		Counter counter = new Counter();
+		MFXLoader loader = new MFXLoader()
+			.addView(MFXLoaderBean.of("independent", counter.factory("independent")).get())
+			.addView(MFXLoaderBean.of("a", counter.factory("a")).dependsOn("b").get())
+			.addView(MFXLoaderBean.of("b", counter.factory("b")).dependsOn("c").get())
+			.addView(MFXLoaderBean.of("c", counter.factory("c")).dependsOn("a").get());
+		AtomicInteger submitted = new AtomicInteger();
+		IllegalStateException ex = assertThrows(IllegalStateException.class, () -> loader.startWith(task -> {
+			submitted.incrementAndGet();
+			task.run();
+		}));
+		assertTrue(ex.getMessage().contains("Circular dependency"), ex.getMessage());
+		assertEquals(0, submitted.get());
+		assertTrue(counter.created.isEmpty());
+
+		// On demand, the cycle is detected by loadNow()
+		loader.setLazy(true);
+		fx(() -> {
+			IllegalStateException lazyEx = assertThrows(IllegalStateException.class, () -> loader.getView("a").getRoot());
+			assertEquals("View a requested while being loaded: a -> b -> c -> a", lazyEx.getMessage());
+			return null;
+		});
+		assertTrue(counter.created.isEmpty());
+	}
+
+	@Test
+	public void dependenciesAreLoadedFirst() throws Exception {
+		Counter counter = new Counter();
+		MFXLoader loader = new MFXLoader()
+			.addView(MFXLoaderBean.of("main", counter.factory("main", "menu", "header")).dependsOn("menu", "header").get())
+			.addView(MFXLoaderBean.of("menu", counter.factory("menu", "header")).dependsOn("header").get())
+			.addView(MFXLoaderBean.of("header", counter.slowFactory("header")).get())
+			.addView(MFXLoaderBean.of("other", counter.factory("other")).get())
+			.setCacheLevel(LoaderCacheLevel.NONE);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<MFXLoaderBean> beans = loader.startWith(executor).get(10, TimeUnit.SECONDS);
+			assertEquals(4, beans.size());
+			beans.forEach(bean -> assertTrue(bean.isLoaded(), bean.getViewName()));
+		} finally {
+			executor.shutdown();
+		}
+		assertTrue(counter.violations.isEmpty(), counter.violations.toString());
+		assertEquals(Set.of("main", "menu", "header", "other"), new HashSet<>(counter.created));
+		assertTrue(counter.created.indexOf("header") < counter.created.indexOf("menu"));
+		assertTrue(counter.created.indexOf("menu") < counter.created.indexOf("main"));
+
+		// On demand, the dependencies are loaded before the view
+		Counter lazyCounter = new Counter();
+		MFXLoader lazy = new MFXLoader()
+			.addView(MFXLoaderBean.of("main", lazyCounter.factory("main", "menu")).dependsOn("menu").get())
+			.addView(MFXLoaderBean.of("menu", lazyCounter.factory("menu")).get())
+			.setCacheLevel(LoaderCacheLevel.NONE)
+			.setLazy(true);
+		fx(() -> lazy.getView("main").getRoot());
+		assertEquals(List.of("menu", "main"), lazyCounter.created);
+		assertTrue(lazyCounter.violations.isEmpty(), lazyCounter.violations.toString());
+	}
+
+	@Test
+	public void evictionSkipsShowingViews() throws Exception {
+		Counter counter = new Counter();
+		MFXLoader loader = new MFXLoader()
+			.addView("a", counter.factory("a"))
+			.addView("b", counter.factory("b"))
+			.addView("c", counter.factory("c"))
+			.setCacheLevel(LoaderCacheLevel.NONE)
+			.setLazy(true)
+			.setMaxLoadedViews(1);
+		MFXLoaderBean a = loader.getView("a");
+		MFXLoaderBean b = loader.getView("b");
+		MFXLoaderBean c = loader.getView("c");
+
+		Parent rootA = fx(a::getRoot);
+		Stage stage = fx(() -> {
+			Stage s = new Stage();
+			s.setScene(new Scene(rootA));
+			s.show();
+			return s;
+		});
+
+		// "a" is showing, so it's kept even if the limit is exceeded
+		fx(b::getRoot);
+		assertFalse(a.isEvicted());
+		assertSame(rootA, a.peekRoot());
+		assertTrue(b.isLoaded());
+
+		// Once hidden, the least recently used views are evicted
+		fx(() -> {
+			stage.hide();
+			stage.setScene(null);
+			return c.getRoot();
+		});
+		assertTrue(a.isEvicted());
+		assertTrue(b.isEvicted());
+		assertFalse(a.isLoaded());
+		assertNull(a.peekRoot());
+		assertTrue(c.isLoaded());
+
+		// Not disposable, the root is restored rather than loaded again
+		assertSame(rootA, fx(a::getRoot));
+		assertTrue(a.isLoaded());
+		assertFalse(a.isEvicted());
+		assertTrue(c.isEvicted());
+		assertEquals(List.of("a", "b", "c"), counter.created);
+	}
+
+	@Test
+	public void disposableControllersAreReloaded() throws Exception {
+		Counter counter = new Counter();
+		MFXLoader loader = new MFXLoader()
+			.addView("a", counter.disposableFactory("a"))
+			.addView("b", counter.disposableFactory("b"))
+			.setCacheLevel(LoaderCacheLevel.NONE)
+			.setLazy(true)
+			.setMaxLoadedViews(1);
+		MFXLoaderBean a = loader.getView("a");
+		MFXLoaderBean b = loader.getView("b");
+
+		Parent first = fx(a::getRoot);
+		Controller firstController = (Controller) a.getController();
+		assertFalse(firstController.disposed);
+
+		fx(b::getRoot);
+		assertTrue(firstController.disposed);
+		assertTrue(a.isEvicted());
+		assertNull(a.peekRoot());
+
+		Parent second = fx(a::getRoot);
+		Controller secondController = (Controller) a.getController();
+		assertNotSame(first, second);
+		assertNotSame(firstController, secondController);
+		assertFalse(secondController.disposed);
+		assertTrue(((Controller) b.getController()).disposed);
+		assertEquals(List.of("a", "b", "a"), counter.created);
+	}
+
+	//================================================================================
+	// Helpers
+	//================================================================================
+
+	/**
+	 * Runs the given task on the JavaFX thread and waits for its result. Errors and exceptions thrown by the task
+	 * are re-thrown as they are.
+	 */
+	private static <V> V fx(Callable<V> task) throws Exception {
+		FutureTask<V> future = new FutureTask<>(task);
+		Platform.runLater(future);
+		try {
+			return future.get(10, TimeUnit.SECONDS);
+		} catch (ExecutionException ex) {
+			if (ex.getCause() instanceof Error) throw (Error) ex.getCause();
+			throw (Exception) ex.getCause();
+		}
+	}
+
+	/**
+	 * Builds view factories which record the order in which views are created.
+	 */
+	private static class Counter {
+		private final List<String> created = Collections.synchronizedList(new ArrayList<>());
+		private final List<String> violations = Collections.synchronizedList(new ArrayList<>());
+
+		/**
+		 * @param dependencies the views that must have been created before this one
+		 */
+		ViewFactory factory(String name, String... dependencies) {
+			return controllerFactory -> {
+				for (String dependency : dependencies) {
+					if (!created.contains(dependency)) violations.add(name + " created before " + dependency);
+				}
+				created.add(name);
+				return new View(new StackPane(), null);
+			};
+		}
+
+		ViewFactory slowFactory(String name) {
+			return controllerFactory -> {
+				Thread.sleep(100);
+				created.add(name);
+				return new View(new StackPane(), null);
+			};
+		}
+
+		ViewFactory disposableFactory(String name) {
+			return controllerFactory -> {
+				created.add(name);
+				return new View(new StackPane(), new Controller());
+			};
+		}
+	}
+
+	private static class Controller implements DisposableController {
+		private boolean disposed = false;
+
+		@Override
+		public void dispose() {
+			assertTrue(Platform.isFxApplicationThread());
+			disposed = true;
+		}
+	}
+}